@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 import org.jboss.as.cli.CommandContext.Scope;
+import org.jboss.as.cli.impl.CLIModelControllerClient;
 
 import org.jboss.as.cli.operation.OperationFormatException;
 import org.jboss.as.cli.operation.OperationRequestAddress;
@@ -69,6 +70,7 @@ public class Util {
     public static final String ALLOW_RESOURCE_SERVICE_RESTART = "allow-resource-service-restart";
     public static final String ARCHIVE = "archive";
     public static final String ATTRIBUTES = "attributes";
+    public static final String ATTRIBUTES_ONLY = "attributes-only";
     public static final String BLOCKING_TIMEOUT = "blocking-timeout";
     public static final String BYTES = "bytes";
     public static final String CHILDREN = "children";
@@ -108,6 +110,9 @@ public class Util {
     public static final String INSTALLED_DRIVERS_LIST = "installed-drivers-list";
     public static final String LOCAL_HOST_NAME = "local-host-name";
     public static final String MANAGEMENT_CLIENT_CONTENT = "management-client-content";
+    public static final String MANAGEMENT_MAJOR_VERSION = "management-major-version";
+    public static final String MANAGEMENT_MICRO_VERSION = "management-micro-version";
+    public static final String MANAGEMENT_MINOR_VERSION = "management-minor-version";
     public static final String MASTER = "master";
     public static final String MAX_FAILED_SERVERS = "max-failed-servers";
     public static final String MAX_FAILURE_PERCENTAGE = "max-failure-percentage";
@@ -1139,6 +1144,14 @@ public class Util {
         return buf.toString();
     }
 
+    private static ModelNode toOperationDescriptionRequest(ModelNode request) {
+        final ModelNode opDescrReq = new ModelNode();
+        opDescrReq.get(Util.ADDRESS).set(request.get(Util.ADDRESS));
+        opDescrReq.get(Util.OPERATION).set(Util.READ_OPERATION_DESCRIPTION);
+        opDescrReq.get(Util.NAME).set(request.get(Util.OPERATION).asString());
+        return opDescrReq;
+    }
+
     private static ModelNode retrieveDescription(CommandContext ctx,
             ModelNode request) throws CommandFormatException {
         final ModelControllerClient client = ctx.getModelControllerClient();
@@ -1151,17 +1164,10 @@ public class Util {
         if (!keys.contains(Util.OPERATION)) {
             throw new CommandFormatException("Request is missing the operation name.");
         }
-        final String operationName = request.get(Util.OPERATION).asString();
-
         if (!keys.contains(Util.ADDRESS)) {
             throw new CommandFormatException("Request is missing the address part.");
         }
-        final ModelNode address = request.get(Util.ADDRESS);
-
-        final ModelNode opDescrReq = new ModelNode();
-        opDescrReq.get(Util.ADDRESS).set(address);
-        opDescrReq.get(Util.OPERATION).set(Util.READ_OPERATION_DESCRIPTION);
-        opDescrReq.get(Util.NAME).set(operationName);
+        final ModelNode opDescrReq = toOperationDescriptionRequest(request);
 
         final ModelNode outcome;
         try {
@@ -1188,10 +1194,31 @@ public class Util {
             outcome = retrieveDescription(ctx, request);
             if (outcome == null) {
                 return null;
-            } else {
-                ctx.set(Scope.REQUEST, DESCRIPTION_RESPONSE, outcome);
             }
+            try {
+                validateProperties(request, outcome);
+            } catch (CommandFormatException e) {
+                // The description may have been cached for a sibling resource with a different registration
+                final ModelControllerClient client = ctx.getModelControllerClient();
+                if (!(client instanceof CLIModelControllerClient)
+                        || !((CLIModelControllerClient) client).evictDescription(toOperationDescriptionRequest(request))) {
+                    throw e;
+                }
+                outcome = retrieveDescription(ctx, request);
+                if (outcome == null) {
+                    return null;
+                }
+                validateProperties(request, outcome);
+            }
+            ctx.set(Scope.REQUEST, DESCRIPTION_RESPONSE, outcome);
+        } else {
+            validateProperties(request, outcome);
         }
+        return outcome;
+    }
+
+    private static void validateProperties(ModelNode request, ModelNode outcome) throws CommandFormatException {
+        final Set<String> keys = request.keys();
         if(!outcome.has(Util.RESULT)) {
             throw new CommandFormatException("Failed to perform " + Util.READ_OPERATION_DESCRIPTION + " to validate the request: result is not available.");
         }
@@ -1218,7 +1245,6 @@ public class Util {
                 }
             }
         }
-        return outcome;
     }
 
     // For any request params that are of type BYTES, replace the file path with the bytes from the file
@@ -43,6 +43,7 @@ import org.jboss.as.cli.CommandLineException;
 import org.jboss.as.cli.ControllerAddress;
 import org.jboss.as.cli.Util;
 import org.jboss.as.cli.impl.ModelControllerClientFactory.ConnectionCloseHandler;
+import org.jboss.as.controller.client.Operation;
 import org.jboss.as.controller.client.impl.AbstractModelControllerClient;
 import org.jboss.as.protocol.ProtocolChannelClient;
 import org.jboss.as.protocol.ProtocolTimeoutHandler;
@@ -124,6 +125,7 @@ public class CLIModelControllerClient extends AbstractModelControllerClient {
     private ManagementClientChannelStrategy strategy;
     private final ProtocolChannelClient.Configuration channelConfig;
     private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private volatile ResourceDescriptionCache descriptionCache;
 
     CLIModelControllerClient(final ControllerAddress address, CallbackHandler handler, int connectionTimeout,
             final ConnectionCloseHandler closeHandler, Map<String, String> saslOptions, SSLContext sslContext,
@@ -221,6 +223,50 @@ public class CLIModelControllerClient extends AbstractModelControllerClient {
         }
     }
 
+    void setDescriptionCache(ResourceDescriptionCache descriptionCache) {
+        this.descriptionCache = descriptionCache;
+    }
+
+    ResourceDescriptionCache getDescriptionCache() {
+        return descriptionCache;
+    }
+
+    /**
+     * Removes the cached response to a description request.
+     *
+     * @param request  the description request
+     * @return whether there was a cached response
+     */
+    public boolean evictDescription(ModelNode request) {
+        final ResourceDescriptionCache cache = descriptionCache;
+        return cache != null && cache.evict(request);
+    }
+
+    @Override
+    public ModelNode execute(ModelNode operation) throws IOException {
+        final ResourceDescriptionCache cache = descriptionCache;
+        if (cache == null) {
+            return super.execute(operation);
+        }
+        final ModelNode cached = cache.get(operation);
+        if (cached != null) {
+            return cached;
+        }
+        final ModelNode response = super.execute(operation);
+        cache.update(operation, response);
+        return response;
+    }
+
+    @Override
+    public ModelNode execute(Operation operation) throws IOException {
+        final ModelNode response = super.execute(operation);
+        final ResourceDescriptionCache cache = descriptionCache;
+        if (cache != null) {
+            cache.update(operation.getOperation(), response);
+        }
+        return response;
+    }
+
     public ModelNode execute(ModelNode operation, boolean awaitClose) throws IOException {
         final ModelNode response = super.execute(operation);
         if(!Util.isSuccess(response)) {
@@ -60,6 +60,7 @@ public class CliLauncher {
             boolean connect = false;
             boolean version = false;
             int connectionTimeout = -1;
+            int pipelineSize = -1;
 
             final CommandContextConfiguration.Builder ctxBuilder = new CommandContextConfiguration.Builder();
             ctxBuilder.setErrorOnInteract(errorOnInteract);
@@ -177,6 +178,26 @@ public class CliLauncher {
                         argError = "'=' is missing after --timeout";
                         break;
                     }
+                } else if (arg.startsWith("--pipeline-size")) {
+                    if (pipelineSize > 0) {
+                        argError = "Duplicate argument '--pipeline-size'";
+                        break;
+                    }
+                    if(arg.length() > 15 && arg.charAt(15) == '=') {
+                        final String value = arg.substring(16);
+                        try {
+                            pipelineSize = Integer.parseInt(value);
+                        } catch (final NumberFormatException e) {
+                            //
+                        }
+                        if (pipelineSize <= 0) {
+                            argError = "The pipeline size must be a valid positive integer: '" + value + "'";
+                            break;
+                        }
+                    } else {
+                        argError = "'=' is missing after --pipeline-size";
+                        break;
+                    }
                 } else if(arg.startsWith("--bind=")) {
                     ctxBuilder.setClientBindAddress(arg.substring(7));
                 } else if (arg.equals("--help") || arg.equals("-h")) {
@@ -243,6 +264,10 @@ public class CliLauncher {
                 argError = "--error-on-interact function is only available in non-interactive mode, using --file or --command(s).";
             }
 
+            if(pipelineSize > 0 && file == null) {
+                argError = "--pipeline-size is only available when executing a script using --file.";
+            }
+
             ctxBuilder.setConnectionTimeout(connectionTimeout);
 
             if(argError != null) {
@@ -259,7 +284,11 @@ public class CliLauncher {
 
             if(file != null) {
                 cmdCtx = initCommandContext(ctxBuilder.build(), connect);
-                processFile(file, cmdCtx);
+                if(pipelineSize > 0) {
+                    processFile(file, cmdCtx, pipelineSize);
+                } else {
+                    processFile(file, cmdCtx);
+                }
                 return;
             }
 
@@ -341,6 +370,19 @@ public class CliLauncher {
         }
     }
 
+    private static void processFile(File file, final CommandContext cmdCtx, int pipelineSize) {
+
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new FileReader(file));
+            new PipelinedScriptProcessor(cmdCtx, pipelineSize).process(reader);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to process file '" + file.getAbsolutePath() + "'", e);
+        } finally {
+            StreamUtils.safeClose(reader);
+        }
+    }
+
     private static final String JBOSS_CLI_RC_PROPERTY = "jboss.cli.rc";
     private static final String CURRENT_WORKING_DIRECTORY = "user.dir";
     private static final String JBOSS_CLI_RC_FILE = ".jbossclirc";
@@ -1099,6 +1099,10 @@ class CommandContextImpl implements CommandContext, ModelControllerClientFactory
             List<String> nodeTypes = Util.getNodeTypes(newClient, new DefaultOperationRequestAddress());
             domainMode = nodeTypes.contains(Util.SERVER_GROUP);
 
+            if (newClient instanceof CLIModelControllerClient && ResourceDescriptionCache.isEnabled()) {
+                ((CLIModelControllerClient) newClient).setDescriptionCache(ResourceDescriptionCache.create(newClient));
+            }
+
             try {
                 extLoader.loadHandlers(currentAddress);
             } catch (CommandLineException e) {
@@ -1253,6 +1257,12 @@ class CommandContextImpl implements CommandContext, ModelControllerClientFactory
     @Override
     public void disconnectController() {
         if (this.client != null) {
+            if (client instanceof CLIModelControllerClient) {
+                final ResourceDescriptionCache descriptionCache = ((CLIModelControllerClient) client).getDescriptionCache();
+                if (descriptionCache != null) {
+                    descriptionCache.store();
+                }
+            }
             StreamUtils.safeClose(client);
             // if(loggingEnabled) {
             // printLine("Closed connection to " + this.controllerHost + ':' +
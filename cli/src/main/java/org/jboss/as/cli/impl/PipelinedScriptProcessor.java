@@ -0,0 +1,265 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.cli.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.cli.CommandContext;
+import org.jboss.as.cli.CommandContext.Scope;
+import org.jboss.as.cli.CommandFormatException;
+import org.jboss.as.cli.CommandLineException;
+import org.jboss.as.cli.Util;
+import org.jboss.as.cli.operation.impl.DefaultCallbackHandler;
+import org.jboss.as.cli.parsing.operation.OperationFormat;
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+import org.jboss.logging.Logger;
+
+/**
+ * Executes a script, sending consecutive operation requests to the controller as composite operations instead of
+ * one request per line.
+ * <p>
+ * Commands, operations with headers or output redirection, {@code reload} and {@code shutdown}, and everything in
+ * batch or workflow (if/try) mode are executed one at a time as usual, after the operations queued before them.
+ * If a composite operation fails, it has been rolled back as a whole, so its lines are replayed one at a time. This
+ * reports the failure against the line that caused it and leaves the lines before it applied, exactly as running the
+ * script line by line would. If the connection is lost once a composite operation has been sent, whether it was
+ * applied is unknown, so the script stops instead.
+ * <p>
+ * Requests are validated against the operation description once per distinct address and operation.
+ *
+ * @see CliLauncher
+ */
+class PipelinedScriptProcessor {
+
+    private static final Logger log = Logger.getLogger(PipelinedScriptProcessor.class);
+
+    private final CommandContext ctx;
+    private final int maxSteps;
+    private final List<String> pendingLines = new ArrayList<>();
+    private final List<ModelNode> pendingRequests = new ArrayList<>();
+    // read-operation-description outcomes used for validation, keyed by address and operation name
+    private final Map<String, ModelNode> descriptions = new HashMap<>();
+    private StringBuilder lineBuffer;
+
+    private int operations;
+    private int standalone;
+    private int composites;
+    private int replayed;
+
+    PipelinedScriptProcessor(CommandContext ctx, int maxSteps) {
+        if (maxSteps < 1) {
+            throw new IllegalArgumentException("The number of operations per request must be positive: " + maxSteps);
+        }
+        this.ctx = ctx;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Executes the script.
+     *
+     * @param reader the script
+     * @throws IOException if the script cannot be read, or the connection was lost while a composite operation was
+     *                     being executed
+     */
+    void process(BufferedReader reader) throws IOException {
+        final long start = System.nanoTime();
+        String line = reader.readLine();
+        while (ctx.getExitCode() == 0 && !ctx.isTerminated() && line != null) {
+            handle(line.trim());
+            line = reader.readLine();
+        }
+        if (ctx.getExitCode() == 0 && !ctx.isTerminated()) {
+            flush();
+        }
+        ctx.printLine("Executed " + operations + " operations in " + composites + " composite requests ("
+                + replayed + " replayed line by line) and " + standalone + " lines on their own in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    private void handle(String line) throws IOException {
+        if (line.isEmpty() || line.charAt(0) == '#') {
+            return;
+        }
+        // Lines continued with a trailing backslash are joined the way CommandContextImpl does it
+        if (line.charAt(line.length() - 1) == '\\') {
+            if (lineBuffer == null) {
+                lineBuffer = new StringBuilder();
+            }
+            lineBuffer.append(line, 0, line.length() - 1).append(' ');
+            return;
+        } else if (lineBuffer != null) {
+            line = lineBuffer.append(line).toString();
+            lineBuffer = null;
+        }
+
+        final ModelNode request = toPipelinedRequest(line);
+        if (request == null) {
+            flush();
+            if (ctx.getExitCode() == 0) {
+                ++standalone;
+                ctx.handleSafe(line);
+            }
+            return;
+        }
+        pendingLines.add(line);
+        pendingRequests.add(request);
+        ++operations;
+        if (pendingRequests.size() >= maxSteps) {
+            flush();
+        }
+    }
+
+    /**
+     * Parses the line and returns the request if it can be added to a composite operation.
+     *
+     * @return the request or {@code null} if the line has to be executed on its own
+     */
+    private ModelNode toPipelinedRequest(String line) {
+        if (ctx.isBatchMode() || ctx.isWorkflowMode() || ctx.getModelControllerClient() == null) {
+            return null;
+        }
+        final DefaultCallbackHandler parsedLine = new DefaultCallbackHandler();
+        try {
+            parsedLine.parse(ctx.getCurrentNodePath(), line, ctx);
+            if (parsedLine.getFormat() != OperationFormat.INSTANCE
+                    || parsedLine.hasHeaders()
+                    || parsedLine.getOutputTarget() != null
+                    || Util.RELOAD.equals(parsedLine.getOperationName())
+                    || Util.SHUTDOWN.equals(parsedLine.getOperationName())) {
+                return null;
+            }
+            final ModelNode request = parsedLine.toOperationRequest(ctx);
+            if (isExtensionChange(request)) {
+                // The following operations may be described differently once it is applied
+                descriptions.clear();
+            }
+            if (ctx.getConfig().isValidateOperationRequests()) {
+                // Validation reads the description of the target resource, which may be added by a queued
+                // operation. If it fails the line is executed on its own once the queue has been flushed.
+                final String descriptionKey = request.get(Util.ADDRESS).asString() + request.get(Util.OPERATION).asString();
+                final ModelNode description = descriptions.get(descriptionKey);
+                if (description != null) {
+                    // Util.validateRequest uses the description of the request scope rather than reading it again
+                    ctx.set(Scope.REQUEST, Util.DESCRIPTION_RESPONSE, description);
+                }
+                final ModelNode opDescOutcome = Util.validateRequest(ctx, request);
+                if (opDescOutcome != null) {
+                    descriptions.put(descriptionKey, opDescOutcome);
+                    Util.replaceFilePathsWithBytes(request, opDescOutcome);
+                }
+            }
+            return request;
+        } catch (CommandFormatException e) {
+            log.debugf(e, "Executing '%s' on its own", line);
+            return null;
+        } finally {
+            ctx.clear(Scope.REQUEST);
+        }
+    }
+
+    private static boolean isExtensionChange(ModelNode request) {
+        final String operation = request.get(Util.OPERATION).asString();
+        if (!Util.ADD.equals(operation) && !Util.REMOVE.equals(operation) || !request.hasDefined(Util.ADDRESS)) {
+            return false;
+        }
+        final List<Property> address = request.get(Util.ADDRESS).asPropertyList();
+        return !address.isEmpty() && Util.EXTENSION.equals(address.get(0).getName());
+    }
+
+    private void flush() throws IOException {
+        if (pendingRequests.isEmpty()) {
+            return;
+        }
+        try {
+            if (pendingRequests.size() == 1) {
+                // No point in wrapping a single operation
+                ctx.handleSafe(pendingLines.get(0));
+                return;
+            }
+            final ModelNode composite = new ModelNode();
+            composite.get(Util.OPERATION).set(Util.COMPOSITE);
+            composite.get(Util.ADDRESS).setEmptyList();
+            final ModelNode steps = composite.get(Util.STEPS);
+            for (ModelNode request : pendingRequests) {
+                steps.add(request);
+            }
+            ++composites;
+            final ModelControllerClient client = ctx.getModelControllerClient();
+            if (client instanceof CLIModelControllerClient) {
+                try {
+                    ((CLIModelControllerClient) client).ensureConnected(ctx.getConfig().getConnectionTimeout());
+                } catch (CommandLineException e) {
+                    // Nothing has been sent, so running the lines on their own reports the error as usual
+                    log.debugf(e, "Failed to connect to execute a composite of %d operations", pendingRequests.size());
+                    replay();
+                    return;
+                }
+            }
+            final ModelNode response;
+            try {
+                response = client.execute(composite);
+            } catch (IOException e) {
+                ctx.disconnectController();
+                // The composite may have been applied, replaying its lines could apply them twice
+                throw new IOException("The connection was lost while executing the operations from '" + pendingLines.get(0)
+                        + "' to '" + pendingLines.get(pendingLines.size() - 1) + "'; it is unknown whether they were applied", e);
+            }
+            if (Util.isSuccess(response)) {
+                final ModelNode results = response.get(Util.RESULT);
+                for (int i = 1; i <= pendingRequests.size(); ++i) {
+                    final ModelNode result = results.get("step-" + i);
+                    if (i == pendingRequests.size() && response.hasDefined(Util.RESPONSE_HEADERS)) {
+                        // Headers such as the process state describe the state after the last operation
+                        result.get(Util.RESPONSE_HEADERS).set(response.get(Util.RESPONSE_HEADERS));
+                    }
+                    ctx.printLine(result.toString());
+                }
+            } else {
+                replay();
+            }
+        } finally {
+            pendingLines.clear();
+            pendingRequests.clear();
+        }
+    }
+
+    /**
+     * Executes the pending lines one at a time, stopping at the first failure.
+     */
+    private void replay() {
+        replayed += pendingLines.size();
+        for (String line : pendingLines) {
+            ctx.handleSafe(line);
+            if (ctx.getExitCode() != 0 || ctx.isTerminated()) {
+                break;
+            }
+        }
+    }
+}
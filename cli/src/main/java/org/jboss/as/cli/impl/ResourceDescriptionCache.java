@@ -0,0 +1,400 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.cli.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.as.cli.Util;
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+import org.jboss.logging.Logger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Client side cache of the {@code read-resource-description} and {@code read-operation-description} responses,
+ * used by tab-completion and request validation.
+ * <p>
+ * Descriptions are cached for the concrete address they were read for. A description also serves the siblings of
+ * that resource once a description of the parent has shown that the resource type is registered with a wildcard,
+ * e.g. {@code data-source=*}, and that the sibling has no registration of its own. {@code host} and {@code server}
+ * names are always kept since those resources are proxies to processes that may be running different versions. The
+ * cache is persisted under the user's home directory, in a file named after the product version, the management model
+ * version and the installed extensions of the controller.
+ * <p>
+ * The cache is dropped when an extension is added or removed through the client, and an entry is evicted when the
+ * description it holds rejects a request. The cache is only used when the {@code jboss.cli.description-cache} system
+ * property is set to {@code true}.
+ */
+final class ResourceDescriptionCache {
+
+    private static final Logger log = Logger.getLogger(ResourceDescriptionCache.class);
+
+    static final String ENABLED_PROPERTY = "jboss.cli.description-cache";
+    private static final String CACHE_DIR = ".jboss-cli-description-cache";
+
+    private static final Set<String> CACHED_OPERATIONS = new HashSet<>(Arrays.asList(Util.READ_RESOURCE_DESCRIPTION,
+            Util.READ_OPERATION_DESCRIPTION));
+    private static final Set<String> NAMED_TYPES = new HashSet<>(Arrays.asList(Util.HOST, Util.SERVER));
+    // Requests whose result depends on the identity of the caller
+    private static final String ACCESS_CONTROL = "access-control";
+    private static final String MODEL_DESCRIPTION = "model-description";
+    private static final String WILDCARD = "*";
+    // Persisted along with the entries, whose keys all start with an operation name
+    private static final String WILDCARD_REGISTRATIONS = "wildcard-registrations";
+
+    private final File file;
+    private final ConcurrentMap<String, ModelNode> entries = new ConcurrentHashMap<>();
+    // The resource types registered with a wildcard, keyed by the address template of the type, e.g.
+    // /subsystem=datasources/data-source, mapped to the names that have a registration of their own
+    private final ConcurrentMap<String, Set<String>> wildcardRegistrations = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    ResourceDescriptionCache(File file) {
+        this.file = file;
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+    }
+
+    /**
+     * Creates the cache for the controller the client is connected to and loads the entries persisted
+     * by previous sessions.
+     */
+    static ResourceDescriptionCache create(ModelControllerClient client) {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(getCacheFile(client));
+        cache.load();
+        return cache;
+    }
+
+    ModelNode get(ModelNode request) {
+        final String key = toKey(request, false);
+        if (key == null) {
+            return null;
+        }
+        ModelNode response = entries.get(key);
+        if (response == null) {
+            final String templateKey = toKey(request, true);
+            if (templateKey != null) {
+                response = entries.get(templateKey);
+            }
+        }
+        return response == null ? null : response.clone();
+    }
+
+    /**
+     * Records the response to a request executed by the client.
+     */
+    void update(ModelNode request, ModelNode response) {
+        if (changesRegistrations(request)) {
+            if (!entries.isEmpty() || !wildcardRegistrations.isEmpty()) {
+                entries.clear();
+                wildcardRegistrations.clear();
+                modified = true;
+            }
+            return;
+        }
+        final String key = toKey(request, false);
+        if (key != null && Util.isSuccess(response)) {
+            if (Util.READ_RESOURCE_DESCRIPTION.equals(request.get(Util.OPERATION).asString())) {
+                final List<Property> address = request.hasDefined(Util.ADDRESS) ? request.get(Util.ADDRESS).asPropertyList()
+                        : Collections.<Property>emptyList();
+                learnWildcardRegistrations(toTemplate(address, address.size()), response.get(Util.RESULT));
+            }
+            entries.put(key, response.clone());
+            final String templateKey = toKey(request, true);
+            if (templateKey != null) {
+                entries.put(templateKey, response.clone());
+            }
+            modified = true;
+        }
+    }
+
+    /**
+     * Records the resource types a resource description shows to be registered with a wildcard, including those in
+     * the descriptions of its children if it is recursive.
+     *
+     * @param template the address template of the described resource
+     * @param description the resource description
+     */
+    private void learnWildcardRegistrations(String template, ModelNode description) {
+        if (!description.hasDefined(Util.CHILDREN)) {
+            return;
+        }
+        for (Property child : description.get(Util.CHILDREN).asPropertyList()) {
+            if (!child.getValue().hasDefined(MODEL_DESCRIPTION)) {
+                continue;
+            }
+            final ModelNode registrations = child.getValue().get(MODEL_DESCRIPTION);
+            final String type = template + '/' + child.getName();
+            if (registrations.has(WILDCARD) && !NAMED_TYPES.contains(child.getName())) {
+                final Set<String> overrides = new HashSet<>(registrations.keys());
+                overrides.remove(WILDCARD);
+                wildcardRegistrations.put(type, Collections.unmodifiableSet(overrides));
+            }
+            for (String name : registrations.keys()) {
+                if (registrations.hasDefined(name)) {
+                    learnWildcardRegistrations(type + '=' + name, registrations.get(name));
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the cached response to the request, e.g. when it was found to be inconsistent with
+     * the actual resource. A resource whose description was shared with its siblings is no longer
+     * treated as using the wildcard registration, until the parent is described again.
+     *
+     * @return whether there was a cached response
+     */
+    boolean evict(ModelNode request) {
+        final String key = toKey(request, false);
+        if (key == null) {
+            return false;
+        }
+        boolean evicted = entries.remove(key) != null;
+        final String templateKey = toKey(request, true);
+        if (templateKey != null) {
+            evicted |= entries.remove(templateKey) != null;
+            final StringBuilder type = new StringBuilder();
+            for (Property element : request.get(Util.ADDRESS).asPropertyList()) {
+                final String name = element.getValue().asString();
+                type.append('/').append(element.getName());
+                final Set<String> overrides = wildcardRegistrations.get(type.toString());
+                if (overrides != null && !overrides.contains(name)) {
+                    final Set<String> updated = new HashSet<>(overrides);
+                    updated.add(name);
+                    wildcardRegistrations.put(type.toString(), Collections.unmodifiableSet(updated));
+                }
+                type.append('=').append(name);
+            }
+        }
+        if (evicted) {
+            modified = true;
+        }
+        return evicted;
+    }
+
+    void store() {
+        if (!modified || file == null) {
+            return;
+        }
+        final ModelNode content = new ModelNode().setEmptyObject();
+        for (String key : entries.keySet()) {
+            content.get(key).set(entries.get(key));
+        }
+        final ModelNode registrations = content.get(WILDCARD_REGISTRATIONS).setEmptyObject();
+        for (String type : wildcardRegistrations.keySet()) {
+            final ModelNode overrides = registrations.get(type).setEmptyList();
+            for (String name : wildcardRegistrations.get(type)) {
+                overrides.add(name);
+            }
+        }
+        final File dir = file.getParentFile();
+        try {
+            if (!dir.exists() && !dir.mkdirs()) {
+                throw new IOException("Failed to create " + dir.getAbsolutePath());
+            }
+            final File tmp = new File(dir, file.getName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                content.writeExternal(out);
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+        } catch (IOException e) {
+            log.debugf(e, "Failed to store the resource description cache to %s", file.getAbsolutePath());
+        }
+    }
+
+    void load() {
+        if (file == null || !file.exists()) {
+            return;
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            for (Property entry : ModelNode.fromStream(in).asPropertyList()) {
+                if (WILDCARD_REGISTRATIONS.equals(entry.getName())) {
+                    for (Property type : entry.getValue().asPropertyList()) {
+                        final Set<String> overrides = new HashSet<>();
+                        for (ModelNode name : type.getValue().asList()) {
+                            overrides.add(name.asString());
+                        }
+                        wildcardRegistrations.put(type.getName(), Collections.unmodifiableSet(overrides));
+                    }
+                } else {
+                    entries.put(entry.getName(), entry.getValue());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Failed to load the resource description cache from %s", file.getAbsolutePath());
+            entries.clear();
+            wildcardRegistrations.clear();
+        }
+    }
+
+    /**
+     * Builds the cache key for a request.
+     *
+     * @param template whether to build the key for the address template, in which the names of the resources known
+     *                 to use a wildcard registration are replaced with a wildcard
+     * @return the key or {@code null} if the response to the request can't be cached or, for a template key, if no
+     *         name in the address is known to use a wildcard registration
+     */
+    String toKey(ModelNode request, boolean template) {
+        if (!request.hasDefined(Util.OPERATION) || !CACHED_OPERATIONS.contains(request.get(Util.OPERATION).asString())) {
+            return null;
+        }
+        final StringBuilder key = new StringBuilder(request.get(Util.OPERATION).asString());
+        if (request.hasDefined(Util.ADDRESS)) {
+            final List<Property> address = request.get(Util.ADDRESS).asPropertyList();
+            for (Property element : address) {
+                if (WILDCARD.equals(element.getValue().asString())) {
+                    // The response is a list of descriptions, one for each matching registration
+                    return null;
+                }
+            }
+            final String path = toTemplate(address, template ? address.size() : 0);
+            if (template && !path.contains(WILDCARD)) {
+                return null;
+            }
+            key.append(path);
+        } else if (template) {
+            return null;
+        }
+        final List<String> params = new ArrayList<>(request.keys());
+        Collections.sort(params);
+        for (String param : params) {
+            if (Util.OPERATION.equals(param) || Util.ADDRESS.equals(param)) {
+                continue;
+            }
+            if (Util.OPERATION_HEADERS.equals(param) || ACCESS_CONTROL.equals(param)) {
+                return null;
+            }
+            key.append(';').append(param).append('=').append(request.get(param).asString());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Builds the address template of an address, in which the names of the resources using a wildcard registration
+     * are replaced with a wildcard.
+     *
+     * @param address the address
+     * @param length the number of leading address elements whose names may be replaced
+     * @return the template, with a {@code /type=name} segment per address element
+     */
+    private String toTemplate(List<Property> address, int length) {
+        final StringBuilder template = new StringBuilder();
+        for (int i = 0; i < address.size(); i++) {
+            final Property element = address.get(i);
+            final String name = element.getValue().asString();
+            template.append('/').append(element.getName());
+            final Set<String> overrides = i < length ? wildcardRegistrations.get(template.toString()) : null;
+            template.append('=').append(overrides != null && !overrides.contains(name) ? WILDCARD : name);
+        }
+        return template.toString();
+    }
+
+    private static boolean changesRegistrations(ModelNode request) {
+        if (!request.hasDefined(Util.OPERATION)) {
+            return false;
+        }
+        final String operation = request.get(Util.OPERATION).asString();
+        if (Util.COMPOSITE.equals(operation)) {
+            if (request.hasDefined(Util.STEPS)) {
+                for (ModelNode step : request.get(Util.STEPS).asList()) {
+                    if (changesRegistrations(step)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        if (!Util.ADD.equals(operation) && !Util.REMOVE.equals(operation)) {
+            return false;
+        }
+        if (!request.hasDefined(Util.ADDRESS)) {
+            return false;
+        }
+        final List<Property> address = request.get(Util.ADDRESS).asPropertyList();
+        return !address.isEmpty() && Util.EXTENSION.equals(address.get(0).getName());
+    }
+
+    private static File getCacheFile(ModelControllerClient client) {
+        final String home = WildFlySecurityManager.getPropertyPrivileged("user.home", null);
+        if (home == null) {
+            return null;
+        }
+        final ModelNode composite = new ModelNode();
+        composite.get(Util.OPERATION).set(Util.COMPOSITE);
+        composite.get(Util.ADDRESS).setEmptyList();
+        final ModelNode readRoot = composite.get(Util.STEPS).add();
+        readRoot.get(Util.OPERATION).set(Util.READ_RESOURCE);
+        readRoot.get(Util.ADDRESS).setEmptyList();
+        readRoot.get(Util.ATTRIBUTES_ONLY).set(true);
+        final ModelNode readExtensions = composite.get(Util.STEPS).add();
+        readExtensions.get(Util.OPERATION).set(Util.READ_CHILDREN_NAMES);
+        readExtensions.get(Util.ADDRESS).setEmptyList();
+        readExtensions.get(Util.CHILD_TYPE).set(Util.EXTENSION);
+        final ModelNode response;
+        try {
+            response = client.execute(composite);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to identify the controller, the resource descriptions won't be persisted");
+            return null;
+        }
+        if (!Util.isSuccess(response)) {
+            log.debugf("Failed to identify the controller, the resource descriptions won't be persisted: %s", response);
+            return null;
+        }
+        final ModelNode root = response.get(Util.RESULT, Util.STEP_1, Util.RESULT);
+        final List<String> extensions = new ArrayList<>();
+        for (ModelNode extension : response.get(Util.RESULT, Util.STEP_2, Util.RESULT).asList()) {
+            extensions.add(extension.asString());
+        }
+        Collections.sort(extensions);
+        final String name = (root.hasDefined(Util.PRODUCT_NAME) ? root.get(Util.PRODUCT_NAME).asString() : "WildFly") + '-'
+                + (root.hasDefined(Util.PRODUCT_VERSION) ? root.get(Util.PRODUCT_VERSION) : root.get(Util.RELEASE_VERSION)).asString() + '-'
+                + root.get(Util.MANAGEMENT_MAJOR_VERSION).asInt(0) + '.'
+                + root.get(Util.MANAGEMENT_MINOR_VERSION).asInt(0) + '.'
+                + root.get(Util.MANAGEMENT_MICRO_VERSION).asInt(0) + '-'
+                + Integer.toHexString(extensions.hashCode()) + ".dmr";
+        return new File(new File(home, CACHE_DIR), name.replaceAll("[^A-Za-z0-9._-]", "_"));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.cli.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.cli.Util;
+import org.jboss.as.cli.completion.mock.MockCommandContext;
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.junit.Test;
+
+public class PipelinedScriptProcessorTestCase {
+
+    private static final String SCRIPT = ":write-attribute(name=a,value=1)\n"
+            + ":write-attribute(name=b,value=2)\n"
+            + ":write-attribute(name=c,value=3)\n";
+
+    @Test
+    public void testOperationsAreSentAsComposite() throws Exception {
+        final Client client = new Client();
+        final Context ctx = new Context(client);
+        new PipelinedScriptProcessor(ctx, 10).process(script(SCRIPT));
+
+        assertEquals(1, client.composites);
+        // The three lines invoke the same operation on the same resource
+        assertEquals(1, client.descriptions);
+        assertTrue(ctx.handled.isEmpty());
+        assertEquals(3, ctx.printed.size());
+        for (int i = 0; i < 3; i++) {
+            final ModelNode result = ModelNode.fromString(ctx.printed.get(i));
+            assertEquals(Util.SUCCESS, result.get(Util.OUTCOME).asString());
+            assertEquals(i == 2, result.hasDefined(Util.RESPONSE_HEADERS));
+        }
+        assertEquals("reload-required", ModelNode.fromString(ctx.printed.get(2)).get(Util.RESPONSE_HEADERS, "process-state").asString());
+    }
+
+    @Test
+    public void testFailedCompositeIsReplayed() throws Exception {
+        final Client client = new Client();
+        client.fail = true;
+        final Context ctx = new Context(client);
+        new PipelinedScriptProcessor(ctx, 10).process(script(SCRIPT));
+
+        assertEquals(1, client.composites);
+        assertEquals(3, ctx.handled.size());
+        assertEquals(":write-attribute(name=a,value=1)", ctx.handled.get(0));
+    }
+
+    @Test
+    public void testConnectionLossIsNotReplayed() throws Exception {
+        final Client client = new Client();
+        client.disconnect = true;
+        final Context ctx = new Context(client);
+        try {
+            new PipelinedScriptProcessor(ctx, 10).process(script(SCRIPT));
+            fail("The connection loss was not reported");
+        } catch (IOException expected) {
+            // the composite may have been applied
+        }
+        assertEquals(1, client.composites);
+        assertTrue(ctx.handled.isEmpty());
+    }
+
+    @Test
+    public void testCommandsAreExecutedOnTheirOwn() throws Exception {
+        final Client client = new Client();
+        final Context ctx = new Context(client);
+        new PipelinedScriptProcessor(ctx, 2).process(script(SCRIPT + "ls\n:write-attribute(name=d,value=4)\n"));
+
+        assertEquals(1, client.composites);
+        assertEquals(2, ctx.printed.size());
+        // A single queued operation is executed as is, before the command and at the end of the script
+        assertEquals(3, ctx.handled.size());
+        assertEquals(":write-attribute(name=c,value=3)", ctx.handled.get(0));
+        assertEquals("ls", ctx.handled.get(1));
+        assertEquals(":write-attribute(name=d,value=4)", ctx.handled.get(2));
+    }
+
+    private static BufferedReader script(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+
+    private static class Context extends MockCommandContext {
+
+        private final ModelControllerClient client;
+        private final List<String> handled = new ArrayList<>();
+        private final List<String> printed = new ArrayList<>();
+
+        Context(ModelControllerClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public ModelControllerClient getModelControllerClient() {
+            return client;
+        }
+
+        @Override
+        public void handleSafe(String line) {
+            handled.add(line);
+        }
+
+        @Override
+        public void printLine(String message) {
+            if (!message.startsWith("Executed ")) {
+                printed.add(message);
+            }
+        }
+    }
+
+    private static class Client implements ModelControllerClient {
+
+        private int composites;
+        private int descriptions;
+        private boolean fail;
+        private boolean disconnect;
+
+        @Override
+        public ModelNode execute(ModelNode operation) throws IOException {
+            final ModelNode response = new ModelNode();
+            final String name = operation.get(Util.OPERATION).asString();
+            if (Util.READ_OPERATION_DESCRIPTION.equals(name)) {
+                ++descriptions;
+                response.get(Util.OUTCOME).set(Util.SUCCESS);
+                response.get(Util.RESULT, Util.REQUEST_PROPERTIES, Util.NAME, Util.TYPE).set("STRING");
+                response.get(Util.RESULT, Util.REQUEST_PROPERTIES, Util.VALUE, Util.TYPE).set("STRING");
+            } else if (Util.COMPOSITE.equals(name)) {
+                ++composites;
+                if (disconnect) {
+                    throw new IOException("Channel closed");
+                }
+                if (fail) {
+                    response.get(Util.OUTCOME).set("failed");
+                    response.get(Util.ROLLED_BACK).set(true);
+                } else {
+                    response.get(Util.OUTCOME).set(Util.SUCCESS);
+                    for (int i = 1; i <= operation.get(Util.STEPS).asList().size(); i++) {
+                        response.get(Util.RESULT, "step-" + i, Util.OUTCOME).set(Util.SUCCESS);
+                    }
+                    response.get(Util.RESPONSE_HEADERS, "process-state").set("reload-required");
+                }
+            } else {
+                throw new IllegalStateException(name);
+            }
+            return response;
+        }
+
+        @Override
+        public ModelNode execute(Operation operation) throws IOException {
+            return execute(operation.getOperation());
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation, OperationMessageHandler messageHandler) throws IOException {
+            return execute(operation);
+        }
+
+        @Override
+        public ModelNode execute(Operation operation, OperationMessageHandler messageHandler) throws IOException {
+            return execute(operation.getOperation());
+        }
+
+        @Override
+        public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(ModelNode operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
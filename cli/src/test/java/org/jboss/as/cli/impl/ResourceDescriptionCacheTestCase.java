@@ -0,0 +1,207 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.cli.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.jboss.as.cli.Util;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+public class ResourceDescriptionCacheTestCase {
+
+    @Test
+    public void testKeyKeepsConcreteNames() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        final String foo = cache.toKey(describe("subsystem", "datasources", "data-source", "foo"), false);
+        final String bar = cache.toKey(describe("subsystem", "datasources", "data-source", "bar"), false);
+        assertNotNull(foo);
+        assertNotEquals(foo, bar);
+        assertNull(cache.toKey(describe("subsystem", "datasources", "data-source", "foo"), true));
+
+        final ModelNode recursive = describe("subsystem", "datasources", "data-source", "foo");
+        recursive.get("recursive").set(true);
+        assertNotEquals(foo, cache.toKey(recursive, false));
+    }
+
+    @Test
+    public void testSiblingsShareWildcardRegistration() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        final ModelNode foo = describe("subsystem", "datasources", "data-source", "foo");
+        final ModelNode bar = describe("subsystem", "datasources", "data-source", "bar");
+        cache.update(foo, success());
+        // Nothing is known about the registration of data-source yet
+        assertNull(cache.get(bar));
+
+        cache.update(describe("subsystem", "datasources"), parent("data-source", "*", "special"));
+        assertNull(cache.get(bar));
+        cache.update(foo, success());
+        assertEquals(success(), cache.get(bar));
+        assertEquals(cache.toKey(foo, true), cache.toKey(bar, true));
+
+        // A resource with its own registration is not served the wildcard description
+        final ModelNode special = describe("subsystem", "datasources", "data-source", "special");
+        assertNull(cache.toKey(special, true));
+        assertNull(cache.get(special));
+    }
+
+    @Test
+    public void testEvictStopsSharing() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        final ModelNode foo = describe("subsystem", "datasources", "data-source", "foo");
+        final ModelNode bar = describe("subsystem", "datasources", "data-source", "bar");
+        cache.update(describe("subsystem", "datasources"), parent("data-source", "*"));
+        cache.update(foo, success());
+        assertNotNull(cache.get(bar));
+
+        // bar turned out to have a registration of its own
+        assertTrue(cache.evict(bar));
+        assertNull(cache.get(bar));
+        assertNull(cache.toKey(bar, true));
+        assertNotNull(cache.get(foo));
+        assertFalse(cache.evict(bar));
+    }
+
+    @Test
+    public void testSpecificRegistrationsAreNotShared() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        cache.update(describe(), parent("subsystem", "logging", "datasources"));
+        cache.update(describe("subsystem", "logging"), success());
+        assertNull(cache.get(describe("subsystem", "datasources")));
+        assertNull(cache.toKey(describe("subsystem", "datasources"), true));
+    }
+
+    @Test
+    public void testRecursiveDescriptionsAreLearned() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        final ModelNode response = parent("subsystem", "datasources");
+        response.get(Util.RESULT, Util.CHILDREN, "subsystem", "model-description", "datasources").set(parent("data-source", "*").get(Util.RESULT));
+        cache.update(describe(), response);
+        assertNotNull(cache.toKey(describe("subsystem", "datasources", "data-source", "foo"), true));
+    }
+
+    @Test
+    public void testKeyKeepsHostAndServerNames() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        cache.update(describe(), parent("host", "*"));
+        cache.update(describe("host", "master"), parent("server", "*"));
+        assertNull(cache.toKey(describe("host", "master", "server", "one"), true));
+        assertNotEquals(cache.toKey(describe("host", "master", "server", "one"), false),
+                cache.toKey(describe("host", "slave", "server", "one"), false));
+        assertNotEquals(cache.toKey(describe("host", "master", "server", "one"), false),
+                cache.toKey(describe("host", "master", "server", "two"), false));
+    }
+
+    @Test
+    public void testUncacheableRequests() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        assertNull(cache.toKey(describe("subsystem", "*"), false));
+
+        final ModelNode accessControl = describe("subsystem", "logging");
+        accessControl.get("access-control").set("combined-descriptions");
+        assertNull(cache.toKey(accessControl, false));
+
+        final ModelNode readResource = describe("subsystem", "logging");
+        readResource.get(Util.OPERATION).set(Util.READ_RESOURCE);
+        assertNull(cache.toKey(readResource, false));
+    }
+
+    @Test
+    public void testExtensionChangesClearTheCache() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        final ModelNode request = describe("subsystem", "logging");
+        cache.update(request, success());
+        assertNotNull(cache.get(request));
+
+        final ModelNode addExtension = new ModelNode();
+        addExtension.get(Util.OPERATION).set(Util.ADD);
+        addExtension.get(Util.ADDRESS).add(Util.EXTENSION, "org.jboss.as.jmx");
+        final ModelNode composite = new ModelNode();
+        composite.get(Util.OPERATION).set(Util.COMPOSITE);
+        composite.get(Util.ADDRESS).setEmptyList();
+        composite.get(Util.STEPS).add(addExtension);
+        cache.update(composite, success());
+        assertNull(cache.get(request));
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        final ResourceDescriptionCache cache = new ResourceDescriptionCache(null);
+        final ModelNode request = describe("subsystem", "logging");
+        final ModelNode failure = new ModelNode();
+        failure.get(Util.OUTCOME).set("failed");
+        cache.update(request, failure);
+        assertNull(cache.get(request));
+    }
+
+    @Test
+    public void testStoreAndLoad() throws Exception {
+        final File file = File.createTempFile("cli-descriptions", ".dmr");
+        try {
+            final ResourceDescriptionCache cache = new ResourceDescriptionCache(file);
+            final ModelNode request = describe("subsystem", "logging");
+            cache.update(request, success());
+            cache.update(describe("subsystem", "logging"), parent("logger", "*"));
+            cache.store();
+
+            final ResourceDescriptionCache loaded = new ResourceDescriptionCache(file);
+            loaded.load();
+            assertEquals(parent("logger", "*"), loaded.get(request));
+            assertNotNull(loaded.toKey(describe("subsystem", "logging", "logger", "org.jboss"), true));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static ModelNode describe(String... address) {
+        final ModelNode request = new ModelNode();
+        request.get(Util.OPERATION).set(Util.READ_RESOURCE_DESCRIPTION);
+        final ModelNode addr = request.get(Util.ADDRESS).setEmptyList();
+        for (int i = 0; i < address.length; i += 2) {
+            addr.add(address[i], address[i + 1]);
+        }
+        return request;
+    }
+
+    private static ModelNode parent(String childType, String... registrations) {
+        final ModelNode response = success();
+        final ModelNode modelDescription = response.get(Util.RESULT, Util.CHILDREN, childType, "model-description");
+        for (String registration : registrations) {
+            modelDescription.get(registration);
+        }
+        return response;
+    }
+
+    private static ModelNode success() {
+        final ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT, Util.DESCRIPTION).set("The logging subsystem");
+        return response;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.client.helpers;
+
+import static java.security.AccessController.doPrivileged;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.jboss.threads.AsyncFutureTask;
+import org.jboss.threads.JBossExecutors;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * {@link ModelControllerClient} that limits the number of operations a client has outstanding at the same time.
+ * <p>
+ * Operations submitted through the {@code executeAsync} methods never block the caller. Once the limit is reached
+ * they are queued and sent, in submission order, as soon as an outstanding operation completes. The returned
+ * futures complete through the {@link AsyncFuture#addListener(AsyncFuture.Listener, Object) listener} mechanism of
+ * the underlying client, so callers that register a listener rather than calling {@code get()} don't need a
+ * thread per outstanding operation. Cancelling a queued operation removes it from the queue without it ever being
+ * sent.
+ * <p>
+ * The blocking {@code execute} methods share the same limit.
+ */
+public class BoundedModelControllerClient extends DelegatingModelControllerClient {
+
+    private final int maxOutstanding;
+    private final Executor dispatchExecutor;
+    private final Deque<BoundedFuture<?>> queue = new ArrayDeque<BoundedFuture<?>>();
+    private int outstanding;
+
+    /**
+     * Creates a client sending queued operations from a shared pool of daemon threads, so the thread completing an
+     * operation, typically the one reading responses from the connection, is never used to send the next one.
+     *
+     * @param delegate the client to send the operations with
+     * @param maxOutstanding the maximum number of operations sent and not yet completed
+     */
+    public BoundedModelControllerClient(final ModelControllerClient delegate, final int maxOutstanding) {
+        this(delegate, maxOutstanding, DefaultDispatchExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates a client sending queued operations using the given executor.
+     *
+     * @param delegate the client to send the operations with
+     * @param maxOutstanding the maximum number of operations sent and not yet completed
+     * @param dispatchExecutor the executor used to send queued operations once a slot becomes available
+     */
+    public BoundedModelControllerClient(final ModelControllerClient delegate, final int maxOutstanding, final Executor dispatchExecutor) {
+        super(delegate);
+        if (maxOutstanding < 1) {
+            throw new IllegalArgumentException("maxOutstanding must be positive: " + maxOutstanding);
+        }
+        this.maxOutstanding = maxOutstanding;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    /**
+     * Gets the number of operations that have been sent and have not completed yet.
+     *
+     * @return the number of outstanding operations
+     */
+    public int getOutstandingOperations() {
+        synchronized (queue) {
+            return outstanding;
+        }
+    }
+
+    /**
+     * Gets the number of operations waiting for an outstanding operation to complete.
+     *
+     * @return the number of queued operations
+     */
+    public int getQueuedOperations() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    @Override
+    public ModelNode execute(ModelNode operation) throws IOException {
+        return await(executeAsync(operation, null));
+    }
+
+    @Override
+    public ModelNode execute(Operation operation) throws IOException {
+        return await(executeAsync(operation, null));
+    }
+
+    @Override
+    public ModelNode execute(ModelNode operation, OperationMessageHandler messageHandler) throws IOException {
+        return await(executeAsync(operation, messageHandler));
+    }
+
+    @Override
+    public ModelNode execute(Operation operation, OperationMessageHandler messageHandler) throws IOException {
+        return await(executeAsync(operation, messageHandler));
+    }
+
+    @Override
+    public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) throws IOException {
+        return await(executeOperationAsync(operation, messageHandler));
+    }
+
+    @Override
+    public AsyncFuture<ModelNode> executeAsync(final ModelNode operation, final OperationMessageHandler messageHandler) {
+        return submit(new BoundedFuture<ModelNode>() {
+            @Override
+            AsyncFuture<ModelNode> dispatch() {
+                return BoundedModelControllerClient.super.executeAsync(operation, messageHandler);
+            }
+        });
+    }
+
+    @Override
+    public AsyncFuture<ModelNode> executeAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+        return submit(new BoundedFuture<ModelNode>() {
+            @Override
+            AsyncFuture<ModelNode> dispatch() {
+                return BoundedModelControllerClient.super.executeAsync(operation, messageHandler);
+            }
+        });
+    }
+
+    @Override
+    public AsyncFuture<OperationResponse> executeOperationAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+        return submit(new BoundedFuture<OperationResponse>() {
+            @Override
+            AsyncFuture<OperationResponse> dispatch() {
+                return BoundedModelControllerClient.super.executeOperationAsync(operation, messageHandler);
+            }
+        });
+    }
+
+    private <T> AsyncFuture<T> submit(final BoundedFuture<T> future) {
+        synchronized (queue) {
+            if (outstanding >= maxOutstanding) {
+                queue.add(future);
+                return future;
+            }
+            outstanding++;
+        }
+        future.start();
+        return future;
+    }
+
+    /** Hands the slot of a completed operation over to the next queued one. */
+    private void release() {
+        final BoundedFuture<?> next;
+        synchronized (queue) {
+            next = queue.poll();
+            if (next == null) {
+                outstanding--;
+                return;
+            }
+        }
+        try {
+            dispatchExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    next.start();
+                }
+            });
+        } catch (RuntimeException e) {
+            next.dispatchFailed(e);
+        }
+    }
+
+    private boolean dequeue(final BoundedFuture<?> future) {
+        synchronized (queue) {
+            return queue.remove(future);
+        }
+    }
+
+    private static <T> T await(final AsyncFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.asyncCancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /** Lazily created pool used by clients that weren't given an executor; idle threads exit after a minute. */
+    private static final class DefaultDispatchExecutor {
+
+        static final ExecutorService INSTANCE;
+
+        static {
+            final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+                public JBossThreadFactory run() {
+                    return new JBossThreadFactory(new ThreadGroup("bounded-client-dispatch"), Boolean.TRUE, null, "%G - %t", null, null);
+                }
+            });
+            INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), threadFactory);
+        }
+    }
+
+    private abstract class BoundedFuture<T> extends AsyncFutureTask<T> implements AsyncFuture.Listener<T, Void> {
+
+        private AsyncFuture<T> delegate;
+        private boolean cancelled;
+
+        BoundedFuture() {
+            super(JBossExecutors.directExecutor());
+        }
+
+        abstract AsyncFuture<T> dispatch();
+
+        void start() {
+            final AsyncFuture<T> future;
+            try {
+                future = dispatch();
+            } catch (RuntimeException e) {
+                dispatchFailed(e);
+                return;
+            }
+            final boolean cancel;
+            synchronized (this) {
+                delegate = future;
+                cancel = cancelled;
+            }
+            future.addListener(this, null);
+            if (cancel) {
+                future.asyncCancel(true);
+            }
+        }
+
+        void dispatchFailed(final Throwable cause) {
+            release();
+            setFailed(cause);
+        }
+
+        @Override
+        public void asyncCancel(final boolean interruptionDesired) {
+            final AsyncFuture<T> future;
+            synchronized (this) {
+                cancelled = true;
+                future = delegate;
+            }
+            if (future != null) {
+                future.asyncCancel(interruptionDesired);
+            } else if (dequeue(this)) {
+                setCancelled();
+            }
+        }
+
+        @Override
+        public void handleComplete(final AsyncFuture<? extends T> future, final Void attachment) {
+            release();
+            try {
+                setResult(future.getUninterruptibly());
+            } catch (ExecutionException e) {
+                setFailed(e.getCause());
+            } catch (RuntimeException e) {
+                setFailed(e);
+            }
+        }
+
+        @Override
+        public void handleFailed(final AsyncFuture<? extends T> future, final Throwable cause, final Void attachment) {
+            release();
+            setFailed(cause);
+        }
+
+        @Override
+        public void handleCancelled(final AsyncFuture<? extends T> future, final Void attachment) {
+            release();
+            setCancelled();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.client.helpers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.jboss.threads.AsyncFutureTask;
+import org.jboss.threads.JBossExecutors;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link BoundedModelControllerClient}.
+ */
+public class BoundedModelControllerClientTestCase {
+
+    private static final Executor INLINE = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    @Test
+    public void testQueuesAtLimit() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 2, INLINE);
+
+        final AsyncFuture<ModelNode> first = client.executeAsync(operation("first"), null);
+        final AsyncFuture<ModelNode> second = client.executeAsync(operation("second"), null);
+        final AsyncFuture<ModelNode> third = client.executeAsync(operation("third"), null);
+
+        Assert.assertEquals(2, delegate.sent.size());
+        Assert.assertEquals(2, client.getOutstandingOperations());
+        Assert.assertEquals(1, client.getQueuedOperations());
+        Assert.assertEquals(AsyncFuture.Status.WAITING, third.getStatus());
+
+        delegate.sent.get(0).complete(result("first"));
+
+        Assert.assertEquals(result("first"), first.getUninterruptibly());
+        Assert.assertEquals(3, delegate.sent.size());
+        Assert.assertEquals("third", delegate.sent.get(2).operation.get("name").asString());
+        Assert.assertEquals(2, client.getOutstandingOperations());
+        Assert.assertEquals(0, client.getQueuedOperations());
+
+        delegate.sent.get(1).complete(result("second"));
+        delegate.sent.get(2).complete(result("third"));
+
+        Assert.assertEquals(result("second"), second.getUninterruptibly());
+        Assert.assertEquals(result("third"), third.getUninterruptibly());
+        Assert.assertEquals(0, client.getOutstandingOperations());
+    }
+
+    @Test
+    public void testCancelQueuedOperation() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 1, INLINE);
+
+        client.executeAsync(operation("first"), null);
+        final AsyncFuture<ModelNode> queued = client.executeAsync(operation("second"), null);
+        Assert.assertEquals(1, client.getQueuedOperations());
+
+        queued.asyncCancel(true);
+
+        Assert.assertEquals(AsyncFuture.Status.CANCELLED, queued.getStatus());
+        Assert.assertEquals(0, client.getQueuedOperations());
+
+        delegate.sent.get(0).complete(result("first"));
+
+        Assert.assertEquals(1, delegate.sent.size());
+        Assert.assertEquals(0, client.getOutstandingOperations());
+    }
+
+    @Test
+    public void testCancelSentOperation() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 1, INLINE);
+
+        final AsyncFuture<ModelNode> first = client.executeAsync(operation("first"), null);
+        client.executeAsync(operation("second"), null);
+
+        first.asyncCancel(true);
+
+        Assert.assertEquals(AsyncFuture.Status.CANCELLED, first.getStatus());
+        Assert.assertEquals(AsyncFuture.Status.CANCELLED, delegate.sent.get(0).getStatus());
+        Assert.assertEquals(2, delegate.sent.size());
+        Assert.assertEquals(1, client.getOutstandingOperations());
+    }
+
+    @Test
+    public void testDelegateFailureReleasesSlot() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 1, INLINE);
+
+        final AsyncFuture<ModelNode> first = client.executeAsync(operation("first"), null);
+        client.executeAsync(operation("second"), null);
+
+        final IOException failure = new IOException("connection lost");
+        delegate.sent.get(0).fail(failure);
+
+        Assert.assertEquals(AsyncFuture.Status.FAILED, first.getStatus());
+        try {
+            first.getUninterruptibly();
+            Assert.fail("the delegate failure was not propagated");
+        } catch (ExecutionException e) {
+            Assert.assertSame(failure, e.getCause());
+        }
+        Assert.assertEquals(2, delegate.sent.size());
+        Assert.assertEquals(1, client.getOutstandingOperations());
+    }
+
+    @Test
+    public void testDispatchFailureReleasesSlot() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 1, INLINE);
+
+        final IllegalStateException failure = new IllegalStateException("closed");
+        delegate.dispatchFailure = failure;
+        final AsyncFuture<ModelNode> future = client.executeAsync(operation("first"), null);
+
+        Assert.assertEquals(AsyncFuture.Status.FAILED, future.getStatus());
+        try {
+            future.getUninterruptibly();
+            Assert.fail("the dispatch failure was not propagated");
+        } catch (ExecutionException e) {
+            Assert.assertSame(failure, e.getCause());
+        }
+        Assert.assertEquals(0, client.getOutstandingOperations());
+    }
+
+    @Test
+    public void testBlockingExecuteRethrowsCause() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 1, INLINE);
+
+        final IOException failure = new IOException("connection lost");
+        delegate.immediateFailure = failure;
+        try {
+            client.execute(operation("first"));
+            Assert.fail("the delegate failure was not propagated");
+        } catch (IOException e) {
+            Assert.assertSame(failure, e);
+        }
+
+        final IllegalStateException runtimeFailure = new IllegalStateException("closed");
+        delegate.immediateFailure = runtimeFailure;
+        try {
+            client.execute(operation("second"));
+            Assert.fail("the delegate failure was not propagated");
+        } catch (IllegalStateException e) {
+            Assert.assertSame(runtimeFailure, e);
+        }
+        Assert.assertEquals(0, client.getOutstandingOperations());
+    }
+
+    @Test
+    public void testQueuedOperationSentByDispatchExecutor() throws Exception {
+        final RecordingClient delegate = new RecordingClient();
+        final BoundedModelControllerClient client = new BoundedModelControllerClient(delegate, 1);
+
+        client.executeAsync(operation("first"), null);
+        final AsyncFuture<ModelNode> queued = client.executeAsync(operation("second"), null);
+        delegate.dispatched.take();
+
+        delegate.sent.get(0).complete(result("first"));
+
+        final Thread dispatcher = delegate.dispatched.poll(10, TimeUnit.SECONDS);
+        Assert.assertNotNull("the queued operation was not sent", dispatcher);
+        Assert.assertNotSame(Thread.currentThread(), dispatcher);
+
+        delegate.sent.get(1).complete(result("second"));
+        Assert.assertEquals(result("second"), queued.get(10, TimeUnit.SECONDS));
+    }
+
+    private static ModelNode operation(final String name) {
+        final ModelNode operation = new ModelNode();
+        operation.get("operation").set("test");
+        operation.get("name").set(name);
+        return operation;
+    }
+
+    private static ModelNode result(final String name) {
+        final ModelNode result = new ModelNode();
+        result.get("outcome").set("success");
+        result.get("result").set(name);
+        return result;
+    }
+
+    private static final class ControllableFuture extends AsyncFutureTask<ModelNode> {
+
+        private final ModelNode operation;
+
+        ControllableFuture(final ModelNode operation) {
+            super(JBossExecutors.directExecutor());
+            this.operation = operation;
+        }
+
+        void complete(final ModelNode result) {
+            setResult(result);
+        }
+
+        void fail(final Throwable cause) {
+            setFailed(cause);
+        }
+
+        @Override
+        public void asyncCancel(final boolean interruptionDesired) {
+            setCancelled();
+        }
+    }
+
+    private static final class RecordingClient implements ModelControllerClient {
+
+        private final List<ControllableFuture> sent = new CopyOnWriteArrayList<ControllableFuture>();
+        private final LinkedBlockingQueue<Thread> dispatched = new LinkedBlockingQueue<Thread>();
+        private volatile RuntimeException dispatchFailure;
+        private volatile Throwable immediateFailure;
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(final ModelNode operation, final OperationMessageHandler messageHandler) {
+            if (dispatchFailure != null) {
+                throw dispatchFailure;
+            }
+            final ControllableFuture future = new ControllableFuture(operation);
+            if (immediateFailure != null) {
+                future.fail(immediateFailure);
+            }
+            sent.add(future);
+            dispatched.add(Thread.currentThread());
+            return future;
+        }
+
+        @Override
+        public ModelNode execute(final ModelNode operation) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ModelNode execute(final Operation operation) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ModelNode execute(final ModelNode operation, final OperationMessageHandler messageHandler) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ModelNode execute(final Operation operation, final OperationMessageHandler messageHandler) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OperationResponse executeOperation(final Operation operation, final OperationMessageHandler messageHandler) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<OperationResponse> executeOperationAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
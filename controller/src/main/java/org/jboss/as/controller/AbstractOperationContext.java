@@ -113,6 +113,7 @@ abstract class AbstractOperationContext implements OperationContext {
 
     /** Thread that initiated execution of the overall operation for which this context is the whole or a part */
     final Thread initiatingThread;
+    /** The steps for each stage. Outside of boot the queue for a stage is only created once a step is added to it */
     private final EnumMap<Stage, Deque<Step>> steps;
     private final ModelController.OperationTransactionControl transactionControl;
     final ControlledProcessState processState;
@@ -197,13 +198,15 @@ abstract class AbstractOperationContext implements OperationContext {
         this.missingNotificationDescriptionWarnings = new ConcurrentLinkedQueue<String>();
         this.controller = controller;
         steps = new EnumMap<Stage, Deque<Step>>(Stage.class);
-        for (Stage stage : Stage.values()) {
-            if (booting && stage == Stage.VERIFY) {
-                // Use a concurrent structure as the parallel boot threads will
-                // concurrently add steps
-                steps.put(stage, new LinkedBlockingDeque<Step>());
-            } else {
-                steps.put(stage, new ArrayDeque<Step>());
+        if (booting) {
+            for (Stage stage : Stage.values()) {
+                if (stage == Stage.VERIFY) {
+                    // Use a concurrent structure as the parallel boot threads will
+                    // concurrently add steps
+                    steps.put(stage, new LinkedBlockingDeque<Step>());
+                } else {
+                    steps.put(stage, new ArrayDeque<Step>());
+                }
             }
         }
         initiatingThread = Thread.currentThread();
@@ -318,7 +321,12 @@ abstract class AbstractOperationContext implements OperationContext {
             }
         }
 
-        final Deque<Step> deque = steps.get(stage);
+        Deque<Step> deque = steps.get(stage);
+        if (deque == null) {
+            // Most operations only ever use one or two stages
+            deque = new ArrayDeque<Step>();
+            steps.put(stage, deque);
+        }
         if (addFirst) {
             deque.addFirst(new Step(step, response, operation, address));
         } else {
@@ -608,7 +616,8 @@ abstract class AbstractOperationContext implements OperationContext {
         ModelNode primaryResponse = null;
         Step step;
         do {
-            step = steps.get(currentStage).pollFirst();
+            final Deque<Step> deque = steps.get(currentStage);
+            step = deque == null ? null : deque.pollFirst();
             if (step == null) {
 
                 if (currentStage == Stage.MODEL && addModelValidationSteps()) {
@@ -1124,14 +1133,19 @@ abstract class AbstractOperationContext implements OperationContext {
 
     private boolean hasMoreSteps() {
         Stage stage = currentStage;
-        boolean more = !steps.get(stage).isEmpty();
+        boolean more = hasSteps(stage);
         while (!more && stage.hasNext()) {
             stage = stage.next();
-            more = !steps.get(stage).isEmpty();
+            more = hasSteps(stage);
         }
         return more;
     }
 
+    private boolean hasSteps(Stage stage) {
+        final Deque<Step> deque = steps.get(stage);
+        return deque != null && !deque.isEmpty();
+    }
+
     @Override
     public Caller getCaller() {
         // TODO Consider threading but in general no harm in multiple instances being created rather than adding synchronization.
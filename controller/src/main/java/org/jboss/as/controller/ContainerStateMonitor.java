@@ -53,7 +53,13 @@ public final class ContainerStateMonitor extends AbstractServiceListener<Object>
     final Set<ServiceController<?>> failed = new HashSet<ServiceController<?>>();
     final Set<ServiceController<?>> problems = new HashSet<ServiceController<?>>();
 
-    private Set<ServiceName> previousMissingDepSet = new HashSet<ServiceName>();
+    private final Set<ServiceName> previousMissingDepSet = new HashSet<ServiceName>();
+    /** The immediate unavailable dependencies of each problem controller, as of the last report */
+    private final Map<ServiceController<?>, Set<ServiceName>> unavailableDependencies = new HashMap<ServiceController<?>, Set<ServiceName>>();
+    /** The dependents of each missing dependency, kept in line with {@link #unavailableDependencies} */
+    private final Map<ServiceName, Set<ServiceName>> missingDependents = new HashMap<ServiceName, Set<ServiceName>>();
+    /** Missing dependencies added to or removed from {@link #missingDependents} since the history was last reset */
+    private final Set<ServiceName> changedMissingDeps = new HashSet<ServiceName>();
 
     ContainerStateMonitor(final ServiceRegistry registry) {
         serviceRegistry = registry;
@@ -160,44 +166,62 @@ public final class ContainerStateMonitor extends AbstractServiceListener<Object>
      */
     private synchronized ContainerStateChangeReport createContainerStateChangeReport(boolean resetHistory) {
 
-        final Map<ServiceName, Set<ServiceName>> missingDeps = new HashMap<ServiceName, Set<ServiceName>>();
+        // Controllers that are no longer a problem no longer contribute any missing dependencies
+        final Iterator<Map.Entry<ServiceController<?>, Set<ServiceName>>> it = unavailableDependencies.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<ServiceController<?>, Set<ServiceName>> entry = it.next();
+            if (!problems.contains(entry.getKey())) {
+                removeDependent(entry.getKey().getName(), entry.getValue());
+                it.remove();
+            }
+        }
+        // Only update the index for the controllers whose unavailable dependencies changed
         for (ServiceController<?> controller : problems) {
-            for (ServiceName missing : controller.getImmediateUnavailableDependencies()) {
-                Set<ServiceName> dependents = missingDeps.get(missing);
-                if (dependents == null) {
-                    dependents = new HashSet<ServiceName>();
-                    missingDeps.put(missing, dependents);
-                }
-                dependents.add(controller.getName());
+            final Set<ServiceName> current = controller.getImmediateUnavailableDependencies();
+            final Set<ServiceName> previous = unavailableDependencies.get(controller);
+            if (previous == null ? current.isEmpty() : previous.equals(current)) {
+                continue;
+            }
+            if (previous != null) {
+                removeDependent(controller.getName(), previous);
+            }
+            if (current.isEmpty()) {
+                unavailableDependencies.remove(controller);
+            } else {
+                final Set<ServiceName> unavailable = new HashSet<ServiceName>(current);
+                unavailableDependencies.put(controller, unavailable);
+                addDependent(controller.getName(), unavailable);
             }
         }
 
-        final Set<ServiceName> previousMissing = previousMissingDepSet;
-
-        // no longer missing deps...
         final Map<ServiceName, Boolean> noLongerMissingServices = new TreeMap<ServiceName, Boolean>();
-        for (ServiceName name : previousMissing) {
-            if (! missingDeps.containsKey(name)) {
+        final Map<ServiceName, MissingDependencyInfo> missingServices = new TreeMap<ServiceName, MissingDependencyInfo>();
+        for (ServiceName name : changedMissingDeps) {
+            final Set<ServiceName> dependents = missingDependents.get(name);
+            final boolean previouslyMissing = previousMissingDepSet.contains(name);
+            if (dependents == null && previouslyMissing) {
+                // no longer missing deps...
                 ServiceController<?> controller = serviceRegistry.getService(name);
                 noLongerMissingServices.put(name, controller != null);
-            }
-        }
-
-        // newly missing deps
-        final Map<ServiceName, MissingDependencyInfo> missingServices = new TreeMap<ServiceName, MissingDependencyInfo>();
-        for (Map.Entry<ServiceName, Set<ServiceName>> entry : missingDeps.entrySet()) {
-            final ServiceName name = entry.getKey();
-            if (! previousMissing.contains(name)) {
+            } else if (dependents != null && !previouslyMissing) {
+                // newly missing deps
                 ServiceController<?> controller = serviceRegistry.getService(name);
                 boolean unavailable = controller != null;
-                missingServices.put(name, new MissingDependencyInfo(name, unavailable, entry.getValue()));
+                missingServices.put(name, new MissingDependencyInfo(name, unavailable, new HashSet<ServiceName>(dependents)));
             }
         }
 
         final Set<ServiceController<?>> currentFailedControllers = new HashSet<ServiceController<?>>(failed);
 
         if (resetHistory)  {
-            previousMissingDepSet = new HashSet<ServiceName>(missingDeps.keySet());
+            for (ServiceName name : changedMissingDeps) {
+                if (missingDependents.containsKey(name)) {
+                    previousMissingDepSet.add(name);
+                } else {
+                    previousMissingDepSet.remove(name);
+                }
+            }
+            changedMissingDeps.clear();
             failed.clear();
             problems.clear();
         }
@@ -206,7 +230,29 @@ public final class ContainerStateMonitor extends AbstractServiceListener<Object>
         return needReport ? new ContainerStateChangeReport(missingServices, currentFailedControllers, noLongerMissingServices) : null;
     }
 
-    private synchronized String createChangeReportLogMessage(ContainerStateChangeReport changeReport) {
+    private void addDependent(final ServiceName dependent, final Set<ServiceName> missing) {
+        for (ServiceName name : missing) {
+            Set<ServiceName> dependents = missingDependents.get(name);
+            if (dependents == null) {
+                dependents = new HashSet<ServiceName>();
+                missingDependents.put(name, dependents);
+                changedMissingDeps.add(name);
+            }
+            dependents.add(dependent);
+        }
+    }
+
+    private void removeDependent(final ServiceName dependent, final Set<ServiceName> missing) {
+        for (ServiceName name : missing) {
+            final Set<ServiceName> dependents = missingDependents.get(name);
+            if (dependents != null && dependents.remove(dependent) && dependents.isEmpty()) {
+                missingDependents.remove(name);
+                changedMissingDeps.add(name);
+            }
+        }
+    }
+
+    private static String createChangeReportLogMessage(ContainerStateChangeReport changeReport) {
 
         final StringBuilder msg = new StringBuilder();
         msg.append(ControllerLogger.ROOT_LOGGER.serviceStatusReportHeader());
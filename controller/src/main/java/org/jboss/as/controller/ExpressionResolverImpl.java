@@ -21,12 +21,15 @@
 */
 package org.jboss.as.controller;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
-import org.jboss.dmr.Property;
 import org.jboss.dmr.ValueExpression;
 
 /**
@@ -40,6 +43,15 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     private static final int GOT_DOLLAR = 1;
     private static final int GOT_OPEN_BRACE = 2;
 
+    /**
+     * Upper bound on the number of distinct strings kept in {@link #COMPILED}. The cache is simply cleared once it's
+     * reached, the strings in use will be compiled again as they are resolved.
+     */
+    private static final int MAX_COMPILED = 4096;
+
+    /** The strings already compiled, shared by all resolvers as compiling doesn't resolve anything. */
+    private static final Map<String, CompiledExpression> COMPILED = new ConcurrentHashMap<>();
+
     private final boolean lenient;
 
     /**
@@ -63,14 +75,23 @@ public class ExpressionResolverImpl implements ExpressionResolver {
 
     @Override
     public final ModelNode resolveExpressions(final ModelNode node) throws OperationFailedException {
-        return resolveExpressionsRecursively(node);
+        final ModelNode resolved = resolveExpressionsRecursively(node);
+        if (resolved == node) {
+            // Nothing in the node needed resolving. Simple values have always been returned as is, but callers are free
+            // to modify complex ones so they still get a copy
+            final ModelType type = node.getType();
+            if (type == ModelType.OBJECT || type == ModelType.LIST || type == ModelType.PROPERTY) {
+                return node.clone();
+            }
+        }
+        return resolved;
     }
 
     /**
      * Examine the given model node, resolving any expressions found within, including within child nodes.
      *
      * @param node the node
-     * @return a node with all expressions resolved
+     * @return a node with all expressions resolved, or {@code node} itself if it does not include any expressions
      * @throws OperationFailedException if an expression cannot be resolved
      */
     private ModelNode resolveExpressionsRecursively(final ModelNode node) throws OperationFailedException {
@@ -79,27 +100,40 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         }
 
         ModelType type = node.getType();
-        ModelNode resolved;
+        ModelNode resolved = node;
         if (type == ModelType.EXPRESSION) {
             resolved = resolveExpressionStringRecursively(node.asExpression().getExpressionString(), lenient, true);
         } else if (type == ModelType.OBJECT) {
-            resolved = node.clone();
-            for (Property prop : resolved.asPropertyList()) {
-                resolved.get(prop.getName()).set(resolveExpressionsRecursively(prop.getValue()));
+            // Only copy the node once something in it actually needs resolving
+            for (String key : node.keys()) {
+                final ModelNode current = node.require(key);
+                final ModelNode resolvedCurrent = resolveExpressionsRecursively(current);
+                if (resolvedCurrent != current) {
+                    if (resolved == node) {
+                        resolved = node.clone();
+                    }
+                    resolved.get(key).set(resolvedCurrent);
+                }
             }
         } else if (type == ModelType.LIST) {
-            resolved = node.clone();
-            ModelNode list = new ModelNode();
-            list.setEmptyList();
-            for (ModelNode current : resolved.asList()) {
-                list.add(resolveExpressionsRecursively(current));
+            final List<ModelNode> elements = node.asList();
+            for (int i = 0; i < elements.size(); i++) {
+                final ModelNode current = elements.get(i);
+                final ModelNode resolvedCurrent = resolveExpressionsRecursively(current);
+                if (resolvedCurrent != current) {
+                    if (resolved == node) {
+                        resolved = node.clone();
+                    }
+                    resolved.get(i).set(resolvedCurrent);
+                }
             }
-            resolved = list;
         } else if (type == ModelType.PROPERTY) {
-            resolved = node.clone();
-            resolved.set(resolved.asProperty().getName(), resolveExpressionsRecursively(resolved.asProperty().getValue()));
-        } else {
-            resolved = node;
+            final ModelNode current = node.asProperty().getValue();
+            final ModelNode resolvedCurrent = resolveExpressionsRecursively(current);
+            if (resolvedCurrent != current) {
+                resolved = new ModelNode();
+                resolved.set(node.asProperty().getName(), resolvedCurrent);
+            }
         }
 
         return resolved;
@@ -140,7 +174,7 @@ public class ExpressionResolverImpl implements ExpressionResolver {
      */
     private ModelNode resolveExpressionStringRecursively(final String expressionString, final boolean ignoreDMRResolutionFailure,
                                                          final boolean initial) throws OperationFailedException {
-        ParseAndResolveResult resolved = parseAndResolve(expressionString, ignoreDMRResolutionFailure);
+        ParseAndResolveResult resolved = compileAndResolve(expressionString, ignoreDMRResolutionFailure);
         if (resolved.recursive) {
             // Some part of expressionString resolved into a different expression.
             // So, start over, ignoring failures. Ignore failures because we don't require
@@ -149,7 +183,7 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         } else if (resolved.modified) {
             // Typical case
             return new ModelNode(resolved.result);
-        } else if (initial && EXPRESSION_PATTERN.matcher(expressionString).matches()) {
+        } else if (initial && isExpression(expressionString)) {
             // We should only get an unmodified expression string back if there was a resolution
             // failure that we ignored.
             assert ignoreDMRResolutionFailure;
@@ -165,6 +199,48 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         }
     }
 
+    /**
+     * Resolves the string using its {@link CompiledExpression compiled form} if it has one, falling back to
+     * {@link #parseAndResolve(String, boolean) parsing} it while resolving if not.
+     */
+    private ParseAndResolveResult compileAndResolve(final String initialValue, final boolean lenient) throws OperationFailedException {
+        CompiledExpression compiled = COMPILED.get(initialValue);
+        if (compiled == null) {
+            compiled = CompiledExpression.compile(initialValue);
+            if (COMPILED.size() >= MAX_COMPILED) {
+                COMPILED.clear();
+            }
+            COMPILED.put(initialValue, compiled);
+        }
+        if (compiled == CompiledExpression.NOT_COMPILED) {
+            return parseAndResolve(initialValue, lenient);
+        }
+
+        final String[] expressions = compiled.expressions;
+        if (expressions.length == 0) {
+            return new ParseAndResolveResult(initialValue, false, false);
+        }
+        final StringBuilder builder = new StringBuilder(compiled.literals[0]);
+        for (int i = 0; i < expressions.length; i++) {
+            final String toResolve = expressions[i];
+            final String resolved = resolveExpressionString(toResolve);
+            if (toResolve.equals(resolved)) {
+                if (lenient) {
+                    return new ParseAndResolveResult(initialValue, false, false);
+                }
+                throw ControllerLogger.ROOT_LOGGER.cannotResolveExpression(initialValue);
+            }
+            if (isExpression(resolved)) {
+                // Same as createRecursiveResult, anything resolved so far is resolved again by the next pass
+                final int start = compiled.startIndexes[i];
+                final int end = start + toResolve.length();
+                return new ParseAndResolveResult(initialValue.substring(0, start) + resolved + initialValue.substring(end), true, true);
+            }
+            builder.append(resolved).append(compiled.literals[i + 1]);
+        }
+        return new ParseAndResolveResult(builder.toString(), true, false);
+    }
+
     private ParseAndResolveResult parseAndResolve(final String initialValue, boolean lenient) throws OperationFailedException {
 
 
@@ -246,7 +322,7 @@ public class ExpressionResolverImpl implements ExpressionResolver {
                             final String resolved = resolveExpressionString(toResolve);
                             // We only successfully resolved if toResolve != resolved
                             if (!toResolve.equals(resolved)) {
-                                if (EXPRESSION_PATTERN.matcher(resolved).matches()) {
+                                if (isExpression(resolved)) {
                                     // The resolved value is itself an expression, so
                                     // there will need to be another pass.
                                     // We need to discard any changes made from initialValue
@@ -316,6 +392,29 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         return new ParseAndResolveResult(builder.toString(), modified, false);
     }
 
+    /**
+     * Same as {@code EXPRESSION_PATTERN.matcher(value).matches()} without the cost of evaluating the regular expression,
+     * which is significant as it's used on every resolved value.
+     */
+    private static boolean isExpression(final String value) {
+        final int start = value.indexOf("${");
+        if (start < 0 || value.indexOf('}', start + 2) < 0) {
+            return false;
+        }
+        // The pattern's '.' doesn't match line terminators
+        for (int i = 0; i < value.length(); i++) {
+            switch (value.charAt(i)) {
+                case '\n':
+                case '\r':
+                case '\u0085':
+                case '\u2028':
+                case '\u2029':
+                    return false;
+            }
+        }
+        return true;
+    }
+
     private static Stack<OpenExpression> addToStack(Stack<OpenExpression> stack, int startIndex) {
         Stack<OpenExpression> result = stack == null ? new Stack<OpenExpression>() : stack;
         result.push(new OpenExpression(startIndex));
@@ -467,6 +566,72 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         }
     }
 
+    /**
+     * The result of parsing a string made of literal text and expressions that can be resolved independently of each
+     * other, i.e. without any nested expressions, nested braces or '$' characters other than those starting an
+     * expression. Configurations generally only use such strings, parsing anything else is left to
+     * {@link #parseAndResolve(String, boolean)} as it's interleaved with the resolution of the nested expressions.
+     */
+    private static final class CompiledExpression {
+
+        private static final CompiledExpression NOT_COMPILED = new CompiledExpression(null, null, null);
+
+        /** The text before, between and after the expressions, one more than the number of expressions */
+        private final String[] literals;
+        /** The expressions, including the enclosing "${" and "}" */
+        private final String[] expressions;
+        /** The index of each expression within the compiled string */
+        private final int[] startIndexes;
+
+        private CompiledExpression(final String[] literals, final String[] expressions, final int[] startIndexes) {
+            this.literals = literals;
+            this.expressions = expressions;
+            this.startIndexes = startIndexes;
+        }
+
+        static CompiledExpression compile(final String value) {
+            final List<String> literals = new ArrayList<>();
+            final List<String> expressions = new ArrayList<>();
+            final List<Integer> startIndexes = new ArrayList<>();
+            final int len = value.length();
+            int literalStart = 0;
+            int i = 0;
+            while (i < len) {
+                if (value.charAt(i) != '$') {
+                    i++;
+                    continue;
+                }
+                if (i + 1 == len || value.charAt(i + 1) != '{') {
+                    // An escaped or stray '$'
+                    return NOT_COMPILED;
+                }
+                int end = i + 2;
+                while (end < len && value.charAt(end) != '}') {
+                    final char ch = value.charAt(end);
+                    if (ch == '$' || ch == '{') {
+                        return NOT_COMPILED;
+                    }
+                    end++;
+                }
+                if (end == len) {
+                    // Incomplete, let parseAndResolve report it
+                    return NOT_COMPILED;
+                }
+                literals.add(value.substring(literalStart, i));
+                expressions.add(value.substring(i, end + 1));
+                startIndexes.add(i);
+                i = literalStart = end + 1;
+            }
+            literals.add(value.substring(literalStart));
+            final int[] starts = new int[startIndexes.size()];
+            for (int j = 0; j < starts.length; j++) {
+                starts[j] = startIndexes.get(j);
+            }
+            return new CompiledExpression(literals.toArray(new String[literals.size()]),
+                    expressions.toArray(new String[expressions.size()]), starts);
+        }
+    }
+
     private static class OpenExpression {
         private final int startIndex;
         private int endIndex = -1;
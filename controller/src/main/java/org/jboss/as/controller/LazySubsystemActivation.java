@@ -0,0 +1,226 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.msc.service.AbstractServiceListener;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Opt-in deferral of the runtime services subsystems install during boot. The services a configured subsystem installs
+ * with the {@link ServiceController.Mode#ACTIVE ACTIVE} mode are installed {@link ServiceController.Mode#ON_DEMAND ON_DEMAND}
+ * instead, so they only start once a service requiring them, e.g. the service of a capability required by another
+ * subsystem or by a deployment, is started. The management model of the subsystems is not affected.
+ * <p>
+ * Only services something can require stay deferred. Once the boot operations installed their services,
+ * {@link #activateIndependentServices(Set)} sets the deferred services that provide no capability and that no service
+ * installed during boot depends on back to {@code ACTIVE}, as nothing would ever start them otherwise.
+ * <p>
+ * The subsystems are configured with the {@value #LAZY_SUBSYSTEMS} system property, a comma separated list of
+ * subsystem names or {@code *} for all subsystems.
+ */
+final class LazySubsystemActivation {
+
+    static final String LAZY_SUBSYSTEMS = "jboss.as.management.lazy-subsystems";
+
+    /** The names of the lazily activated subsystems, or {@code null} if all are */
+    private final Set<String> names;
+    private final ConcurrentMap<String, Subsystem> deferred = new ConcurrentHashMap<>();
+    /** The dependencies of all services installed during boot, whether their subsystem is lazily activated or not */
+    private final Set<ServiceName> dependencies = ConcurrentHashMap.newKeySet();
+    private final long bootStart = System.currentTimeMillis();
+
+    private LazySubsystemActivation(final Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Creates the lazy activation configured by the {@value #LAZY_SUBSYSTEMS} system property.
+     *
+     * @return the lazy activation, or {@code null} if no subsystem is to be activated lazily
+     */
+    static LazySubsystemActivation create() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(LAZY_SUBSYSTEMS, null);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        if ("*".equals(value.trim())) {
+            return new LazySubsystemActivation(null);
+        }
+        final Set<String> names = new HashSet<>();
+        for (String name : value.split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        return names.isEmpty() ? null : new LazySubsystemActivation(names);
+    }
+
+    /**
+     * Gets the name of the lazily activated subsystem a service installed by a step for the given address belongs to.
+     *
+     * @param address the address of the step installing the service
+     * @return the subsystem name, or {@code null} if the service should be installed as requested
+     */
+    String getLazySubsystem(final PathAddress address) {
+        if (address.size() == 0) {
+            return null;
+        }
+        final PathElement element = address.getElement(0);
+        if (!SUBSYSTEM.equals(element.getKey()) || (names != null && !names.contains(element.getValue()))) {
+            return null;
+        }
+        return element.getValue();
+    }
+
+    /**
+     * Records that a service installed during boot depends on the given service.
+     *
+     * @param dependency the name of the dependency
+     */
+    void dependencyAdded(final ServiceName dependency) {
+        dependencies.add(dependency);
+    }
+
+    /**
+     * Records that a service of the given subsystem is installed {@link ServiceController.Mode#ON_DEMAND ON_DEMAND}.
+     *
+     * @param subsystem the name of the subsystem
+     * @return a listener to add to the service, to track the service until it starts
+     */
+    AbstractServiceListener<Object> deferred(final String subsystem) {
+        Subsystem tracker = deferred.get(subsystem);
+        if (tracker == null) {
+            final Subsystem existing = deferred.putIfAbsent(subsystem, tracker = new Subsystem(subsystem));
+            if (existing != null) {
+                tracker = existing;
+            }
+        }
+        return tracker;
+    }
+
+    /**
+     * Sets the deferred services that nothing can require back to {@link ServiceController.Mode#ACTIVE ACTIVE}. A
+     * deferred service stays {@code ON_DEMAND} if it is the service of a capability, or if a service installed during
+     * boot depends on it or on one of its aliases. The recorded dependencies are no longer needed afterwards, and are
+     * dropped.
+     *
+     * @param capabilityServiceNames the names of the services of the registered capabilities
+     */
+    void activateIndependentServices(final Set<ServiceName> capabilityServiceNames) {
+        for (Subsystem subsystem : deferred.values()) {
+            for (ServiceController<?> controller : subsystem.pending) {
+                if (!isRequirable(controller, capabilityServiceNames) && subsystem.pending.remove(controller)) {
+                    controller.removeListener(subsystem);
+                    controller.compareAndSetMode(ServiceController.Mode.ON_DEMAND, ServiceController.Mode.ACTIVE);
+                }
+            }
+        }
+        dependencies.clear();
+    }
+
+    private boolean isRequirable(final ServiceController<?> controller, final Set<ServiceName> capabilityServiceNames) {
+        if (capabilityServiceNames.contains(controller.getName()) || dependencies.contains(controller.getName())) {
+            return true;
+        }
+        for (ServiceName alias : controller.getAliases()) {
+            if (capabilityServiceNames.contains(alias) || dependencies.contains(alias)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Logs which subsystems had their services deferred and how many of those services were not started by the end of boot.
+     */
+    void logBootSummary() {
+        final Map<String, Subsystem> sorted = new TreeMap<>();
+        int services = 0;
+        int notStarted = 0;
+        for (Subsystem subsystem : deferred.values()) {
+            final int pending = subsystem.pending.size();
+            if (pending + subsystem.started.get() > 0) {
+                sorted.put(subsystem.name, subsystem);
+                services += pending + subsystem.started.get();
+                notStarted += pending;
+            }
+        }
+        if (sorted.isEmpty()) {
+            return;
+        }
+        ControllerLogger.ROOT_LOGGER.subsystemActivationDeferred(sorted.keySet(), notStarted, services);
+        for (Subsystem subsystem : sorted.values()) {
+            if (!subsystem.activated.get()) {
+                ControllerLogger.ROOT_LOGGER.debugf("Services of subsystem %s were not required during boot", subsystem.name);
+            }
+        }
+    }
+
+    private final class Subsystem extends AbstractServiceListener<Object> {
+
+        private final String name;
+        /** The deferred services that have not started yet, and were not removed */
+        private final Set<ServiceController<?>> pending = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicBoolean activated = new AtomicBoolean();
+
+        private Subsystem(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void listenerAdded(final ServiceController<?> controller) {
+            pending.add(controller);
+        }
+
+        @Override
+        public void transition(final ServiceController<?> controller, final ServiceController.Transition transition) {
+            final ServiceController.Substate after = transition.getAfter();
+            if (after == ServiceController.Substate.UP && pending.remove(controller)) {
+                controller.removeListener(this);
+                started.incrementAndGet();
+                if (activated.compareAndSet(false, true)) {
+                    ControllerLogger.ROOT_LOGGER.subsystemActivated(name, controller.getName(),
+                            System.currentTimeMillis() - bootStart);
+                }
+            } else if (after == ServiceController.Substate.REMOVED && pending.remove(controller)) {
+                controller.removeListener(this);
+            }
+        }
+    }
+
+}
@@ -59,12 +59,12 @@ import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -137,7 +137,6 @@ class ModelControllerImpl implements ModelController {
     private final Authorizer authorizer;
 
     private final ConcurrentMap<Integer, OperationContextImpl> activeOperations = new ConcurrentHashMap<>();
-    private final Random random = new Random();
     private final ManagedAuditLogger auditLogger;
     private final BootErrorCollector bootErrorCollector;
 
@@ -149,6 +148,8 @@ class ModelControllerImpl implements ModelController {
     private final OperationStepHandler extraValidationStepHandler;
 
     private final AbstractControllerService.PartialModelIndicator partialModelIndicator;
+    /** Subsystems whose boot time services are only started when required, or {@code null} */
+    private final LazySubsystemActivation lazySubsystemActivation;
 
     private PathAddress modelControllerResourceAddress;
 
@@ -179,6 +180,7 @@ class ModelControllerImpl implements ModelController {
         this.persister = persister;
         assert processType != null;
         this.processType = processType;
+        this.lazySubsystemActivation = processType.isServer() ? LazySubsystemActivation.create() : null;
         assert runningModeControl != null;
         this.runningModeControl = runningModeControl;
         assert notificationSupport != null;
@@ -384,7 +386,7 @@ class ModelControllerImpl implements ModelController {
         for (;;) {
             responseStreams = null;
             // Create a random operation-id
-            final Integer operationID = random.nextInt();
+            final Integer operationID = ThreadLocalRandom.current().nextInt();
             final OperationContextImpl context = new OperationContextImpl(operationID, operation.get(OP).asString(),
                     operation.get(OP_ADDR), this, processType, runningModeControl.getRunningMode(),
                     contextFlags, handler, attachments, managementModel.get(), originalResultTxControl, processState, auditLogger,
@@ -453,7 +455,7 @@ class ModelControllerImpl implements ModelController {
                  final boolean rollbackOnRuntimeFailure, MutableRootResourceRegistrationProvider parallelBootRootResourceRegistrationProvider,
                  final boolean skipModelValidation, final boolean partialModel) {
 
-        final Integer operationID = random.nextInt();
+        final Integer operationID = ThreadLocalRandom.current().nextInt();
 
         EnumSet<OperationContextImpl.ContextFlag> contextFlags = rollbackOnRuntimeFailure
                 ? EnumSet.of(AbstractOperationContext.ContextFlag.ROLLBACK_ON_FAIL)
@@ -638,6 +640,13 @@ class ModelControllerImpl implements ModelController {
         // Notify the audit logger that we're done booting
         auditLogger.bootDone();
         bootingFlag.set(false);
+        if (lazySubsystemActivation != null) {
+            lazySubsystemActivation.logBootSummary();
+        }
+    }
+
+    LazySubsystemActivation getLazySubsystemActivation() {
+        return lazySubsystemActivation;
     }
 
     ManagementModel getManagementModel() {
@@ -596,7 +596,8 @@ public interface OperationContext extends ExpressionResolver {
     Stage getCurrentStage();
 
     /**
-     * Send a message to the client.  Valid only during this operation.
+     * Send a message to the client.  Valid only during this operation. May be called from any thread; calls are
+     * passed to the client one at a time.
      *
      * @param severity the message severity
      * @param message the message
@@ -74,9 +74,11 @@ import org.jboss.as.controller.access.ResourceNotAddressableException;
 import org.jboss.as.controller.access.TargetAttribute;
 import org.jboss.as.controller.access.TargetResource;
 import org.jboss.as.controller.audit.AuditLogger;
+import org.jboss.as.controller.capability.Capability;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.capability.registry.CapabilityId;
+import org.jboss.as.controller.capability.registry.CapabilityRegistration;
 import org.jboss.as.controller.capability.registry.CapabilityResolutionContext;
 import org.jboss.as.controller.capability.registry.CapabilityScope;
 import org.jboss.as.controller.capability.registry.RegistrationPoint;
@@ -143,6 +145,8 @@ final class OperationContextImpl extends AbstractOperationContext {
     private final ModelControllerImpl modelController;
     private final EnumSet<ContextFlag> contextFlags;
     private final OperationMessageHandler messageHandler;
+    /** Serializes calls to {@link #messageHandler}, which {@link #report(MessageSeverity, String)} may receive from several threads */
+    private final Object reportLock = new Object();
     private final Map<ServiceName, ServiceController<?>> realRemovingControllers = new HashMap<ServiceName, ServiceController<?>>();
     // protected by "realRemovingControllers"
     private final Map<ServiceName, Step> removalSteps = new HashMap<ServiceName, Step>();
@@ -457,6 +461,7 @@ final class OperationContextImpl extends AbstractOperationContext {
     void awaitServiceContainerStability() throws InterruptedException, TimeoutException {
         if (affectsRuntime) {
             MGMT_OP_LOGGER.debugf("Entered VERIFY stage; waiting for service container to settle");
+            activateIndependentServices();
             long timeout = getBlockingTimeout().getLocalBlockingTimeout();
             ExecutionStatus originalExecutionStatus = executionStatus;
             try {
@@ -843,10 +848,13 @@ final class OperationContextImpl extends AbstractOperationContext {
     public Resource readResourceFromRoot(final PathAddress address, final boolean recursive) {
         assert isControllingThread();
         assertNotComplete(currentStage);
-        //Clone the operation to preserve all the headers
-        ModelNode operation = activeStep.operation.clone();
+        //Preserve all the headers, the parameters don't matter to the authorization of the read
+        ModelNode operation = new ModelNode();
         operation.get(OP).set(ReadResourceHandler.DEFINITION.getName());
         operation.get(OP_ADDR).set(address.toModelNode());
+        if (activeStep.operation.hasDefined(OPERATION_HEADERS)) {
+            operation.get(OPERATION_HEADERS).set(activeStep.operation.get(OPERATION_HEADERS));
+        }
         OperationId opId = new OperationId(operation);
         AuthorizationResult authResult = authorize(opId, operation, false, READ_CONFIG);
         if (authResult.getDecision() == AuthorizationResult.Decision.DENY) {
@@ -1115,7 +1123,11 @@ final class OperationContextImpl extends AbstractOperationContext {
     public void report(final MessageSeverity severity, final String message) {
         try {
             if(messageHandler != null) {
-                messageHandler.handleReport(severity, message);
+                // Proxied operations sent ahead of their step relay the reports of the remote process from the
+                // threads receiving them, so reports for several proxied processes can arrive at the same time
+                synchronized (reportLock) {
+                    messageHandler.handleReport(severity, message);
+                }
             }
         } catch (Throwable t) {
             // ignored
@@ -1996,7 +2008,7 @@ final class OperationContextImpl extends AbstractOperationContext {
         private final ServiceBuilder<T> realBuilder;
         private final ServiceName name;
         private final Step targetActiveStep;
-
+        private ServiceController.Mode initialMode = ServiceController.Mode.ACTIVE;
 
         ContextServiceBuilder(final ServiceBuilder<T> realBuilder, final ServiceName name, final Step targetActiveStep) {
             this.realBuilder = realBuilder;
@@ -2011,56 +2023,67 @@ final class OperationContextImpl extends AbstractOperationContext {
 
         public ServiceBuilder<T> setInitialMode(final ServiceController.Mode mode) {
             realBuilder.setInitialMode(mode);
+            initialMode = mode;
             return this;
         }
 
         public ServiceBuilder<T> addDependencies(final ServiceName... dependencies) {
             realBuilder.addDependencies(dependencies);
+            dependenciesAdded(dependencies);
             return this;
         }
 
         public ServiceBuilder<T> addDependencies(final DependencyType dependencyType, final ServiceName... dependencies) {
             realBuilder.addDependencies(dependencyType, dependencies);
+            dependenciesAdded(dependencies);
             return this;
         }
 
         public ServiceBuilder<T> addDependencies(final Iterable<ServiceName> dependencies) {
             realBuilder.addDependencies(dependencies);
+            dependenciesAdded(dependencies);
             return this;
         }
 
         public ServiceBuilder<T> addDependencies(final DependencyType dependencyType, final Iterable<ServiceName> dependencies) {
             realBuilder.addDependencies(dependencyType, dependencies);
+            dependenciesAdded(dependencies);
             return this;
         }
 
         public ServiceBuilder<T> addDependency(final ServiceName dependency) {
             realBuilder.addDependency(dependency);
+            dependencyAdded(dependency);
             return this;
         }
 
         public ServiceBuilder<T> addDependency(final DependencyType dependencyType, final ServiceName dependency) {
             realBuilder.addDependency(dependencyType, dependency);
+            dependencyAdded(dependency);
             return this;
         }
 
         public ServiceBuilder<T> addDependency(final ServiceName dependency, final Injector<Object> target) {
             realBuilder.addDependency(dependency, target);
+            dependencyAdded(dependency);
             return this;
         }
 
         public ServiceBuilder<T> addDependency(final DependencyType dependencyType, final ServiceName dependency, final Injector<Object> target) {
             realBuilder.addDependency(dependencyType, dependency, target);
+            dependencyAdded(dependency);
             return this;
         }
 
         public <I> ServiceBuilder<T> addDependency(final ServiceName dependency, final Class<I> type, final Injector<I> target) {
             realBuilder.addDependency(dependency, type, target);
+            dependencyAdded(dependency);
             return this;
         }
 
         public <I> ServiceBuilder<T> addDependency(final DependencyType dependencyType, final ServiceName dependency, final Class<I> type, final Injector<I> target) {
             realBuilder.addDependency(dependencyType, dependency, type, target);
+            dependencyAdded(dependency);
             return this;
         }
 
@@ -2140,6 +2163,7 @@ final class OperationContextImpl extends AbstractOperationContext {
                     // for any ill effect
                     removalSteps.remove(name);
 
+                    deferIfLazy();
                     ServiceController<T> controller = realBuilder.install();
                     targetActiveStep.serviceAdded(controller);
                     return controller;
@@ -2150,6 +2174,58 @@ final class OperationContextImpl extends AbstractOperationContext {
                 }
             }
         }
+
+        /** Track the services that services installed during boot depend on, see {@link LazySubsystemActivation} */
+        private void dependencyAdded(final ServiceName dependency) {
+            final LazySubsystemActivation lazySubsystemActivation = modelController.getLazySubsystemActivation();
+            if (lazySubsystemActivation != null && isBooting()) {
+                lazySubsystemActivation.dependencyAdded(dependency);
+            }
+        }
+
+        private void dependenciesAdded(final ServiceName... dependencies) {
+            for (ServiceName dependency : dependencies) {
+                dependencyAdded(dependency);
+            }
+        }
+
+        private void dependenciesAdded(final Iterable<ServiceName> dependencies) {
+            for (ServiceName dependency : dependencies) {
+                dependencyAdded(dependency);
+            }
+        }
+
+        /** Install services a lazily activated subsystem wants started at boot on demand instead */
+        @SuppressWarnings("deprecation")
+        private void deferIfLazy() {
+            final LazySubsystemActivation lazySubsystemActivation = modelController.getLazySubsystemActivation();
+            if (lazySubsystemActivation != null && initialMode == ServiceController.Mode.ACTIVE && isBooting()) {
+                final String subsystem = lazySubsystemActivation.getLazySubsystem(targetActiveStep.address);
+                if (subsystem != null) {
+                    realBuilder.setInitialMode(ServiceController.Mode.ON_DEMAND);
+                    realBuilder.addListener(lazySubsystemActivation.deferred(subsystem));
+                }
+            }
+        }
+    }
+
+    /**
+     * Once the boot operations installed their services, start the services lazily activated subsystems installed that
+     * nothing could ever require, see {@link LazySubsystemActivation}.
+     */
+    private void activateIndependentServices() {
+        final LazySubsystemActivation lazySubsystemActivation = modelController.getLazySubsystemActivation();
+        if (lazySubsystemActivation == null || !isBooting()) {
+            return;
+        }
+        final Set<ServiceName> capabilityServiceNames = new HashSet<>();
+        for (CapabilityRegistration<?> registration : managementModel.getCapabilityRegistry().getCapabilities()) {
+            final Capability capability = registration.getCapability();
+            if (capability instanceof RuntimeCapability && ((RuntimeCapability<?>) capability).getCapabilityServiceValueType() != null) {
+                capabilityServiceNames.add(((RuntimeCapability<?>) capability).getCapabilityServiceName());
+            }
+        }
+        lazySubsystemActivation.activateIndependentServices(capabilityServiceNames);
     }
 
     /** Verifies that any service removals performed by this operation did not trigger a missing dependency */
@@ -65,6 +65,38 @@ public interface ProxyController {
      */
     void execute(ModelNode operation, OperationMessageHandler handler, ProxyOperationControl control, OperationAttachments attachments, BlockingTimeout blockingTimeout);
 
+    /**
+     * Start the execution of an operation as {@link #execute(ModelNode, OperationMessageHandler, ProxyOperationControl, OperationAttachments, BlockingTimeout)}
+     * would, without waiting for the proxied process to prepare it. This allows operations for several proxied
+     * processes to be in progress at the same time. The execution is only complete, and the callbacks on the given
+     * {@code control} only guaranteed to have been invoked, once the returned operation was
+     * {@link DispatchedOperation#complete() completed}. Either that or {@link DispatchedOperation#cancel()} must be
+     * called exactly once.
+     * <p>
+     * The default implementation defers the whole execution to {@link DispatchedOperation#complete()}.
+     *
+     * @param operation the operation to execute. Cannot be {@code null}
+     * @param handler the message handler. May be {@code null}
+     * @param control the callback handler for this operation. Cannot be {@code null}
+     * @param attachments the operation attachments. May be {@code null}
+     * @param blockingTimeout control for maximum period any blocking operations can block. Cannot be {@code null}
+     * @return the dispatched operation. Will not be {@code null}
+     */
+    default DispatchedOperation dispatch(final ModelNode operation, final OperationMessageHandler handler, final ProxyOperationControl control,
+                                         final OperationAttachments attachments, final BlockingTimeout blockingTimeout) {
+        return new DispatchedOperation() {
+            @Override
+            public void complete() {
+                execute(operation, handler, control, attachments, blockingTimeout);
+            }
+
+            @Override
+            public void cancel() {
+                // nothing was sent yet
+            }
+        };
+    }
+
     /**
      * Gets the {@link ModelVersion} of the kernel management API exposed by the proxied process.
      *
@@ -74,6 +106,25 @@ public interface ProxyController {
         return ModelVersion.CURRENT;
     }
 
+    /**
+     * An operation {@link #dispatch(ModelNode, OperationMessageHandler, ProxyOperationControl, OperationAttachments, BlockingTimeout) dispatched}
+     * to the proxied process.
+     */
+    interface DispatchedOperation {
+
+        /**
+         * Waits for the proxied process to prepare the operation, and invokes the callbacks on the {@code control}
+         * the operation was dispatched with.
+         */
+        void complete();
+
+        /**
+         * Abandons the operation without waiting for the proxied process to prepare it. The proxied process rolls the
+         * operation back, and the callbacks on the {@code control} the operation was dispatched with may not be invoked.
+         */
+        void cancel();
+    }
+
     interface ProxyOperationControl extends ModelController.OperationTransactionControl {
 
         /**
@@ -41,7 +41,10 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SER
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.client.MessageSeverity;
@@ -61,6 +64,8 @@ import org.jboss.dmr.ModelNode;
  */
 public class ProxyStepHandler implements OperationStepHandler {
 
+    private static final OperationContext.AttachmentKey<Map<ModelNode, Dispatch>> DISPATCHED = OperationContext.AttachmentKey.create(Map.class);
+
     private final ProxyController proxyController;
     private final boolean forServer;
 
@@ -77,13 +82,108 @@ public class ProxyStepHandler implements OperationStepHandler {
             return;
         }
 
+        final Map<ModelNode, Dispatch> dispatched = context.getAttachment(DISPATCHED);
+        Dispatch dispatch = dispatched == null ? null : dispatched.remove(operation);
+        if (dispatch == null) {
+            dispatch = dispatch(context, operation);
+        }
+        if (dispatch.task == null) {
+            // discard the operation
+            if(dispatch.discardedResult != null) {
+                context.getResult().set(dispatch.discardedResult);
+            }
+            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+            return;
+        }
+        dispatch.task.complete();
+        ControllerLogger.MGMT_OP_LOGGER.tracef("Response to %s from %s received after %d ms", operation.get(OP),
+                proxyController.getProxyNodeAddress(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - dispatch.started));
+
+        final AtomicReference<ModelController.OperationTransaction> txRef = dispatch.txRef;
+        final AtomicReference<ModelNode> preparedResultRef = dispatch.preparedResultRef;
+        final AtomicReference<OperationResponse> finalResultRef = dispatch.finalResultRef;
+        OperationResponse finalResult = finalResultRef.get();
+        if (finalResult != null) {
+            // operation failed before it could commit
+            ModelNode responseNode = finalResult.getResponseNode();
+            ControllerLogger.MGMT_OP_LOGGER.tracef("Remote operation %s failed before commit with response %s", operation, responseNode);
+            context.getResult().set(responseNode.get(RESULT));
+            ModelNode failureDesc = responseNode.get(FAILURE_DESCRIPTION);
+            RuntimeException stdFailure = translateFailureDescription(failureDesc);
+            if (stdFailure != null) {
+                ControllerLogger.MGMT_OP_LOGGER.tracef("Converted failure response to %s", stdFailure);
+                throw stdFailure;
+            }
+            context.getFailureDescription().set(failureDesc);
+            if (responseNode.hasDefined(RESPONSE_HEADERS)) {
+                context.getResponseHeaders().set(responseNode.get(RESPONSE_HEADERS));
+            }
+            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+        } else {
+
+            completeRemoteTransaction(context, operation, txRef, preparedResultRef, finalResultRef);
+
+        }
+    }
+
+    /**
+     * Send the operation to the proxied process ahead of the execution of this handler for it, so that the operation
+     * can be in progress on several proxied processes at the same time. This handler then has to be executed for the
+     * same operation within the same operation context, otherwise {@link #discardDispatched(OperationContext)} has to
+     * be called. As the operation is sent regardless of the outcome of any steps executed before this handler, this is
+     * only meant for operations that don't modify anything.
+     *
+     * @param context the operation context
+     * @param operation the operation this handler is going to be executed for
+     * @return {@code true} if the operation was sent, {@code false} if it will only be sent when this handler is executed
+     */
+    public boolean dispatchAhead(final OperationContext context, final ModelNode operation) {
+        if (isWFCORE621Needed(operation, PathAddress.pathAddress(operation.get(OP_ADDR)))) {
+            return false;
+        }
+        final Dispatch dispatch;
+        try {
+            dispatch = dispatch(context, operation);
+        } catch (OperationFailedException | RuntimeException e) {
+            // Let the execution of this handler deal with it
+            return false;
+        }
+        Map<ModelNode, Dispatch> dispatched = context.getAttachment(DISPATCHED);
+        if (dispatched == null) {
+            dispatched = new IdentityHashMap<ModelNode, Dispatch>();
+            context.attach(DISPATCHED, dispatched);
+        }
+        dispatched.put(operation, dispatch);
+        return true;
+    }
+
+    /**
+     * Cancel any operations {@link #dispatchAhead(OperationContext, ModelNode) dispatched ahead} for which the handler
+     * was not executed, e.g. because a previous step failed, without waiting for the proxied processes to prepare them.
+     *
+     * @param context the operation context
+     */
+    public static void discardDispatched(final OperationContext context) {
+        final Map<ModelNode, Dispatch> dispatched = context.detach(DISPATCHED);
+        if (dispatched != null) {
+            for (Dispatch dispatch : dispatched.values()) {
+                if (dispatch.task != null) {
+                    dispatch.task.cancel();
+                }
+            }
+        }
+    }
+
+    private Dispatch dispatch(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+
         final BlockingTimeout blockingTimeout = BlockingTimeout.Factory.getProxyBlockingTimeout(context);
 
         OperationMessageHandler messageHandler = new DelegatingMessageHandler(context);
 
-        final AtomicReference<ModelController.OperationTransaction> txRef = new AtomicReference<ModelController.OperationTransaction>();
-        final AtomicReference<ModelNode> preparedResultRef = new AtomicReference<ModelNode>();
-        final AtomicReference<OperationResponse> finalResultRef = new AtomicReference<>();
+        final Dispatch dispatch = new Dispatch();
+        final AtomicReference<ModelController.OperationTransaction> txRef = dispatch.txRef;
+        final AtomicReference<ModelNode> preparedResultRef = dispatch.preparedResultRef;
+        final AtomicReference<OperationResponse> finalResultRef = dispatch.finalResultRef;
         final ProxyController.ProxyOperationControl proxyControl = new ProxyController.ProxyOperationControl() {
 
             @Override
@@ -167,43 +267,17 @@ public class ProxyStepHandler implements OperationStepHandler {
                         proxyControl.operationPrepared(transaction, transformed);
                     }
                 };
-                proxyController.execute(transformedOperation, messageHandler, transformingProxyControl,
+                dispatch.task = proxyController.dispatch(transformedOperation, messageHandler, transformingProxyControl,
                         new DelegatingOperationAttachments(context), blockingTimeout);
             } else {
                 // discard the operation
-                final ModelNode transformedResult = resultTransformer.transformResult(new ModelNode());
-                if(transformedResult != null) {
-                    context.getResult().set(transformedResult);
-                }
-                context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
-                return;
+                dispatch.discardedResult = resultTransformer.transformResult(new ModelNode());
             }
         } else {
-            proxyController.execute(operation, messageHandler, proxyControl, new DelegatingOperationAttachments(context),
+            dispatch.task = proxyController.dispatch(operation, messageHandler, proxyControl, new DelegatingOperationAttachments(context),
                     blockingTimeout);
         }
-        OperationResponse finalResult = finalResultRef.get();
-        if (finalResult != null) {
-            // operation failed before it could commit
-            ModelNode responseNode = finalResult.getResponseNode();
-            ControllerLogger.MGMT_OP_LOGGER.tracef("Remote operation %s failed before commit with response %s", operation, responseNode);
-            context.getResult().set(responseNode.get(RESULT));
-            ModelNode failureDesc = responseNode.get(FAILURE_DESCRIPTION);
-            RuntimeException stdFailure = translateFailureDescription(failureDesc);
-            if (stdFailure != null) {
-                ControllerLogger.MGMT_OP_LOGGER.tracef("Converted failure response to %s", stdFailure);
-                throw stdFailure;
-            }
-            context.getFailureDescription().set(failureDesc);
-            if (responseNode.hasDefined(RESPONSE_HEADERS)) {
-                context.getResponseHeaders().set(responseNode.get(RESPONSE_HEADERS));
-            }
-            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
-        } else {
-
-            completeRemoteTransaction(context, operation, txRef, preparedResultRef, finalResultRef);
-
-        }
+        return dispatch;
     }
 
     private void completeRemoteTransaction(final OperationContext context, final ModelNode operation,
@@ -341,6 +415,20 @@ public class ProxyStepHandler implements OperationStepHandler {
     }
 
 
+    /**
+     * An operation sent to the proxied process, whose prepared response may not have been received yet.
+     */
+    private static final class Dispatch {
+
+        private final AtomicReference<ModelController.OperationTransaction> txRef = new AtomicReference<ModelController.OperationTransaction>();
+        private final AtomicReference<ModelNode> preparedResultRef = new AtomicReference<ModelNode>();
+        private final AtomicReference<OperationResponse> finalResultRef = new AtomicReference<>();
+        private final long started = System.nanoTime();
+        /** The operation sent, or {@code null} if the operation was discarded by the transformers */
+        private ProxyController.DispatchedOperation task;
+        private ModelNode discardedResult;
+    }
+
     private static class DelegatingMessageHandler implements OperationMessageHandler {
 
         private final OperationContext context;
@@ -351,6 +439,8 @@ public class ProxyStepHandler implements OperationStepHandler {
 
         @Override
         public void handleReport(MessageSeverity severity, String message) {
+            // Called by the thread receiving the proxied process' messages, possibly while another proxied process
+            // reports too; OperationContext.report accepts concurrent calls
             context.report(severity, message);
         }
     }
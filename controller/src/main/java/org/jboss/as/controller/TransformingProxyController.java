@@ -134,6 +134,12 @@ public interface TransformingProxyController extends ProxyController {
                     return transformers.transformOperation(transformationParameters, operation);
                 }
 
+                @Override
+                public Object getOperationTransformationKey() {
+                    // Unless the addresses are left as they are, what an operation is transformed into also depends on the proxy
+                    return addressTranslator == ProxyOperationAddressTranslator.HOST ? transformers.getOperationTransformationKey() : this;
+                }
+
                 @Override
                 public Resource transformRootResource(TransformationInputs transformationParameters, Resource resource) throws OperationFailedException {
                     return transformers.transformRootResource(transformationParameters, resource);
@@ -203,6 +209,13 @@ public interface TransformingProxyController extends ProxyController {
                 proxy.execute(operation, handler, control, attachments, blockingTimeout);
             }
 
+            @Override
+            public DispatchedOperation dispatch(final ModelNode operation, final OperationMessageHandler handler, final ProxyOperationControl control,
+                                                final OperationAttachments attachments, final BlockingTimeout blockingTimeout) {
+                // Dispatch untransformed
+                return proxy.dispatch(operation, handler, control, attachments, blockingTimeout);
+            }
+
             @Override
             public ModelVersion getKernelModelVersion() {
                 return proxy.getKernelModelVersion();
@@ -79,6 +79,18 @@ public interface AuthorizerConfiguration {
      */
     boolean isMapUsingRealmRoles();
 
+    /**
+     * Gets a value that changes each time the {@link #getRoleMappings() role mappings}, or any of the principals
+     * included in or excluded from them, change. Allows the roles mapped for a {@link Caller} to be cached until
+     * the mapping configuration is next modified.
+     *
+     * @return the current version of the role mappings, or a negative value if the implementation does not track
+     *         changes and the roles mapped for a caller must not be cached
+     */
+    default long getRoleMappingVersion() {
+        return -1;
+    }
+
     /**
      * Gets whether JMX calls to non-facade mbeans (i.e. those that result in invocations to
      * {@link Authorizer#authorizeJmxOperation(Caller, Environment, JmxAction)}) should be treated as 'sensitive'.
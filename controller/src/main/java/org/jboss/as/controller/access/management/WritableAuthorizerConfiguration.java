@@ -30,6 +30,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.access.Authorizer;
@@ -57,6 +58,10 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
     private volatile Authorizer.AuthorizerDescription authorizerDescription;
     private volatile RoleMaps roleMaps;
     private final Set<ScopedRoleListener> scopedRoleListeners = new LinkedHashSet<ScopedRoleListener>();
+    /*
+     * Incremented after every change that could alter the roles a caller is mapped to.
+     */
+    private final AtomicLong roleMappingVersion = new AtomicLong();
 
     public WritableAuthorizerConfiguration(Authorizer.AuthorizerDescription authorizerDescription) {
         this.authorizerDescription = authorizerDescription;
@@ -73,6 +78,7 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
         this.authorizerDescription = StandardRBACAuthorizer.AUTHORIZER_DESCRIPTION;
         this.useRealmRoles = this.nonFacadeMBeansSensitive = false;
         this.roleMappings = new HashMap<String, RoleMappingImpl>();
+        roleMappingVersion.incrementAndGet();
         RoleMaps oldRoleMaps = this.roleMaps;
         this.roleMaps = new RoleMaps(authorizerDescription.getStandardRoles(), Collections.<String, ScopedRole>emptyMap());
         for (ScopedRole role : oldRoleMaps.scopedRoles.values()) {
@@ -109,6 +115,11 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
         return useRealmRoles;
     }
 
+    @Override
+    public long getRoleMappingVersion() {
+        return roleMappingVersion.get();
+    }
+
     @Override
     public Set<String> getStandardRoles() {
         return roleMaps.standardRoles;
@@ -162,6 +173,7 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
 
     public void addRoleMappingImmediate(final String roleName) {
         roleMappings.put(roleName, new RoleMappingImpl(roleName));
+        roleMappingVersion.incrementAndGet();
     }
 
     /**
@@ -174,6 +186,7 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
         if (newRoles.containsKey(roleName) == false) {
             newRoles.put(roleName, new RoleMappingImpl(roleName));
             roleMappings = Collections.unmodifiableMap(newRoles);
+            roleMappingVersion.incrementAndGet();
         }
     }
 
@@ -193,6 +206,7 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
             Object removalKey = new Object();
             removedRoles.put(removalKey, removed);
             roleMappings = Collections.unmodifiableMap(newRoles);
+            roleMappingVersion.incrementAndGet();
 
             return removalKey;
         }
@@ -212,6 +226,7 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
         if (toRestore != null && newRoles.containsKey(toRestore.getName()) == false) {
             newRoles.put(toRestore.getName(), toRestore);
             roleMappings = Collections.unmodifiableMap(newRoles);
+            roleMappingVersion.incrementAndGet();
             return true;
         }
 
@@ -221,17 +236,23 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
     public void setRoleMappingIncludeAll(final String roleName, final boolean includeAll) {
         RoleMappingImpl role = roleMappings.get(roleName);
         role.setIncludeAll(includeAll);
+        roleMappingVersion.incrementAndGet();
     }
 
     public boolean addRoleMappingPrincipal(final String roleName, final PrincipalType principalType, final MatchType matchType,
                                            final String name, final String realm, final boolean immediate) {
         RoleMappingImpl role = roleMappings.get(roleName);
         if (role != null) {
+            boolean added;
             if (immediate) {
-                return role.addPrincipalImmediate(createPrincipal(principalType, name, realm), matchType);
+                added = role.addPrincipalImmediate(createPrincipal(principalType, name, realm), matchType);
             } else {
-                return role.addPrincipal(createPrincipal(principalType, name, realm), matchType);
+                added = role.addPrincipal(createPrincipal(principalType, name, realm), matchType);
             }
+            if (added) {
+                roleMappingVersion.incrementAndGet();
+            }
+            return added;
         }
         return false;
     }
@@ -239,8 +260,9 @@ public class WritableAuthorizerConfiguration implements AuthorizerConfiguration,
     public boolean removeRoleMappingPrincipal(final String roleName, final PrincipalType principalType, final MatchType matchType,
                                               final String name, final String realm) {
         RoleMappingImpl role = roleMappings.get(roleName);
-        if (role != null) {
-            return role.removePrincipal(createPrincipal(principalType, name, realm), matchType);
+        if (role != null && role.removePrincipal(createPrincipal(principalType, name, realm), matchType)) {
+            roleMappingVersion.incrementAndGet();
+            return true;
         }
         return false;
     }
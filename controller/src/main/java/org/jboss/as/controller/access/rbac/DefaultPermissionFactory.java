@@ -24,7 +24,6 @@ package org.jboss.as.controller.access.rbac;
 
 import java.security.Permission;
 import java.security.PermissionCollection;
-import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +34,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.access.Action;
 import org.jboss.as.controller.access.AuthorizerConfiguration;
@@ -78,7 +78,11 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
     private final Map<String, ManagementPermissionCollection> permissionsByRole = new HashMap<String, ManagementPermissionCollection>();
     private final Map<String, ScopedBase> scopedBaseMap = new HashMap<String, ScopedBase>();
     private final AuthorizerConfiguration authorizerConfiguration;
-    private PermsHolder permsHolder;
+    /*
+     * Null whenever the role permissions need to be reconfigured, only written whilst holding the lock on the factory so
+     * permission checks only need to take the lock after a configuration change.
+     */
+    private volatile PermsHolder permsHolder;
     private boolean rolePermissionsConfigured;
 
     /**
@@ -238,6 +242,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
             if (constraintFactories.add(factory)) {
                 // Throw away our permission sets
                 rolePermissionsConfigured = false;
+                permsHolder = null;
             }
         }
     }
@@ -258,6 +263,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         addConstraintFactory(constraint.getFactory());
         scopedBaseMap.put(officialForm, new ScopedBase(StandardRole.valueOf(officialBase), constraint));
         rolePermissionsConfigured = false;
+        permsHolder = null;
     }
 
     @Override
@@ -276,10 +282,16 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         synchronized (this) {
             scopedBaseMap.remove(officialForm);
             rolePermissionsConfigured = false;
+            permsHolder = null;
         }
     }
 
-    private synchronized PermsHolder configureRolePermissions() {
+    private PermsHolder configureRolePermissions() {
+        PermsHolder current = permsHolder;
+        return current != null ? current : configureRolePermissionsSync();
+    }
+
+    private synchronized PermsHolder configureRolePermissionsSync() {
         if (!rolePermissionsConfigured) {
             this.permissionsByRole.clear();
             this.permissionsByRole.putAll(configureDefaultPermissions());
@@ -432,7 +444,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
 
     private static class PermsHolder {
         private final Map<Set<String>, PermissionCollection> permsByRoleSet =
-                Collections.synchronizedMap(new HashMap<Set<String>, PermissionCollection>());
+                new ConcurrentHashMap<Set<String>, PermissionCollection>();
         private final Map<String, ManagementPermissionCollection> permsByRole =
                 new HashMap<String, ManagementPermissionCollection>();
         private final ConstraintFactory[] constraintFactories;
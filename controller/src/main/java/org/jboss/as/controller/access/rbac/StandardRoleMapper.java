@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.jboss.as.controller.access.JmxAction;
 import org.jboss.as.controller.access.JmxTarget;
@@ -52,6 +53,11 @@ public class StandardRoleMapper implements RoleMapper {
     private static final String IN_VM_ROLE = StandardRole.SUPERUSER.getOfficialForm();
     private static final RunAsRolePermission RUN_AS_IN_VM_ROLE = new RunAsRolePermission(IN_VM_ROLE);
     private final AuthorizerConfiguration authorizerConfiguration;
+    /*
+     * The roles mapped for each Caller with a Subject, the contents of a Caller are not expected to change during a call so
+     * the result is only discarded once the Caller is no longer referenced or the role mappings are modified.
+     */
+    private final Map<Caller, MappedRoles> mappedRolesCache = Collections.synchronizedMap(new WeakHashMap<Caller, MappedRoles>());
 
     public StandardRoleMapper(final AuthorizerConfiguration authorizerConfiguration) {
         this.authorizerConfiguration = authorizerConfiguration;
@@ -99,6 +105,23 @@ public class StandardRoleMapper implements RoleMapper {
     }
 
     private Set<String> mapRoles(final Caller caller) {
+        // The IN-VM permission check must be repeated on every call so only calls with a Subject are cached.
+        final long version = caller.hasSubject() ? authorizerConfiguration.getRoleMappingVersion() : -1;
+        if (version >= 0) {
+            MappedRoles cached = mappedRolesCache.get(caller);
+            if (cached != null && cached.version == version) {
+                return cached.roles;
+            }
+        }
+
+        Set<String> mappedRoles = Collections.unmodifiableSet(createMappedRoles(caller));
+        if (version >= 0) {
+            mappedRolesCache.put(caller, new MappedRoles(version, mappedRoles));
+        }
+        return mappedRoles;
+    }
+
+    private Set<String> createMappedRoles(final Caller caller) {
         Set<String> mappedRoles = new HashSet<String>();
 
         boolean traceEnabled = ACCESS_LOGGER.isTraceEnabled();
@@ -193,9 +216,7 @@ public class StandardRoleMapper implements RoleMapper {
             ACCESS_LOGGER.trace(sb.toString());
         }
 
-        // TODO - We could consider something along the lines of a WeakHashMap to hold this result keyed on the Caller.
-        // The contents of the Caller are not expected to change during a call and we could clear the cache on a config change.
-        return Collections.unmodifiableSet(mappedRoles);
+        return mappedRoles;
     }
 
     private static void checkPermission(final Permission permission) {
@@ -205,4 +226,15 @@ public class StandardRoleMapper implements RoleMapper {
         }
     }
 
+    private static final class MappedRoles {
+
+        private final long version;
+        private final Set<String> roles;
+
+        private MappedRoles(final long version, final Set<String> roles) {
+            this.version = version;
+            this.roles = roles;
+        }
+    }
+
 }
@@ -91,6 +91,10 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
             InetAddress remoteAddress, Resource resultantModel, List<ModelNode> operations) {
         if (runDisabledFastPath.get())
             return;
+        // Most operations are reads, don't contend for the shared lock when they will not be logged anyway.
+        // The flag is volatile, and pending handler updates are applied when the next write operation is logged.
+        if (readOnly && !config.isLogReadOnly())
+            return;
 
         config.lock();
         try {
@@ -3413,4 +3413,16 @@ public interface ControllerLogger extends BasicLogger {
 
     @Message(id = 416, value = "Modification of the runtime service container by a management operation has completed")
     String runtimeModificationComplete();
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 417, value = "Unable to store the boot operations snapshot %s")
+    void failedToStoreBootOperationsSnapshot(@Cause Throwable cause, File file);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 418, value = "Deferred the runtime services of subsystems %s until they are required, %d of their %d services were not started during boot")
+    void subsystemActivationDeferred(Set<String> subsystems, int deferred, int total);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 419, value = "Activated subsystem %s on demand, %s was required %d ms after boot started")
+    void subsystemActivated(String subsystem, ServiceName serviceName, long elapsed);
 }
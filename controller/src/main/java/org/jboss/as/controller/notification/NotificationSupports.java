@@ -22,12 +22,11 @@
 
 package org.jboss.as.controller.notification;
 
-import java.util.Arrays;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
@@ -40,7 +39,9 @@ import org.jboss.as.controller.registry.NotificationHandlerRegistration;
  *
  * The {@code NonBlockingNotificationSupport} will fire the notifications in a separate thread (provided by its {@code
  *  executorService}.
- * Its {@code emit()} method will return immediately and will not block the code execution.
+ * Its {@code emit()} method will return immediately and will not block the code execution. At most one task delivering
+ * notifications is submitted to the executor at any time, and it delivers every notification emitted until the queue is
+ * empty, so a burst of notifications does not occupy more than one executor thread.
  *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2014 Red Hat inc.
  */
@@ -74,14 +75,33 @@ class NotificationSupports {
          * Use a concurrent queue to put the notifications in it when {@code emit()} is called.
          * The queue will be drained in a separate thread and the notifications effectively delivered to the handlers.
          *
-         * This ensures that the notifications will be delivered in the same order they were emitted.
+         * This ensures that the notifications will be delivered in the same order they were emitted. The notifications
+         * of each call are queued together so notifications emitted concurrently are never interleaved with them.
          */
-        private final Queue<Notification> queue = new ConcurrentLinkedQueue<Notification>();
+        private final Queue<Notification[]> queue = new ConcurrentLinkedQueue<Notification[]>();
 
         /**
-         * use the lock's exclusive writeLock to ensure only one thread can drain the queue at a given time.
+         * {@code true} while a task draining the queue has been submitted and not finished, ensures only one thread
+         * drains the queue at a given time.
          */
-        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final Runnable drainTask = new Runnable() {
+            @Override
+            public void run() {
+                do {
+                    try {
+                        Notification[] notifications;
+                        while ((notifications = queue.poll()) != null) {
+                            fireNotifications(registry, notifications);
+                        }
+                    } finally {
+                        draining.set(false);
+                    }
+                    // a notification may have been queued after the queue was found empty but before the flag was reset
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            }
+        };
 
         public NonBlockingNotificationSupport(NotificationHandlerRegistration registry, ExecutorService executor) {
             this.registry = registry;
@@ -89,26 +109,20 @@ class NotificationSupports {
         }
 
         @Override
-        public synchronized void emit(Notification... notifications) {
-            queue.addAll(Arrays.asList(notifications));
-
-            executor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    lock.writeLock().lock();
-                    try {
-                        while (true) {
-                            Notification notification = queue.poll();
-                            if (notification == null) {
-                                break;
-                            }
-                            fireNotifications(registry, notification);
-                        }
-                    } finally {
-                        lock.writeLock().unlock();
-                    }
+        public void emit(Notification... notifications) {
+            if (notifications.length == 0) {
+                return;
+            }
+            queue.add(notifications.clone());
+
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(drainTask);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    throw e;
                 }
-            });
+            }
         }
 
         @Override
@@ -42,7 +42,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUN
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE_DEPTH;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -60,6 +62,7 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.ProxyStepHandler;
 import org.jboss.as.controller.UnauthorizedException;
 import org.jboss.as.controller.access.Action;
 import org.jboss.as.controller.access.AuthorizationResult;
@@ -75,6 +78,7 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.registry.WildcardReadResourceDescriptionAddressHack;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Global {@code OperationHandler}s.
@@ -306,12 +310,31 @@ public class GlobalOperationHandlers {
         private static final FilterPredicate DEFAULT_PREDICATE = item -> !item.isDefined()
                 || !item.hasDefined(OP_ADDR);
 
+        /**
+         * The maximum number of remote targets a request is sent to before the step handling the target executes. As
+         * the requests only read, they can be in progress on all the targets at once rather than one target after the
+         * other. A value of {@code 0} disables sending any request ahead.
+         */
+        private static final int MAX_DISPATCHED_AHEAD = resolveMaxDispatchedAhead();
+
+        private static int resolveMaxDispatchedAhead() {
+            final String value = WildFlySecurityManager.getPropertyPrivileged("jboss.as.management.max-parallel-proxy-reads", "16");
+            try {
+                return Math.max(0, Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                return 16;
+            }
+        }
+
 
         private final ModelNode operation;
         private final ModelNode result;
         private final FilteredData filteredData;
         private final FilterPredicate predicate;
         private final OperationStepHandler handler; // handler bypassing further wildcard resolution
+        // remote targets in the order their steps execute, that were not sent ahead yet
+        private final Deque<RemoteTarget> undispatched = new ArrayDeque<>();
+        private int dispatchedAhead;
 
         public AbstractAddressResolver(final ModelNode operation, final ModelNode result,
                                     final OperationStepHandler delegate,
@@ -338,6 +361,8 @@ public class GlobalOperationHandlers {
             context.completeStep(new OperationContext.ResultHandler() {
                 @Override
                 public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
+                    // Cancel any requests sent ahead whose steps never executed
+                    ProxyStepHandler.discardDispatched(context);
                     if (result.getType() == ModelType.LIST) {
                         boolean replace = false;
                         ModelNode replacement = new ModelNode().setEmptyList();
@@ -623,9 +648,20 @@ public class GlobalOperationHandlers {
             final ModelNode resultItem = new ModelNode();
 
             final OperationStepHandler proxyHandler = registration.getOperationHandler(PathAddress.EMPTY_ADDRESS, operation.require(OP).asString());
+            final RemoteTarget target;
+            if (proxyHandler instanceof ProxyStepHandler && MAX_DISPATCHED_AHEAD > 0) {
+                target = new RemoteTarget((ProxyStepHandler) proxyHandler, remoteOp);
+                // The steps are added first, so the last one added executes first
+                undispatched.addFirst(target);
+            } else {
+                target = null;
+            }
             context.addStep(resultItem, remoteOp, new OperationStepHandler() {
                 @Override
                 public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    if (target != null) {
+                        dispatchAhead(context, target);
+                    }
                     try {
                         // Execute the proxy step handler in a separate step
                         // so we have the final response available to our ResultHandler
@@ -725,7 +761,36 @@ public class GlobalOperationHandlers {
             }, OperationContext.Stage.MODEL, true);
         }
 
+        /**
+         * Send the requests for the remote targets whose steps execute next, keeping at most
+         * {@link #MAX_DISPATCHED_AHEAD} of them in progress ahead of the step of the current target.
+         */
+        private void dispatchAhead(final OperationContext context, final RemoteTarget current) {
+            if (current.dispatched) {
+                dispatchedAhead--;
+            } else {
+                // It will be sent by its own step
+                undispatched.remove(current);
+            }
+            RemoteTarget next;
+            while (dispatchedAhead < MAX_DISPATCHED_AHEAD && (next = undispatched.pollFirst()) != null) {
+                if (next.handler.dispatchAhead(context, next.operation)) {
+                    next.dispatched = true;
+                    dispatchedAhead++;
+                }
+            }
+        }
+
+        private static final class RemoteTarget {
+            private final ProxyStepHandler handler;
+            private final ModelNode operation;
+            private boolean dispatched;
 
+            private RemoteTarget(final ProxyStepHandler handler, final ModelNode operation) {
+                this.handler = handler;
+                this.operation = operation;
+            }
+        }
     }
 
     private static final class ModelAddressResolver extends AbstractAddressResolver {
@@ -136,6 +136,9 @@ public enum Attribute {
     PATTERN("pattern"),
     PERMISSION_COMBINATION_POLICY("permission-combination-policy"),
     PLAIN_TEXT("plain-text"),
+    POOL_IDLE_TIMEOUT("pool-idle-timeout"),
+    POOL_MAX_SIZE("pool-max-size"),
+    POOL_MIN_SIZE("pool-min-size"),
     PORT("port"),
     PORT_OFFSET("port-offset"),
     PREFER_ORIGINAL_CONNECTION("prefer-original-connection"),
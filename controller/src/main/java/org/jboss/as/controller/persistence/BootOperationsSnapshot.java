@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * A snapshot of the boot operations parsed from a configuration file, allowing later boots with an unchanged
+ * configuration file to skip parsing the XML.
+ * <p>
+ * The snapshot is keyed on a hash of the content of the configuration file and of any additional key components
+ * supplied, such as the version of the server, which could change the operations the parsers produce. A snapshot with
+ * a different key is ignored and replaced after the next successful boot.
+ *
+ * @see XmlConfigurationPersister#setBootOperationsSnapshot(BootOperationsSnapshot)
+ */
+public final class BootOperationsSnapshot {
+
+    private static final String KEY = "key";
+    private static final String OPERATIONS = "operations";
+
+    private final File file;
+    private final String[] keyComponents;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param file the file the snapshot is stored in
+     * @param keyComponents additional values the snapshot is only valid for
+     */
+    public BootOperationsSnapshot(final File file, final String... keyComponents) {
+        this.file = file;
+        this.keyComponents = keyComponents.clone();
+    }
+
+    /**
+     * Gets the key of a snapshot of the given configuration.
+     *
+     * @param configuration the content of the configuration file
+     * @return the key
+     */
+    String getKey(final byte[] configuration) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String current : keyComponents) {
+            digest.update(String.valueOf(current).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        digest.update(configuration);
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads the boot operations from the snapshot.
+     *
+     * @param key the key of the current configuration
+     * @return the boot operations or {@code null} if there is no snapshot for the key or it can not be read
+     */
+    List<ModelNode> read(final String key) {
+        if (!file.isFile()) {
+            return null;
+        }
+        final ModelNode snapshot;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            snapshot = ModelNode.fromStream(in);
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Ignoring boot operations snapshot %s as it can not be read", file);
+            return null;
+        }
+        if (!snapshot.hasDefined(KEY) || !key.equals(snapshot.get(KEY).asString()) || !snapshot.hasDefined(OPERATIONS)) {
+            ROOT_LOGGER.debugf("Ignoring boot operations snapshot %s as the configuration has changed", file);
+            return null;
+        }
+        ROOT_LOGGER.debugf("Using boot operations snapshot %s", file);
+        return new ArrayList<ModelNode>(snapshot.get(OPERATIONS).asList());
+    }
+
+    /**
+     * Stores the boot operations in the snapshot, failures are logged and otherwise ignored as a snapshot is only an
+     * optimisation.
+     *
+     * @param key the key of the configuration the operations were parsed from
+     * @param operations the boot operations
+     */
+    void write(final String key, final List<ModelNode> operations) {
+        final ModelNode snapshot = new ModelNode();
+        snapshot.get(KEY).set(key);
+        final ModelNode list = snapshot.get(OPERATIONS).setEmptyList();
+        for (ModelNode operation : operations) {
+            list.add(operation);
+        }
+        try {
+            final File dir = file.getAbsoluteFile().getParentFile();
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException(dir.getAbsolutePath());
+            }
+            // Write to a temporary file first so a concurrently starting server never reads a partial snapshot.
+            final File temp = File.createTempFile(file.getName(), ".tmp", dir);
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp.toPath()))) {
+                    snapshot.writeExternal(out);
+                }
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp.toPath());
+            }
+            ROOT_LOGGER.debugf("Stored boot operations snapshot %s", file);
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.failedToStoreBootOperationsSnapshot(e, file);
+        }
+    }
+
+}
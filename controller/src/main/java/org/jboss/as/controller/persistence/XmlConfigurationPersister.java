@@ -24,10 +24,11 @@ package org.jboss.as.controller.persistence;
 
 import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -57,6 +58,10 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     private final XMLElementReader<List<ModelNode>> rootParser;
     private final Map<QName, XMLElementReader<List<ModelNode>>> additionalParsers;
     private final boolean suppressLoad;
+    private volatile BootOperationsSnapshot bootOperationsSnapshot;
+    /** The key and operations to store in the boot operations snapshot once the boot has succeeded. */
+    private String pendingSnapshotKey;
+    private List<ModelNode> pendingSnapshotOperations;
 
     /**
      * Construct a new instance.
@@ -94,6 +99,16 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         }
     }
 
+    /**
+     * Sets the snapshot used to skip parsing the configuration file if it has not changed since the last successful
+     * boot.
+     *
+     * @param bootOperationsSnapshot the snapshot, or {@code null} to always parse the configuration file
+     */
+    public void setBootOperationsSnapshot(final BootOperationsSnapshot bootOperationsSnapshot) {
+        this.bootOperationsSnapshot = bootOperationsSnapshot;
+    }
+
     /** {@inheritDoc} */
     @Override
     public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
@@ -115,24 +130,58 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             }
         }
         final List<ModelNode> updates = new ArrayList<ModelNode>();
+        final BootOperationsSnapshot bootOperationsSnapshot = this.bootOperationsSnapshot;
+        String snapshotKey = null;
         try {
-            final FileInputStream fis = new FileInputStream(fileName);
+            final byte[] content = Files.readAllBytes(fileName.toPath());
+            if (bootOperationsSnapshot != null) {
+                snapshotKey = bootOperationsSnapshot.getKey(content);
+                final List<ModelNode> snapshot = bootOperationsSnapshot.read(snapshotKey);
+                if (snapshot != null) {
+                    return snapshot;
+                }
+            }
+            final InputStream input = new ByteArrayInputStream(content);
             try {
-                BufferedInputStream input = new BufferedInputStream(fis);
                 XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(input);
                 mapper.parseDocument(updates, streamReader);
                 streamReader.close();
-                input.close();
-                fis.close();
             } finally {
-                safeClose(fis);
+                safeClose(input);
             }
         } catch (Exception e) {
             throw ControllerLogger.ROOT_LOGGER.failedToParseConfiguration(e);
         }
+        if (snapshotKey != null) {
+            // The boot may modify the operations so keep a copy until it is known to have succeeded.
+            final List<ModelNode> copy = new ArrayList<ModelNode>(updates.size());
+            for (ModelNode update : updates) {
+                copy.add(update.clone());
+            }
+            synchronized (this) {
+                pendingSnapshotKey = snapshotKey;
+                pendingSnapshotOperations = copy;
+            }
+        }
         return updates;
     }
 
+    @Override
+    public void successfulBoot() throws ConfigurationPersistenceException {
+        final BootOperationsSnapshot bootOperationsSnapshot = this.bootOperationsSnapshot;
+        final String key;
+        final List<ModelNode> operations;
+        synchronized (this) {
+            key = pendingSnapshotKey;
+            operations = pendingSnapshotOperations;
+            pendingSnapshotKey = null;
+            pendingSnapshotOperations = null;
+        }
+        if (bootOperationsSnapshot != null && key != null) {
+            bootOperationsSnapshot.write(key, operations);
+        }
+    }
+
     private static void safeClose(final Closeable closeable) {
         if (closeable != null) try {
             closeable.close();
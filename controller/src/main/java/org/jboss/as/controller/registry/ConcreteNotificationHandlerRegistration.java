@@ -22,10 +22,14 @@
 
 package org.jboss.as.controller.registry;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.jboss.as.controller.PathAddress;
@@ -52,16 +56,30 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
      */
     Set<NotificationHandlerEntry> anyAddressEntries = new CopyOnWriteArraySet<NotificationHandlerEntry>();
 
+    /**
+     * The maximum number of source addresses whose entries are cached.
+     */
+    private static final int MAX_CACHED_ADDRESSES = 1024;
+    private static final NotificationHandlerEntry[] NO_ENTRIES = new NotificationHandlerEntry[0];
+
+    /**
+     * The entries registered for each source address notifications have been emitted from, before filtering.
+     *
+     * The map is replaced rather than cleared whenever a handler is registered or unregistered, so a lookup that
+     * started before the change can only add its result to a map that is no longer used.
+     */
+    private volatile ConcurrentMap<PathAddress, NotificationHandlerEntry[]> entriesBySource = new ConcurrentHashMap<>();
+
     @Override
     public void registerNotificationHandler(PathAddress source, NotificationHandler handler, NotificationFilter filter) {
         NotificationHandlerEntry entry = new NotificationHandlerEntry(handler, filter);
         if (source == ANY_ADDRESS) {
             anyAddressEntries.add(entry);
-            return;
+        } else {
+            ListIterator<PathElement> iterator = source.iterator();
+            rootRegistry.registerEntry(iterator, entry);
         }
-
-        ListIterator<PathElement> iterator = source.iterator();
-        rootRegistry.registerEntry(iterator, entry);
+        entriesBySource = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -69,29 +87,44 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
         NotificationHandlerEntry entry = new NotificationHandlerEntry(handler, filter);
         if (source == ANY_ADDRESS) {
             anyAddressEntries.remove(entry);
-            return;
+        } else {
+            ListIterator<PathElement> iterator = source.iterator();
+            rootRegistry.unregisterEntry(iterator, entry);
         }
-
-        ListIterator<PathElement> iterator = source.iterator();
-        rootRegistry.unregisterEntry(iterator, entry);
+        entriesBySource = new ConcurrentHashMap<>();
     }
 
     @Override
     public Collection<NotificationHandler> findMatchingNotificationHandlers(Notification notification) {
         Collection<NotificationHandler> handlers = new HashSet<>();
-        // collect all the handlers that match the notifications for the registry tree...
-        ListIterator<PathElement> iterator = notification.getSource().iterator();
-        rootRegistry.findEntries(iterator, handlers, notification);
-
-        // ... and also the filtered handlers registered against ANY_ADRESS
-        for (NotificationHandlerEntry anyAddressEntry : anyAddressEntries) {
-            if (anyAddressEntry.getFilter().isNotificationEnabled(notification)) {
-                handlers.add(anyAddressEntry.getHandler());
+        // each notification may have a different subset of handlers depending on their filters
+        for (NotificationHandlerEntry entry : getEntries(notification.getSource())) {
+            if (entry.getFilter().isNotificationEnabled(notification)) {
+                handlers.add(entry.getHandler());
             }
         }
         return handlers;
     }
 
+    private NotificationHandlerEntry[] getEntries(PathAddress source) {
+        final ConcurrentMap<PathAddress, NotificationHandlerEntry[]> cache = entriesBySource;
+        NotificationHandlerEntry[] entries = cache.get(source);
+        if (entries == null) {
+            List<NotificationHandlerEntry> collected = new ArrayList<>();
+            // collect all the entries that match the source address from the registry tree...
+            ListIterator<PathElement> iterator = source.iterator();
+            rootRegistry.findEntries(iterator, collected);
+            // ... and also the entries registered against ANY_ADRESS
+            collected.addAll(anyAddressEntries);
+            entries = collected.isEmpty() ? NO_ENTRIES : collected.toArray(new NotificationHandlerEntry[collected.size()]);
+            if (cache.size() >= MAX_CACHED_ADDRESSES) {
+                cache.clear();
+            }
+            cache.put(source, entries);
+        }
+        return entries;
+    }
+
     /**
      * A class to represent a single entry for both a notification handler and filter.
      */
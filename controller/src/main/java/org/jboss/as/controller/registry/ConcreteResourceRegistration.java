@@ -31,8 +31,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -49,10 +51,12 @@ import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.AccessConstraintUtilizationRegistry;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.DefaultResourceDescriptionProvider;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.AttributeAccess.AccessType;
 import org.jboss.as.controller.registry.AttributeAccess.Storage;
+import org.jboss.dmr.ModelNode;
 
 final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
@@ -80,6 +84,13 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     private final Lock readLock;
     private final Lock writeLock;
 
+    /**
+     * The descriptions built by a {@link DefaultResourceDescriptionProvider}, keyed by locale. The descriptions only
+     * depend on the attributes, capabilities and child types registered here, so the map is replaced whenever one of
+     * those changes. A description built concurrently with a change ends up in the discarded map.
+     */
+    private volatile Map<Locale, ModelNode> descriptions = new ConcurrentHashMap<>();
+
     ConcreteResourceRegistration(final String valueString, final NodeSubregistry parent, final ResourceDefinition definition,
                                  final AccessConstraintUtilizationRegistry constraintUtilizationRegistry,
                                  final boolean ordered, CapabilityRegistry capabilityRegistry) {
@@ -140,6 +151,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         writeLock.lock();
         try {
             this.runtimeOnly = runtimeOnly;
+            descriptionsChanged();
         } finally {
             writeLock.unlock();
         }
@@ -215,7 +227,9 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             throw ControllerLogger.ROOT_LOGGER.nodeAlreadyRegistered(existing.getPathAddress().toCLIStyleString());
         }
         final NodeSubregistry child = getOrCreateSubregistry(address.getKey());
-        return child.registerChild(address.getValue(), resourceDefinition);
+        final ManagementResourceRegistration result = child.registerChild(address.getValue(), resourceDefinition);
+        descriptionsChanged();
+        return result;
     }
 
     @Override
@@ -248,6 +262,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             final NodeSubregistry subregistry = getSubregistry(address.getKey());
             if (subregistry != null) {
                 subregistry.unregisterSubModel(address.getValue());
+                descriptionsChanged();
             }
             if (constraintUtilizationRegistry != null) {
                 constraintUtilizationRegistry.unregisterAccessConstraintUtilizations(getPathAddress().append(address));
@@ -393,7 +408,9 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         checkPermission();
         writeLock.lock();
         try {
-            attributes.remove(attributeName);
+            if (attributes.remove(attributeName) != null) {
+                descriptionsChanged();
+            }
         } finally {
             writeLock.unlock();
         }
@@ -458,6 +475,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             }
             attributes.put(attributeName, aa);
             registerAttributeAccessConstraints(definition);
+            descriptionsChanged();
         } finally {
             writeLock.unlock();
         }
@@ -571,6 +589,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             throw ControllerLogger.ROOT_LOGGER.nodeAlreadyRegistered(existing.getPathAddress().toCLIStyleString());
         }
         getOrCreateSubregistry(address.getKey()).registerProxyController(address.getValue(), controller);
+        descriptionsChanged();
     }
 
     @Override
@@ -578,12 +597,14 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         final NodeSubregistry subregistry = getSubregistry(address.getKey());
         if (subregistry != null) {
             subregistry.unregisterProxyController(address.getValue());
+            descriptionsChanged();
         }
     }
 
     @Override
     public void registerAlias(PathElement address, AliasEntry alias, AbstractResourceRegistration target) {
         getOrCreateSubregistry(address.getKey()).registerAlias(address.getValue(), alias, target);
+        descriptionsChanged();
     }
 
     @Override
@@ -591,6 +612,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         final NodeSubregistry subregistry = getSubregistry(address.getKey());
         if (subregistry != null) {
             subregistry.unregisterAlias(address.getValue());
+            descriptionsChanged();
         }
     }
 
@@ -602,6 +624,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
                 capabilities = new HashSet<>();
             }
             capabilities.add(capability);
+            descriptionsChanged();
             if (capabilityRegistry != null) {
                 capabilityRegistry.registerPossibleCapability(capability, getPathAddress());
             }
@@ -646,10 +669,20 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             return subregistry.getModelDescription(iterator, next.getValue());
         } else {
             checkPermission();
-            return resourceDefinition.getDescriptionProvider(this);
+            final DescriptionProvider provider = resourceDefinition.getDescriptionProvider(this);
+            // Only the default provider is known to build the description solely from this registration,
+            // other providers may describe something that changes without us knowing
+            if (provider != null && provider.getClass() == DefaultResourceDescriptionProvider.class) {
+                return new MemoizingDescriptionProvider(provider);
+            }
+            return provider;
         }
     }
 
+    private void descriptionsChanged() {
+        descriptions = new ConcurrentHashMap<>();
+    }
+
     @Override
     Set<String> getAttributeNames(final ListIterator<PathElement> iterator) {
         if (iterator.hasNext()) {
@@ -801,6 +834,33 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         }
     }
 
+    /**
+     * Reuses the description built for a locale until the registration changes. Callers commonly modify the description
+     * they are given, e.g. {@code read-resource-description} adds the operations, notifications and access control
+     * information, so each caller gets its own copy.
+     */
+    private final class MemoizingDescriptionProvider implements DescriptionProvider {
+
+        private final DescriptionProvider delegate;
+
+        private MemoizingDescriptionProvider(final DescriptionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ModelNode getModelDescription(Locale locale) {
+            final Locale key = locale == null ? Locale.getDefault() : locale;
+            final Map<Locale, ModelNode> current = descriptions;
+            ModelNode description = current.get(key);
+            if (description == null) {
+                description = delegate.getModelDescription(key);
+                description.protect();
+                current.put(key, description);
+            }
+            return description.clone();
+        }
+    }
+
     private IllegalArgumentException alreadyRegistered(final String type, final String name) {
         return ControllerLogger.ROOT_LOGGER.alreadyRegistered(type, name, getLocationString());
     }
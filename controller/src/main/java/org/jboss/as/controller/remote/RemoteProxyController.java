@@ -121,6 +121,19 @@ public class RemoteProxyController implements ProxyController {
     @Override
     public void execute(final ModelNode original, final OperationMessageHandler messageHandler, final ProxyOperationControl control,
                         final OperationAttachments attachments, final BlockingTimeout blockingTimeout) {
+        dispatch(original, messageHandler, control, attachments, blockingTimeout).complete();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The operation is sent to the remote process before this method returns, only waiting for the prepared response
+     * is left to the returned operation. Cancelling it rolls back the prepared operation, or cancels the remote
+     * execution if it was not prepared yet.
+     */
+    @Override
+    public DispatchedOperation dispatch(final ModelNode original, final OperationMessageHandler messageHandler, final ProxyOperationControl control,
+                                        final OperationAttachments attachments, final BlockingTimeout blockingTimeout) {
         // Add blocking support to adhere to the proxy controller API contracts
         final CountDownLatch completed = new CountDownLatch(1);
         final BlockingQueue<TransactionalProtocolClient.PreparedOperation<TransactionalProtocolClient.Operation>> queue = new ArrayBlockingQueue<TransactionalProtocolClient.PreparedOperation<TransactionalProtocolClient.Operation>>(1, true);
@@ -152,15 +165,56 @@ public class RemoteProxyController implements ProxyController {
                 }
             }
         };
-        Future<OperationResponse> futureResult = null;
+        // Translate the operation
+        final PathAddress targetAddress = PathAddress.pathAddress(original.get(OP_ADDR));
+        final ModelNode translated = translateOperationForProxy(original, targetAddress);
+        final Future<OperationResponse> futureResult;
         try {
-            // Translate the operation
-            final PathAddress targetAddress = PathAddress.pathAddress(original.get(OP_ADDR));
-            final ModelNode translated = translateOperationForProxy(original, targetAddress);
-
             // Execute the operation
             ControllerLogger.MGMT_OP_LOGGER.tracef("Executing %s for %s", translated.get(OP).asString(), getProxyNodeAddress());
             futureResult = client.execute(operationListener, translated, messageHandler, attachments);
+        } catch (IOException e) {
+            final ModelNode result = new ModelNode();
+            result.get(OUTCOME).set(FAILED);
+            result.get(FAILURE_DESCRIPTION).set(e.getLocalizedMessage());
+            return new DispatchedOperation() {
+                @Override
+                public void complete() {
+                    // Notify the proxy control that the operation failed
+                    control.operationFailed(result);
+                }
+
+                @Override
+                public void cancel() {
+                    // nothing was sent
+                }
+            };
+        }
+        return new DispatchedOperation() {
+            @Override
+            public void complete() {
+                awaitPrepared(original, translated, targetAddress, futureResult, queue, completed, control, blockingTimeout);
+            }
+
+            @Override
+            public void cancel() {
+                final TransactionalProtocolClient.PreparedOperation<TransactionalProtocolClient.Operation> prepared = queue.poll();
+                if (prepared == null) {
+                    // Not prepared yet, have the remote process cancel the execution
+                    ControllerLogger.MGMT_OP_LOGGER.tracef("Cancelling %s for %s", translated.get(OP).asString(), getProxyNodeAddress());
+                    futureResult.cancel(true);
+                } else if (!prepared.isFailed()) {
+                    prepared.rollback();
+                }
+            }
+        };
+    }
+
+    private void awaitPrepared(final ModelNode original, final ModelNode translated, final PathAddress targetAddress,
+                               final Future<OperationResponse> futureResult,
+                               final BlockingQueue<TransactionalProtocolClient.PreparedOperation<TransactionalProtocolClient.Operation>> queue,
+                               final CountDownLatch completed, final ProxyOperationControl control, final BlockingTimeout blockingTimeout) {
+        try {
             // Wait for the prepared response
             final TransactionalProtocolClient.PreparedOperation<TransactionalProtocolClient.Operation> prepared;
             if (blockingTimeout == null) {
@@ -221,19 +275,11 @@ public class RemoteProxyController implements ProxyController {
             }, prepared.getPreparedResult());
 
         } catch (InterruptedException e) {
-            if (futureResult != null) { // it won't be null, as IE can only be thrown after it's assigned
-                ControllerLogger.MGMT_OP_LOGGER.interruptedAwaitingInitialResponse(original.get(OP).asString(), getProxyNodeAddress());
-                // Cancel the operation
-                futureResult.cancel(true);
-            }
+            ControllerLogger.MGMT_OP_LOGGER.interruptedAwaitingInitialResponse(original.get(OP).asString(), getProxyNodeAddress());
+            // Cancel the operation
+            futureResult.cancel(true);
             control.operationFailed(getCancelledResponse());
             Thread.currentThread().interrupt();
-        } catch (IOException e) {
-            final ModelNode result = new ModelNode();
-            result.get(OUTCOME).set(FAILED);
-            result.get(FAILURE_DESCRIPTION).set(e.getLocalizedMessage());
-            // Notify the proxy control that the operation failed
-            control.operationFailed(result);
         }
     }
 
@@ -70,6 +70,18 @@ public interface OperationTransformer {
             return resultTransformer;
         }
 
+        /**
+         * Gets whether this transformation never rejects the operation and only uses a shared result transformer. The
+         * rejection policy and the result transformer then do not depend on the target the operation was transformed
+         * for, unlike e.g. failure descriptions that mention the target host.
+         *
+         * @return {@code true} if the rejection policy and result transformer are independent of the target
+         */
+        public boolean isTargetIndependent() {
+            return getClass() == TransformedOperation.class && rejectPolicy == DEFAULT_REJECTION_POLICY
+                    && (resultTransformer == OperationResultTransformer.ORIGINAL_RESULT || resultTransformer == SUCCESSFUL_RESULT);
+        }
+
         @Override
         public boolean rejectOperation(final ModelNode preparedResult) {
             return rejectPolicy.rejectOperation(preparedResult);
@@ -22,6 +22,7 @@
 
 package org.jboss.as.controller.transform;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -117,6 +118,18 @@ public class TransformationTargetImpl implements TransformationTarget {
         return new TransformationTargetImpl(this, placeholderResolver);
     }
 
+    /**
+     * Everything operations are transformed from apart from the inputs, i.e. the transformers registered for the
+     * versions of the target and the operations it excludes. The host name is only used for logging.
+     */
+    Object getOperationTransformationKey() {
+        final Map<String, ModelVersion> subsystems;
+        synchronized (subsystemVersions) {
+            subsystems = new HashMap<>(subsystemVersions);
+        }
+        return Arrays.asList(transformerRegistry, type, version, subsystems, operationIgnoredRegistry.getExclusionKey(), placeholderResolver);
+    }
+
     @Override
     public ModelVersion getVersion() {
         return version;
@@ -68,6 +68,19 @@ public interface Transformers {
      */
     OperationTransformer.TransformedOperation transformOperation(TransformationInputs transformationInputs, ModelNode operation) throws OperationFailedException;
 
+    /**
+     * Gets a key identifying how this object {@link #transformOperation(TransformationInputs, ModelNode) transforms operations}.
+     * Transformers with {@link Object#equals(Object) equal} keys transform the same operation with the same inputs
+     * into the same result, so a caller sending an operation to many targets only needs to transform it once per
+     * distinct key.
+     *
+     * @return the key. Will not be {@code null}. By default this object itself, so the result is not shared with
+     *         any other transformers
+     */
+    default Object getOperationTransformationKey() {
+        return this;
+    }
+
     /**
      * <strong>Only for use by test frameworks.</strong>. Transforms the given resource.
      *
@@ -324,6 +337,17 @@ public interface Transformers {
          */
         boolean isOperationExcluded(final PathAddress address, String operationName);
 
+        /**
+         * Gets a key identifying the operations this registry excludes. Registries with {@link Object#equals(Object) equal}
+         * keys must exclude exactly the same operations.
+         *
+         * @return the key. Will not be {@code null}. By default this registry itself, so it is only considered to
+         *         exclude the same operations as itself
+         */
+        default Object getExclusionKey() {
+            return this;
+        }
+
 
         /**
          * A default {@link OperationExcludedTransformationRegistry}
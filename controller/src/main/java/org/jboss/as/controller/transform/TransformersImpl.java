@@ -114,6 +114,14 @@ public class TransformersImpl implements Transformers {
         return op;
     }
 
+    @Override
+    public Object getOperationTransformationKey() {
+        if (target instanceof TransformationTargetImpl) {
+            return ((TransformationTargetImpl) target).getOperationTransformationKey();
+        }
+        return this;
+    }
+
     @Override
     public Resource transformRootResource(TransformationInputs transformationInputs, Resource resource) throws OperationFailedException {
         return transformRootResource(transformationInputs, resource, Transformers.DEFAULT);
@@ -22,6 +22,7 @@
 package org.jboss.as.controller;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.fail;
 
 import java.io.File;
@@ -444,6 +445,49 @@ public class ExpressionResolverUnitTestCase {
         }
     }
 
+    @Test
+    public void testNodeWithoutExpressionsIsCopied() throws OperationFailedException {
+        ModelNode node = new ModelNode();
+        node.get("map", "plain").set("a");
+        node.get("list").add("one");
+        node.get("prop").set("plain", "plain");
+        ModelNode resolved = ExpressionResolver.TEST_RESOLVER.resolveExpressions(node);
+        assertEquals(node, resolved);
+        assertNotSame(node, resolved);
+        assertNotSame(node.get("map"), resolved.get("map"));
+
+        // Only the parts holding expressions change, everything else is left as it was
+        node.get("list").add(new ValueExpression("${test.prop.missing:two}"));
+        resolved = ExpressionResolver.TEST_RESOLVER.resolveExpressions(node);
+        assertEquals(ModelType.EXPRESSION, node.get("list").asList().get(1).getType());
+        assertEquals("two", resolved.get("list").asList().get(1).asString());
+        assertEquals(node.get("map"), resolved.get("map"));
+        assertEquals(node.get("prop"), resolved.get("prop"));
+    }
+
+    @Test
+    public void testLiteralsAroundExpressions() throws OperationFailedException {
+        System.setProperty("test.prop.one", "1");
+        System.setProperty("test.prop.recursive", "${test.prop.one}");
+        try {
+            for (int i = 0; i < 2; i++) {
+                // Twice, the second time resolves the already compiled strings
+                assertEquals("a1b2c", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression("a${test.prop.one}b${test.prop.two:2}c")).asString());
+                assertEquals("{1}-1", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression("{${test.prop.recursive}}-${test.prop.one}")).asString());
+                assertEquals("${test.prop.one}${test.prop.missing}",
+                        ExpressionResolver.SIMPLE_LENIENT.resolveExpressions(expression("${test.prop.one}${test.prop.missing}")).asString());
+                try {
+                    ModelNode resolved = ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression("${test.prop.one}${test.prop.missing}"));
+                    fail("Did not fail with OFE: " + resolved);
+                } catch (OperationFailedException expected) {
+                }
+            }
+        } finally {
+            System.clearProperty("test.prop.one");
+            System.clearProperty("test.prop.recursive");
+        }
+    }
+
     private ModelNode expression(String str) {
         return new ModelNode(new ValueExpression(str));
     }
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test case for the configuration of {@link LazySubsystemActivation}.
+ */
+public class LazySubsystemActivationTestCase {
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(LazySubsystemActivation.LAZY_SUBSYSTEMS);
+    }
+
+    @Test
+    public void testNotConfigured() {
+        assertNull(LazySubsystemActivation.create());
+        System.setProperty(LazySubsystemActivation.LAZY_SUBSYSTEMS, " , ");
+        assertNull(LazySubsystemActivation.create());
+    }
+
+    @Test
+    public void testNamedSubsystems() {
+        System.setProperty(LazySubsystemActivation.LAZY_SUBSYSTEMS, "jmx, request-controller");
+        LazySubsystemActivation activation = LazySubsystemActivation.create();
+
+        assertEquals("jmx", activation.getLazySubsystem(PathAddress.pathAddress(SUBSYSTEM, "jmx")));
+        assertEquals("request-controller", activation.getLazySubsystem(
+                PathAddress.pathAddress(PathElement.pathElement(SUBSYSTEM, "request-controller"), PathElement.pathElement("child", "one"))));
+        assertNull(activation.getLazySubsystem(PathAddress.pathAddress(SUBSYSTEM, "logging")));
+        assertNull(activation.getLazySubsystem(PathAddress.pathAddress("interface", "jmx")));
+        assertNull(activation.getLazySubsystem(PathAddress.EMPTY_ADDRESS));
+    }
+
+    @Test
+    public void testAllSubsystems() {
+        System.setProperty(LazySubsystemActivation.LAZY_SUBSYSTEMS, "*");
+        LazySubsystemActivation activation = LazySubsystemActivation.create();
+
+        assertEquals("logging", activation.getLazySubsystem(PathAddress.pathAddress(SUBSYSTEM, "logging")));
+        assertNull(activation.getLazySubsystem(PathAddress.pathAddress("socket-binding-group", "standard-sockets")));
+    }
+
+    @Test
+    public void testServiceActivation() throws Exception {
+        System.setProperty(LazySubsystemActivation.LAZY_SUBSYSTEMS, "lazy");
+        LazySubsystemActivation activation = LazySubsystemActivation.create();
+        ServiceContainer container = ServiceContainer.Factory.create("test");
+        try {
+            // The services of the lazy subsystem, installed as OperationContextImpl would during boot
+            ServiceName capabilityName = ServiceName.of("lazy", "capability");
+            ServiceName internalName = ServiceName.of("lazy", "internal");
+            ServiceController<?> internal = deferred(container, activation, internalName).install();
+            ServiceController<?> capability = deferred(container, activation, capabilityName).addDependency(internalName).install();
+            activation.dependencyAdded(internalName);
+            ServiceController<?> root = deferred(container, activation, ServiceName.of("lazy", "root")).install();
+
+            activation.activateIndependentServices(Collections.singleton(capabilityName));
+            container.awaitStability();
+
+            // Nothing can require the root service, so it is started as if it was never deferred
+            assertEquals(ServiceController.Mode.ACTIVE, root.getMode());
+            assertEquals(ServiceController.State.UP, root.getState());
+            assertEquals(ServiceController.State.DOWN, capability.getState());
+            assertEquals(ServiceController.State.DOWN, internal.getState());
+
+            // A deployment requiring the capability starts the deferred services it needs
+            ServiceController<?> dependent = container.addService(ServiceName.of("deployment"), Service.NULL)
+                    .addDependency(capabilityName)
+                    .install();
+            container.awaitStability();
+
+            assertEquals(ServiceController.State.UP, dependent.getState());
+            assertEquals(ServiceController.State.UP, capability.getState());
+            assertEquals(ServiceController.State.UP, internal.getState());
+            assertEquals(ServiceController.Mode.ON_DEMAND, capability.getMode());
+        } finally {
+            container.shutdown();
+            container.awaitTermination();
+        }
+    }
+
+    private static ServiceBuilder<Void> deferred(ServiceContainer container, LazySubsystemActivation activation, ServiceName name) {
+        return container.addService(name, Service.NULL)
+                .setInitialMode(ServiceController.Mode.ON_DEMAND)
+                .addListener(activation.deferred("lazy"));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.access.rbac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import javax.security.auth.Subject;
+
+import org.jboss.as.controller.access.AuthorizerConfiguration;
+import org.jboss.as.controller.access.Caller;
+import org.jboss.as.controller.access.management.WritableAuthorizerConfiguration;
+import org.jboss.as.controller.access.management.WritableAuthorizerConfiguration.MatchType;
+import org.jboss.as.core.security.RealmUser;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for the caching of the roles mapped by {@link StandardRoleMapper}.
+ */
+public class StandardRoleMapperTestCase {
+
+    private WritableAuthorizerConfiguration configuration;
+    private StandardRoleMapper roleMapper;
+
+    @Before
+    public void setUp() {
+        configuration = new WritableAuthorizerConfiguration(StandardRBACAuthorizer.AUTHORIZER_DESCRIPTION);
+        configuration.addRoleMapping("MONITOR");
+        configuration.addRoleMappingPrincipal("MONITOR", AuthorizerConfiguration.PrincipalType.USER, MatchType.INCLUDE, "bob", null, false);
+        roleMapper = new StandardRoleMapper(configuration);
+    }
+
+    @Test
+    public void testRolesCachedForCaller() {
+        Caller caller = createCaller("bob");
+        Set<String> roles = mapRoles(caller);
+        assertEquals(Collections.singleton("MONITOR"), roles);
+        assertSame(roles, mapRoles(caller));
+
+        Caller other = createCaller("bob");
+        assertNotSame(roles, mapRoles(other));
+        assertEquals(roles, mapRoles(other));
+    }
+
+    @Test
+    public void testPrincipalChangesInvalidateCache() {
+        Caller caller = createCaller("bob");
+        assertEquals(Collections.singleton("MONITOR"), mapRoles(caller));
+
+        long version = configuration.getRoleMappingVersion();
+        configuration.addRoleMappingPrincipal("MONITOR", AuthorizerConfiguration.PrincipalType.USER, MatchType.EXCLUDE, "bob", null, false);
+        assertTrue(configuration.getRoleMappingVersion() != version);
+        assertTrue(mapRoles(caller).isEmpty());
+
+        configuration.removeRoleMappingPrincipal("MONITOR", AuthorizerConfiguration.PrincipalType.USER, MatchType.EXCLUDE, "bob", null);
+        assertEquals(Collections.singleton("MONITOR"), mapRoles(caller));
+    }
+
+    @Test
+    public void testRoleMappingChangesInvalidateCache() {
+        Caller caller = createCaller("bob");
+        assertEquals(Collections.singleton("MONITOR"), mapRoles(caller));
+
+        configuration.addRoleMapping("OPERATOR");
+        configuration.setRoleMappingIncludeAll("OPERATOR", true);
+        assertEquals(2, mapRoles(caller).size());
+
+        Object removalKey = configuration.removeRoleMapping("MONITOR");
+        assertEquals(Collections.singleton("OPERATOR"), mapRoles(caller));
+
+        configuration.undoRoleMappingRemove(removalKey);
+        assertEquals(2, mapRoles(caller).size());
+
+        configuration.reset();
+        assertTrue(mapRoles(caller).isEmpty());
+    }
+
+    private Set<String> mapRoles(Caller caller) {
+        return roleMapper.mapRoles(caller, null, Collections.<String>emptySet());
+    }
+
+    private static Caller createCaller(String name) {
+        Subject subject = new Subject();
+        subject.getPrincipals().add(new RealmUser(name));
+        return Caller.createCaller(subject);
+    }
+
+}
@@ -228,6 +228,35 @@ public class NotificationRegistryTestCase {
         assertTrue(handlers.contains(handler3));
     }
 
+    @Test
+    public void testHandlersChangedAfterNotificationsFound() {
+        NotificationHandlerRegistration registry = NotificationHandlerRegistration.Factory.create();
+
+        NotificationHandler handler1 = new SimpleNotificationHandler();
+        NotificationHandler handler2 = new SimpleNotificationHandler();
+        NotificationHandler handler3 = new SimpleNotificationHandler();
+        PathAddress address = PathAddress.pathAddress("subsystem", "messaging");
+        Notification notification = new Notification("foo", address, "bar");
+
+        registry.registerNotificationHandler(address, handler1, ALL);
+        Collection<NotificationHandler> handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(1, handlers.size());
+        assertTrue(handlers.contains(handler1));
+
+        registry.registerNotificationHandler(PathAddress.pathAddress("subsystem", "*"), handler2, ALL);
+        registry.registerNotificationHandler(ANY_ADDRESS, handler3, ALL);
+        handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(3, handlers.size());
+        assertTrue(handlers.contains(handler2));
+        assertTrue(handlers.contains(handler3));
+
+        registry.unregisterNotificationHandler(address, handler1, ALL);
+        registry.unregisterNotificationHandler(ANY_ADDRESS, handler3, ALL);
+        handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(1, handlers.size());
+        assertTrue(handlers.contains(handler2));
+    }
+
     private static class SimpleNotificationHandler implements NotificationHandler {
 
         @Override
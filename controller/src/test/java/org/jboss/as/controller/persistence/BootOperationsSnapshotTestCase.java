@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for the use of a {@link BootOperationsSnapshot} by {@link XmlConfigurationPersister}.
+ */
+public class BootOperationsSnapshotTestCase {
+
+    private static final QName ROOT = new QName("urn:test", "root");
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+    private final XMLElementReader<List<ModelNode>> parser = new XMLElementReader<List<ModelNode>>() {
+        @Override
+        public void readElement(XMLExtendedStreamReader reader, List<ModelNode> value) throws XMLStreamException {
+            parseCount.incrementAndGet();
+            ModelNode op = new ModelNode();
+            op.get("operation").set("add");
+            op.get("name").set(reader.getAttributeValue(null, "name"));
+            value.add(op);
+            reader.nextTag();
+        }
+    };
+
+    private File dir;
+    private File config;
+    private File snapshot;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("boot-snapshot").toFile();
+        config = new File(dir, "test.xml");
+        snapshot = new File(new File(dir, "snapshot"), "test.xml.dmr");
+        writeConfig("one");
+    }
+
+    @After
+    public void tearDown() {
+        snapshot.delete();
+        snapshot.getParentFile().delete();
+        config.delete();
+        dir.delete();
+    }
+
+    @Test
+    public void testSnapshotUsedOnceBootSucceeds() throws Exception {
+        XmlConfigurationPersister persister = createPersister("1.0");
+        List<ModelNode> ops = persister.load();
+        assertEquals(1, parseCount.get());
+        assertFalse(snapshot.exists());
+
+        // Changes made to the operations during boot must not end up in the snapshot.
+        ops.get(0).get("name").set("changed");
+        persister.successfulBoot();
+        assertTrue(snapshot.exists());
+
+        ops = createPersister("1.0").load();
+        assertEquals(1, parseCount.get());
+        assertEquals(1, ops.size());
+        assertEquals("one", ops.get(0).get("name").asString());
+    }
+
+    @Test
+    public void testSnapshotIgnoredWhenConfigurationChanges() throws Exception {
+        XmlConfigurationPersister persister = createPersister("1.0");
+        persister.load();
+        persister.successfulBoot();
+
+        writeConfig("two");
+        persister = createPersister("1.0");
+        assertEquals("two", persister.load().get(0).get("name").asString());
+        assertEquals(2, parseCount.get());
+        persister.successfulBoot();
+
+        assertEquals("two", createPersister("1.0").load().get(0).get("name").asString());
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    public void testSnapshotIgnoredWhenKeyChanges() throws Exception {
+        XmlConfigurationPersister persister = createPersister("1.0");
+        persister.load();
+        persister.successfulBoot();
+
+        createPersister("2.0").load();
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    public void testCorruptSnapshotIgnored() throws Exception {
+        snapshot.getParentFile().mkdirs();
+        Files.write(snapshot.toPath(), new byte[] { 1, 2, 3 });
+        assertEquals("one", createPersister("1.0").load().get(0).get("name").asString());
+        assertEquals(1, parseCount.get());
+    }
+
+    private XmlConfigurationPersister createPersister(String version) {
+        XmlConfigurationPersister persister = new XmlConfigurationPersister(config, ROOT, parser, null);
+        persister.setBootOperationsSnapshot(new BootOperationsSnapshot(snapshot, version));
+        return persister;
+    }
+
+    private void writeConfig(String name) throws Exception {
+        Files.write(config.toPath(), ("<root xmlns=\"urn:test\" name=\"" + name + "\"/>").getBytes(StandardCharsets.UTF_8));
+    }
+
+}
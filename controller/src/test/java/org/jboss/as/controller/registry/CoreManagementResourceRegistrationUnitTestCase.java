@@ -23,12 +23,14 @@
 package org.jboss.as.controller.registry;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import org.jboss.as.controller.OperationContext;
@@ -39,13 +41,17 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition.Parameters;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -354,6 +360,33 @@ public class CoreManagementResourceRegistrationUnitTestCase {
         assertTrue(acds.contains(ApplicationTypeAccessConstraintDefinition.DEPLOYMENT));
     }
 
+    @Test
+    public void testModelDescriptionFollowsRegistrationChanges() {
+
+        DescriptionProvider provider = rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS);
+        ModelNode description = provider.getModelDescription(Locale.ENGLISH);
+        assertFalse(description.get(ModelDescriptionConstants.ATTRIBUTES).has("attr"));
+        assertFalse(description.get(ModelDescriptionConstants.CHILDREN).has("child"));
+
+        // Callers are free to modify the description they are given
+        description.get(ModelDescriptionConstants.ATTRIBUTES, "attr").set("modified");
+        assertFalse(provider.getModelDescription(Locale.ENGLISH).get(ModelDescriptionConstants.ATTRIBUTES).has("attr"));
+
+        rootRegistration.registerReadOnlyAttribute(new SimpleAttributeDefinitionBuilder("attr", ModelType.STRING).build(), null);
+        description = provider.getModelDescription(Locale.ENGLISH);
+        assertEquals(ModelType.STRING, description.get(ModelDescriptionConstants.ATTRIBUTES, "attr", ModelDescriptionConstants.TYPE).asType());
+
+        rootRegistration.registerSubModel(new SimpleResourceDefinition(childElement, new NonResolvingResourceDescriptionResolver()));
+        description = rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(Locale.ENGLISH);
+        assertTrue(description.get(ModelDescriptionConstants.CHILDREN).has("child"));
+
+        rootRegistration.unregisterAttribute("attr");
+        rootRegistration.unregisterSubModel(childElement);
+        description = provider.getModelDescription(Locale.ENGLISH);
+        assertFalse(description.get(ModelDescriptionConstants.ATTRIBUTES).has("attr"));
+        assertFalse(description.get(ModelDescriptionConstants.CHILDREN).has("child"));
+    }
+
     private static class TestHandler implements OperationStepHandler {
 
         private static TestHandler INSTANCE = new TestHandler();
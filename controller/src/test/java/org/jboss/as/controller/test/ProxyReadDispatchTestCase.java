@@ -0,0 +1,270 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.as.controller.BlockingTimeout;
+import org.jboss.as.controller.ManagementModel;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProxyController;
+import org.jboss.as.controller.TransformingProxyController;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.remote.TransactionalProtocolClient;
+import org.jboss.as.controller.transform.OperationResultTransformer;
+import org.jboss.as.controller.transform.OperationTransformer;
+import org.jboss.as.controller.transform.Transformers;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests of reads addressed to several proxied processes, whose requests are sent ahead of the steps handling them.
+ *
+ * @see org.jboss.as.controller.ProxyStepHandler#dispatchAhead(OperationContext, ModelNode)
+ */
+public class ProxyReadDispatchTestCase extends AbstractControllerTestBase {
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicBoolean failFirstPrepare = new AtomicBoolean();
+    private final RecordingProxyController proxyA = new RecordingProxyController("a");
+    private final DiscardingProxyController proxyB = new DiscardingProxyController("b");
+    private final RecordingProxyController proxyC = new RecordingProxyController("c");
+
+    @Test
+    public void testRequestsSentAhead() throws Exception {
+        ModelNode result = executeForResult(createOperation(READ_RESOURCE_OPERATION, "proxy", "*"));
+
+        assertEquals(result.toString(), 3, result.asList().size());
+        assertEquals(events.toString(), 6, events.size());
+        // Every request was sent before the first step waited for a prepared response
+        for (int i = 0; i < 3; i++) {
+            assertTrue(events.toString(), events.get(i).startsWith("dispatch"));
+        }
+        for (RecordingProxyController proxy : new RecordingProxyController[] {proxyA, proxyB, proxyC}) {
+            assertEquals(proxy.name, result.get(indexOf(result, proxy.name), RESULT, NAME).asString());
+        }
+    }
+
+    @Test
+    public void testStepUsesRequestSentAhead() throws Exception {
+        executeForResult(createOperation(READ_RESOURCE_OPERATION, "proxy", "*"));
+
+        // A step not finding the request sent ahead for its operation would send a second one,
+        // and the one sent ahead would be rolled back once the address resolution completes
+        for (RecordingProxyController proxy : new RecordingProxyController[] {proxyA, proxyB, proxyC}) {
+            assertEquals(proxy.name, 1, proxy.dispatched);
+            assertTrue(proxy.name, proxy.committed);
+            assertFalse(proxy.name, proxy.rolledBack);
+        }
+    }
+
+    @Test
+    public void testRequestsSentAheadRolledBackWhenEarlierStepFails() throws Exception {
+        failFirstPrepare.set(true);
+
+        ModelNode response = getController().execute(createOperation(READ_RESOURCE_OPERATION, "proxy", "*"), null, null, null);
+
+        assertEquals(response.toString(), FAILED, response.get(OUTCOME).asString());
+        // The steps after the failed one never executed, so their requests were cancelled by the address resolver
+        // without waiting for them to be prepared
+        int prepared = 0;
+        int cancelled = 0;
+        for (RecordingProxyController proxy : new RecordingProxyController[] {proxyA, proxyB, proxyC}) {
+            assertEquals(proxy.name, 1, proxy.dispatched);
+            assertFalse(proxy.name, proxy.committed);
+            assertTrue(proxy.name, proxy.rolledBack);
+            prepared += proxy.prepared ? 1 : 0;
+            cancelled += proxy.cancelled ? 1 : 0;
+        }
+        assertEquals(events.toString(), 1, prepared);
+        assertEquals(events.toString(), 2, cancelled);
+    }
+
+    @Test
+    public void testDiscardedByTransformer() throws Exception {
+        proxyB.discard = true;
+
+        ModelNode result = executeForResult(createOperation(READ_RESOURCE_OPERATION, "proxy", "*"));
+
+        assertEquals(0, proxyB.dispatched);
+        assertFalse(proxyB.committed);
+        assertFalse(proxyB.rolledBack);
+        for (RecordingProxyController proxy : new RecordingProxyController[] {proxyA, proxyC}) {
+            assertEquals(proxy.name, 1, proxy.dispatched);
+            assertTrue(proxy.name, proxy.committed);
+            assertEquals(proxy.name, result.get(indexOf(result, proxy.name), RESULT, NAME).asString());
+        }
+    }
+
+    private static int indexOf(final ModelNode result, final String proxy) {
+        final List<ModelNode> items = result.asList();
+        for (int i = 0; i < items.size(); i++) {
+            if (PathAddress.pathAddress(items.get(i).get(OP_ADDR)).getLastElement().getValue().equals(proxy)) {
+                return i;
+            }
+        }
+        throw new AssertionError("No result for " + proxy + " in " + result);
+    }
+
+    @Override
+    protected void initModel(ManagementModel managementModel) {
+        ManagementResourceRegistration registration = managementModel.getRootResourceRegistration();
+        GlobalOperationHandlers.registerGlobalOperations(registration, processType);
+        GlobalNotifications.registerGlobalNotifications(registration, processType);
+
+        for (RecordingProxyController proxy : new RecordingProxyController[] {proxyA, proxyB, proxyC}) {
+            registration.registerProxyController(proxy.getProxyNodeAddress().getLastElement(), proxy);
+            managementModel.getRootResource().registerChild(proxy.getProxyNodeAddress().getLastElement(), Resource.Factory.create());
+        }
+
+        registration.registerOperationHandler(TestUtils.SETUP_OPERATION_DEF, new OperationStepHandler() {
+            @Override
+            public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                // no-op; just satisfy the test infrastructure's desire for an op
+            }
+        });
+    }
+
+    private class RecordingProxyController implements ProxyController {
+
+        private final String name;
+        private final PathAddress address;
+        private volatile int dispatched;
+        private volatile boolean prepared;
+        private volatile boolean cancelled;
+        private volatile boolean committed;
+        private volatile boolean rolledBack;
+
+        RecordingProxyController(final String name) {
+            this.name = name;
+            this.address = PathAddress.pathAddress(PathElement.pathElement("proxy", name));
+        }
+
+        @Override
+        public PathAddress getProxyNodeAddress() {
+            return address;
+        }
+
+        @Override
+        public void execute(ModelNode operation, OperationMessageHandler handler, ProxyOperationControl control, OperationAttachments attachments, BlockingTimeout blockingTimeout) {
+            dispatch(operation, handler, control, attachments, blockingTimeout).complete();
+        }
+
+        @Override
+        public DispatchedOperation dispatch(ModelNode operation, OperationMessageHandler handler, final ProxyOperationControl control, OperationAttachments attachments, BlockingTimeout blockingTimeout) {
+            dispatched++;
+            events.add("dispatch " + name);
+            return new DispatchedOperation() {
+                @Override
+                public void complete() {
+                    prepared = true;
+                    events.add("prepared " + name);
+                    final ModelNode response = new ModelNode();
+                    if (failFirstPrepare.compareAndSet(true, false)) {
+                        response.get(OUTCOME).set(FAILED);
+                        response.get(FAILURE_DESCRIPTION).set("failed " + name);
+                    } else {
+                        response.get(OUTCOME).set(SUCCESS);
+                        response.get(RESULT, NAME).set(name);
+                    }
+                    control.operationPrepared(new ModelController.OperationTransaction() {
+                        @Override
+                        public void commit() {
+                            committed = true;
+                            control.operationCompleted(OperationResponse.Factory.createSimple(response));
+                        }
+
+                        @Override
+                        public void rollback() {
+                            rolledBack = true;
+                            control.operationCompleted(OperationResponse.Factory.createSimple(response));
+                        }
+                    }, response);
+                }
+
+                @Override
+                public void cancel() {
+                    // The proxied process rolls back on its own
+                    cancelled = true;
+                    rolledBack = true;
+                    events.add("cancel " + name);
+                }
+            };
+        }
+    }
+
+    private class DiscardingProxyController extends RecordingProxyController implements TransformingProxyController {
+
+        private volatile boolean discard;
+
+        DiscardingProxyController(final String name) {
+            super(name);
+        }
+
+        @Override
+        public TransactionalProtocolClient getProtocolClient() {
+            return null;
+        }
+
+        @Override
+        public Transformers getTransformers() {
+            return null;
+        }
+
+        @Override
+        public OperationTransformer.TransformedOperation transformOperation(OperationContext context, ModelNode operation) {
+            return new OperationTransformer.TransformedOperation(discard ? null : operation, OperationResultTransformer.ORIGINAL_RESULT);
+        }
+
+        @Override
+        public OperationTransformer.TransformedOperation transformOperation(Transformers.TransformationInputs parameters, ModelNode operation) {
+            return transformOperation((OperationContext) null, operation);
+        }
+    }
+}
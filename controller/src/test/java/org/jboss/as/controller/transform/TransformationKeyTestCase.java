@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests of when {@link Transformers#getOperationTransformationKey()} allows sharing the transformation of an operation.
+ */
+public class TransformationKeyTestCase {
+
+    private final TransformerRegistry registry = TransformerRegistry.Factory.create();
+
+    @Test
+    public void testSameVersionDifferentHosts() {
+        assertEquals(key("a", ModelVersion.create(1, 7), subsystems("1.0"), Transformers.OperationExcludedTransformationRegistry.DEFAULT),
+                key("b", ModelVersion.create(1, 7), subsystems("1.0"), Transformers.OperationExcludedTransformationRegistry.DEFAULT));
+    }
+
+    @Test
+    public void testDifferentVersions() {
+        assertNotEquals(key("a", ModelVersion.create(1, 7), subsystems("1.0"), Transformers.OperationExcludedTransformationRegistry.DEFAULT),
+                key("b", ModelVersion.create(1, 8), subsystems("1.0"), Transformers.OperationExcludedTransformationRegistry.DEFAULT));
+        assertNotEquals(key("a", ModelVersion.create(1, 7), subsystems("1.0"), Transformers.OperationExcludedTransformationRegistry.DEFAULT),
+                key("b", ModelVersion.create(1, 7), subsystems("1.1"), Transformers.OperationExcludedTransformationRegistry.DEFAULT));
+    }
+
+    @Test
+    public void testExclusions() {
+        Transformers.OperationExcludedTransformationRegistry excluding = (address, operationName) -> true;
+        assertNotEquals(key("a", ModelVersion.create(1, 7), subsystems("1.0"), Transformers.OperationExcludedTransformationRegistry.DEFAULT),
+                key("b", ModelVersion.create(1, 7), subsystems("1.0"), excluding));
+
+        Transformers.OperationExcludedTransformationRegistry sameAsExcluding = new Transformers.OperationExcludedTransformationRegistry() {
+            @Override
+            public boolean isOperationExcluded(PathAddress address, String operationName) {
+                return true;
+            }
+
+            @Override
+            public Object getExclusionKey() {
+                return excluding;
+            }
+        };
+        assertEquals(key("a", ModelVersion.create(1, 7), subsystems("1.0"), excluding),
+                key("b", ModelVersion.create(1, 7), subsystems("1.0"), sameAsExcluding));
+    }
+
+    @Test
+    public void testTargetIndependentTransformations() throws Exception {
+        ModelNode operation = new ModelNode();
+        assertTrue(new OperationTransformer.TransformedOperation(operation, OperationResultTransformer.ORIGINAL_RESULT).isTargetIndependent());
+        assertTrue(OperationTransformer.DISCARD.transformOperation(null, PathAddress.EMPTY_ADDRESS, operation).isTargetIndependent());
+
+        OperationRejectionPolicy rejecting = new OperationRejectionPolicy() {
+            @Override
+            public boolean rejectOperation(ModelNode preparedResult) {
+                return true;
+            }
+
+            @Override
+            public String getFailureDescription() {
+                return "rejected by host a";
+            }
+        };
+        assertFalse(new OperationTransformer.TransformedOperation(operation, rejecting, OperationResultTransformer.ORIGINAL_RESULT).isTargetIndependent());
+        assertFalse(new OperationTransformer.TransformedOperation(operation, result -> result).isTargetIndependent());
+        assertFalse(new OperationTransformer.TransformedOperation(operation, OperationResultTransformer.ORIGINAL_RESULT) {
+            @Override
+            public boolean rejectOperation(ModelNode preparedResult) {
+                return true;
+            }
+        }.isTargetIndependent());
+    }
+
+    private Object key(String hostName, ModelVersion version, Map<PathAddress, ModelVersion> subsystems,
+                       Transformers.OperationExcludedTransformationRegistry excluded) {
+        TransformationTarget target = TransformationTargetImpl.createForHost(hostName, registry, version, subsystems, excluded);
+        return Transformers.Factory.create(target).getOperationTransformationKey();
+    }
+
+    private static Map<PathAddress, ModelVersion> subsystems(String version) {
+        return Collections.singletonMap(PathAddress.pathAddress(PathElement.pathElement("subsystem", "test")), ModelVersion.fromString(version));
+    }
+}
@@ -42,6 +42,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import org.jboss.as.repository.logging.DeploymentRepositoryLogger;
@@ -143,6 +146,25 @@ public interface ContentRepository {
      */
     Map<String, Set<String>> cleanObsoleteContent();
 
+    /**
+     * Gets the total size of the content stored in the repository.
+     *
+     * @return the size in bytes, or {@code -1} if the repository does not track it
+     */
+    default long getRepositorySize() {
+        return -1L;
+    }
+
+    /**
+     * Gets the size of the unreferenced content found by the last {@link #cleanObsoleteContent() cleanup} that is
+     * waiting to be removed.
+     *
+     * @return the size in bytes, or {@code -1} if the repository does not track it
+     */
+    default long getReclaimableSize() {
+        return -1L;
+    }
+
     static class Factory {
         /**
          * For testing purpose only.
@@ -150,6 +172,14 @@ public interface ContentRepository {
          */
         @Deprecated
         private static final String UNSUPPORTED_PROPERTY = "org.wildfly.unsupported.content.repository.obsolescence";
+        /**
+         * Interval in ms between two cleanups that list the whole repository. The cleanups in between only look at
+         * content that was added or has lost its references since.
+         */
+        private static final String FULL_SCAN_INTERVAL_PROPERTY = "org.jboss.as.repository.full-scan-interval";
+        private static final long FULL_SCAN_INTERVAL = getSecurityManager() == null ? getLong(FULL_SCAN_INTERVAL_PROPERTY, 3600000L) : doPrivileged((PrivilegedAction<Long>) () -> getLong(FULL_SCAN_INTERVAL_PROPERTY, 3600000L));
+        private static final int LOCK_STRIPES = 64;
+
         public static void addService(final ServiceTarget serviceTarget, final File repoRoot) {
             ContentRepositoryImpl contentRepository = new ContentRepositoryImpl(repoRoot, OBSOLETE_CONTENT_TIMEOUT);
             serviceTarget.addService(SERVICE_NAME, contentRepository).install();
@@ -173,9 +203,16 @@ public interface ContentRepository {
             protected static final String CONTENT = "content";
             private final File repoRoot;
             protected final MessageDigest messageDigest;
-            private final Map<String, Set<ContentReference>> contentHashReferences = new HashMap<String, Set<ContentReference>>();
-            private final Map<String, Long> obsoleteContents = new HashMap<String, Long>();
+            // References and cleanup decisions for a hash are guarded by the lock stripe of that hash
+            private final ConcurrentMap<String, Set<ContentReference>> contentHashReferences = new ConcurrentHashMap<String, Set<ContentReference>>();
+            private final Object[] referenceLocks = new Object[LOCK_STRIPES];
+            // Unreferenced content the next cleanup has to look at
+            private final ConcurrentMap<String, ContentReference> orphanCandidates = new ConcurrentHashMap<String, ContentReference>();
+            private final Map<String, Long> obsoleteContents = new ConcurrentHashMap<String, Long>();
             private final long obsolescenceTimeout;
+            private final AtomicLong repositorySize = new AtomicLong();
+            private volatile long reclaimableSize;
+            private volatile long lastFullScan;
 
             protected ContentRepositoryImpl(final File repoRoot, long obsolescenceTimeout) {
                 if (repoRoot == null) {
@@ -192,6 +229,9 @@ public interface ContentRepository {
                 }
                 this.repoRoot = repoRoot;
                 this.obsolescenceTimeout = obsolescenceTimeout;
+                for (int i = 0; i < referenceLocks.length; i++) {
+                    referenceLocks[i] = new Object();
+                }
                 try {
                     this.messageDigest = MessageDigest.getInstance("SHA-1");
                 } catch (NoSuchAlgorithmException e) {
@@ -234,15 +274,21 @@ public interface ContentRepository {
                     DeploymentRepositoryLogger.ROOT_LOGGER.debugf("Content was already present in repository at location %s", realFile.toAbsolutePath().toString());
                 } else {
                     moveTempToPermanent(tmp, realFile);
+                    repositorySize.addAndGet(contentSize(realFile));
                     DeploymentRepositoryLogger.ROOT_LOGGER.contentAdded(realFile.toAbsolutePath().toString());
                 }
+                final String hexHash = HashUtil.bytesToHexString(sha1Bytes);
+                if (!contentHashReferences.containsKey(hexHash)) {
+                    // Uploaded content that never gets referenced must be cleaned like any other orphan
+                    orphanCandidates.putIfAbsent(hexHash, new ContentReference(realFile.getParent().toAbsolutePath().toString(), hexHash));
+                }
 
                 return sha1Bytes;
             }
 
             @Override
             public void addContentReference(ContentReference reference) {
-                synchronized (contentHashReferences) {
+                synchronized (getReferenceLock(reference.getHexHash())) {
                     Set<ContentReference> references = contentHashReferences.get(reference.getHexHash());
                     if (references == null) {
                         references = new HashSet<ContentReference>();
@@ -252,6 +298,10 @@ public interface ContentRepository {
                 }
             }
 
+            private Object getReferenceLock(String hexHash) {
+                return referenceLocks[(hexHash.hashCode() & 0x7fffffff) % referenceLocks.length];
+            }
+
             @Override
             public VirtualFile getContent(byte[] hash) {
                 if (hash == null) {
@@ -353,7 +403,7 @@ public interface ContentRepository {
 
             @Override
             public void removeContent(ContentReference reference) {
-                synchronized (contentHashReferences) {
+                synchronized (getReferenceLock(reference.getHexHash())) {
                     final Set<ContentReference> references = contentHashReferences.get(reference.getHexHash());
                     if (references != null) {
                         references.remove(reference);
@@ -362,8 +412,14 @@ public interface ContentRepository {
                         }
                         contentHashReferences.remove(reference.getHexHash());
                     }
+                    // Deleting with the stripe held keeps a concurrent addContentReference from seeing the content vanish
+                    deleteContent(reference);
                 }
+            }
 
+            private void deleteContent(ContentReference reference) {
+                orphanCandidates.remove(reference.getHexHash());
+                obsoleteContents.remove(reference.getHexHash());
                 Path file;
                 if (!HashUtil.isEachHexHashInTable(reference.getHexHash())) {
                     String identifier = reference.getContentIdentifier();
@@ -372,7 +428,10 @@ public interface ContentRepository {
                     file = getDeploymentContentFile(reference.getHash(), true);
 
                 try {
-                    Files.deleteIfExists(file);
+                    final long size = contentSize(file);
+                    if (Files.deleteIfExists(file)) {
+                        repositorySize.addAndGet(-size);
+                    }
                 } catch (IOException ex) {
                     DeploymentRepositoryLogger.ROOT_LOGGER.contentDeletionError(ex, file.toString());
                 }
@@ -397,6 +456,11 @@ public interface ContentRepository {
              * Clean obsolete contents from the content repository.
              * It will first mark contents as obsolete then after some time if these contents are still obsolete they
              * will be removed.
+             * <p>
+             * Only the orphan candidates, content that was added without a reference or found unreferenced by a
+             * previous pass, are examined. The whole repository is listed on the first pass and then every
+             * {@code org.jboss.as.repository.full-scan-interval} ms, to pick up content written to the repository
+             * directory by other means.
              *
              * @return a map containing the list of marked contents and the list of deleted contents.
              */
@@ -405,22 +469,60 @@ public interface ContentRepository {
                 Map<String, Set<String>> cleanedContents = new HashMap<String, Set<String>>(2);
                 cleanedContents.put(MARKED_CONTENT, new HashSet<String>());
                 cleanedContents.put(DELETED_CONTENT, new HashSet<String>());
-                synchronized (contentHashReferences) {
+                final long now = System.currentTimeMillis();
+                if (lastFullScan == 0L || lastFullScan + FULL_SCAN_INTERVAL <= now) {
+                    long size = 0L;
                     for (ContentReference fsContent : listLocalContents()) {
+                        size += contentSize(Paths.get(fsContent.getContentIdentifier()));
                         if (!contentHashReferences.containsKey(fsContent.getHexHash())) { //We have no refrence to this content
-                            if(markAsObsolete(fsContent)) {
-                                cleanedContents.get(DELETED_CONTENT).add(fsContent.getContentIdentifier());
-                            } else {
-                                cleanedContents.get(MARKED_CONTENT).add(fsContent.getContentIdentifier());
-                            }
+                            orphanCandidates.putIfAbsent(fsContent.getHexHash(), fsContent);
+                        }
+                    }
+                    repositorySize.set(size);
+                    lastFullScan = now;
+                }
+                long reclaimable = 0L;
+                for (ContentReference candidate : orphanCandidates.values()) {
+                    final String hexHash = candidate.getHexHash();
+                    synchronized (getReferenceLock(hexHash)) {
+                        final Path path = Paths.get(candidate.getContentIdentifier());
+                        if (contentHashReferences.containsKey(hexHash) || !Files.exists(path)) {
+                            orphanCandidates.remove(hexHash);
+                            obsoleteContents.remove(hexHash); //Remove existing references from obsoleteContents
+                        } else if (markAsObsolete(candidate)) {
+                            cleanedContents.get(DELETED_CONTENT).add(candidate.getContentIdentifier());
                         } else {
-                            obsoleteContents.remove(fsContent.getHexHash()); //Remove existing references from obsoleteContents
+                            cleanedContents.get(MARKED_CONTENT).add(candidate.getContentIdentifier());
+                            reclaimable += contentSize(path);
                         }
                     }
                 }
+                reclaimableSize = reclaimable;
                 return cleanedContents;
             }
 
+            @Override
+            public long getRepositorySize() {
+                return repositorySize.get();
+            }
+
+            @Override
+            public long getReclaimableSize() {
+                return reclaimableSize;
+            }
+
+            /**
+             * Gets the size of a content file, or of the content file of a hash directory.
+             */
+            private static long contentSize(Path path) {
+                final Path file = Files.isDirectory(path) ? path.resolve(CONTENT) : path;
+                try {
+                    return Files.isRegularFile(file) ? Files.size(file) : 0L;
+                } catch (IOException ex) {
+                    return 0L;
+                }
+            }
+
             /**
              * Mark content as obsolete. If content was already marked for obsolescenceTimeout ms then it is removed.
              *
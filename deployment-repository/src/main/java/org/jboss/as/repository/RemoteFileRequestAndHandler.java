@@ -31,7 +31,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Executor;
 
@@ -51,16 +53,28 @@ import org.jboss.logging.BasicLogger;
  */
 public abstract class RemoteFileRequestAndHandler {
 
+    private static final int BUFFER_SIZE = 65536;
+
     private final RemoteFileProtocolIdMapper protocol;
     private final Executor asyncExecutor;
+    private final TransferLimiter transferLimiter;
 
     protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol) {
         this(protocol, null);
     }
 
     protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol, Executor asyncExecutor) {
+        this(protocol, asyncExecutor, null);
+    }
+
+    /**
+     * @param transferLimiter limiter shared by all handlers serving the same peers, or {@code null} if the number of
+     *                        concurrent transfers should not be limited
+     */
+    protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol, Executor asyncExecutor, TransferLimiter transferLimiter) {
         this.protocol = protocol;
         this.asyncExecutor = asyncExecutor;
+        this.transferLimiter = transferLimiter;
     }
 
     public void sendRequest(FlushableDataOutput output, byte rootId, String filePath) throws IOException{
@@ -133,25 +147,47 @@ public abstract class RemoteFileRequestAndHandler {
         expectHeader(input, protocol.paramFilePath());
         final String filePath = input.readUTF();
 
-        ManagementRequestContext.AsyncTask<Void> task = new ManagementRequestContext.AsyncTask<Void>() {
+        final ManagementRequestContext.AsyncTask<Void> task = new ManagementRequestContext.AsyncTask<Void>() {
             @Override
             public void execute(ManagementRequestContext<Void> context) throws RequestProcessingException, IOException {
-                final File localPath = reader.readRootFile(rootId, filePath);
-                FlushableDataOutput output = context.writeMessage(ManagementResponseHeader.create(context.getRequestHeader()));
                 try {
-                    writeResponse(localPath, output);
-                    output.close();
-                    resultHandler.done(null); // call stack (AsyncTaskRunner created by ManagementRequestContext) handles failures
+                    final File localPath = reader.readRootFile(rootId, filePath);
+                    FlushableDataOutput output = context.writeMessage(ManagementResponseHeader.create(context.getRequestHeader()));
+                    try {
+                        writeResponse(localPath, output);
+                        output.close();
+                        resultHandler.done(null); // call stack (AsyncTaskRunner created by ManagementRequestContext) handles failures
+                    } finally {
+                        StreamUtils.safeClose(output);
+                    }
                 } finally {
-                    StreamUtils.safeClose(output);
+                    if (transferLimiter != null) {
+                        transferLimiter.release();
+                    }
                 }
             }
         };
 
+        if (transferLimiter == null) {
+            executeAsync(task, context);
+        } else {
+            transferLimiter.acquire(new Runnable() {
+                @Override
+                public void run() {
+                    if (!executeAsync(task, context)) {
+                        // The task will never run, so it cannot release its slot
+                        transferLimiter.release();
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean executeAsync(final ManagementRequestContext.AsyncTask<Void> task, final ManagementRequestContext<Void> context) {
         if (asyncExecutor == null) {
-            context.executeAsync(task);
+            return context.executeAsync(task);
         } else {
-            context.executeAsync(task, asyncExecutor);
+            return context.executeAsync(task, asyncExecutor);
         }
     }
 
@@ -161,12 +197,14 @@ public abstract class RemoteFileRequestAndHandler {
             output.writeInt(-1);
         } else if (localPath.isFile()) {
             output.writeInt(1);
-            writeFile(localPath, localPath, output);
+            writeFile(localPath, localPath, output, new byte[BUFFER_SIZE]);
         } else {
             final List<File> childFiles = getChildFiles(localPath);
             output.writeInt(childFiles.size());
+            // One buffer for the whole response rather than one per file
+            final byte[] buffer = new byte[BUFFER_SIZE];
             for (File child : childFiles) {
-                writeFile(localPath, child, output);
+                writeFile(localPath, child, output, buffer);
             }
         }
     }
@@ -191,7 +229,7 @@ public abstract class RemoteFileRequestAndHandler {
         return child.getAbsolutePath().substring(parent.getAbsolutePath().length()+1);
     }
 
-    private void writeFile(final File localPath, final File file, final FlushableDataOutput output) throws IOException {
+    private void writeFile(final File localPath, final File file, final FlushableDataOutput output, final byte[] buffer) throws IOException {
         output.writeByte(protocol.fileStart());
         output.writeByte(protocol.paramFilePath());
         output.writeUTF(getRelativePath(localPath, file));
@@ -200,7 +238,6 @@ public abstract class RemoteFileRequestAndHandler {
         InputStream inputStream = null;
         try {
             inputStream = new FileInputStream(file);
-            byte[] buffer = new byte[8192];
             int len;
             while ((len = inputStream.read(buffer)) != -1) {
                 output.write(buffer, 0, len);
@@ -228,6 +265,67 @@ public abstract class RemoteFileRequestAndHandler {
         byte fileEnd();
     }
 
+    /**
+     * Bounds the number of files being sent concurrently. Requests beyond the limit are queued and served in arrival
+     * order as running transfers complete, without holding a thread while they wait.
+     */
+    public static final class TransferLimiter {
+
+        private final int maxConcurrentTransfers;
+        private final Deque<Runnable> queued = new ArrayDeque<Runnable>();
+        private int activeTransfers;
+
+        /**
+         * @param maxConcurrentTransfers the maximum number of concurrent transfers, {@code 0} or less for no limit
+         */
+        public TransferLimiter(final int maxConcurrentTransfers) {
+            this.maxConcurrentTransfers = maxConcurrentTransfers;
+        }
+
+        void acquire(final Runnable transfer) {
+            synchronized (this) {
+                if (maxConcurrentTransfers > 0 && activeTransfers >= maxConcurrentTransfers) {
+                    queued.add(transfer);
+                    return;
+                }
+                activeTransfers++;
+            }
+            transfer.run();
+        }
+
+        void release() {
+            final Runnable next;
+            synchronized (this) {
+                next = queued.poll();
+                if (next == null) {
+                    activeTransfers--;
+                }
+                // otherwise the slot is handed over to the next queued transfer
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+
+        /**
+         * Gets the number of transfers waiting for a slot.
+         *
+         * @return the number of queued transfers
+         */
+        public synchronized int getQueuedTransfers() {
+            return queued.size();
+        }
+
+        /**
+         * Gets the number of transfers currently in progress.
+         *
+         * @return the number of active transfers
+         */
+        public synchronized int getActiveTransfers() {
+            return activeTransfers;
+        }
+    }
+
     /**
      * Reads the root file being got
      */
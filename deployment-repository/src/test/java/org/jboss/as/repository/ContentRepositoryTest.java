@@ -323,6 +323,46 @@ public class ContentRepositoryTest {
 
     }
 
+    /**
+     * Test that content uploaded after the first cleanup is tracked without a new listing of the repository, and that
+     * referenced content is left alone.
+     */
+    @Test
+    public void testCleanUnreferencedUpload() throws Exception {
+        Map<String, Set<String>> result = repository.cleanObsoleteContent();
+        assertThat(result.get(ContentRepository.MARKED_CONTENT).size(), is(0));
+        assertThat(repository.getRepositorySize(), is(0L));
+        byte[] hash;
+        try (InputStream stream = getResourceAsStream("overlay.xhtml")) {
+            hash = repository.addContent(stream);
+        }
+        Path contentFile = rootDir.toPath().resolve("0c").resolve("40ffacd15b0f66d5081a93407d3ff5e3c65a71").resolve("content");
+        long size = Files.size(contentFile);
+        assertThat(repository.getRepositorySize(), is(size));
+
+        repository.addContentReference(new ContentReference("referenced", hash));
+        result = repository.cleanObsoleteContent();
+        assertThat(result.get(ContentRepository.MARKED_CONTENT).size(), is(0));
+        assertThat(repository.getReclaimableSize(), is(0L));
+
+        repository.removeContent(new ContentReference("referenced", hash));
+        assertThat(Files.exists(contentFile), is(false));
+        assertThat(repository.getRepositorySize(), is(0L));
+
+        try (InputStream stream = getResourceAsStream("overlay.xhtml")) {
+            repository.addContent(stream);
+        }
+        result = repository.cleanObsoleteContent(); //Mark content for deletion
+        assertThat(result.get(ContentRepository.MARKED_CONTENT).size(), is(1));
+        assertThat(repository.getReclaimableSize(), is(size));
+        Thread.sleep(10);
+        result = repository.cleanObsoleteContent();
+        assertThat(result.get(ContentRepository.DELETED_CONTENT).size(), is(1));
+        assertThat(Files.exists(contentFile), is(false));
+        assertThat(repository.getReclaimableSize(), is(0L));
+        assertThat(repository.getRepositorySize(), is(0L));
+    }
+
     private InputStream getResourceAsStream(final String name) throws IOException {
         final InputStream result = getClass().getClassLoader().getResourceAsStream(name);
         // If we're on Windows we want to replace the stream with one that ignores \r
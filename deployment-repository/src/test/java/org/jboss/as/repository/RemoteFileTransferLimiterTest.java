@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2016 Red Hat, inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package org.jboss.as.repository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.repository.RemoteFileRequestAndHandler.TransferLimiter;
+import org.junit.Test;
+
+/**
+ * Tests of {@link TransferLimiter}.
+ */
+public class RemoteFileTransferLimiterTest {
+
+    @Test
+    public void testQueuesBeyondLimit() {
+        final TransferLimiter limiter = new TransferLimiter(2);
+        final List<Integer> started = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final int transfer = i;
+            limiter.acquire(() -> started.add(transfer));
+        }
+        assertEquals(2, started.size());
+        assertEquals(2, limiter.getActiveTransfers());
+        assertEquals(2, limiter.getQueuedTransfers());
+
+        limiter.release();
+        assertEquals(3, started.size());
+        assertEquals(Integer.valueOf(2), started.get(2));
+        assertEquals(2, limiter.getActiveTransfers());
+        assertEquals(1, limiter.getQueuedTransfers());
+
+        limiter.release();
+        limiter.release();
+        assertEquals(4, started.size());
+        assertEquals(1, limiter.getActiveTransfers());
+        assertEquals(0, limiter.getQueuedTransfers());
+
+        limiter.release();
+        assertEquals(0, limiter.getActiveTransfers());
+    }
+
+    @Test
+    public void testUnlimited() {
+        final TransferLimiter limiter = new TransferLimiter(0);
+        final List<Integer> started = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int transfer = i;
+            limiter.acquire(() -> started.add(transfer));
+        }
+        assertEquals(100, started.size());
+        assertEquals(0, limiter.getQueuedTransfers());
+    }
+}
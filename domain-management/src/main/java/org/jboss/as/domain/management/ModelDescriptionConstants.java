@@ -39,17 +39,21 @@ public class ModelDescriptionConstants {
     public static final String CACHE = "cache";
     public static final String CACHE_FAILURES = "cache-failures";
     public static final String CACHE_SIZE = "cache-size";
+    public static final String CONNECTIONS_CLOSED = "connections-closed";
+    public static final String CONNECTIONS_CREATED = "connections-created";
     public static final String CONTAINS = "contains";
     public static final String DEBUG = "debug";
     public static final String DEFAULT_USER = "default-user";
     public static final String DEFAULT_DEFAULT_USER = "$local";
     public static final String DISTINGUISHED_NAME = "distinguished-name";
+    public static final String EVICTION_COUNT = "eviction-count";
     public static final String EVICTION_TIME = "eviction-time";
     public static final String FLUSH_CACHE = "flush-cache";
     public static final String FOLLOW = "follow";
     public static final String FOR_HOSTS = "for-hosts";
     public static final String GROUPS = "groups";
     public static final String HANDLES_REFERRALS_FOR = "handles-referrals-for";
+    public static final String HIT_COUNT = "hit-count";
     public static final String IDENTITY = "identity";
     public static final String IGNORE = "ignore";
     public static final String INITIAL_CONTEXT_FACTORY = "initial-context-factory";
@@ -68,10 +72,16 @@ public class ModelDescriptionConstants {
     public static final String MAPPED_ROLES = "mapped-roles";
     public static final String MAX_CACHE_SIZE = "max-cache-size";
     public static final String MECHANISM = "mechanism";
+    public static final String MISS_COUNT = "miss-count";
     public static final String NAME = "name";
     public static final String PASSWORD = "password";
     public static final String PATH = "path";
     public static final String PLUG_IN = "plug-in";
+    public static final String POOL_ACTIVE_COUNT = "pool-active-count";
+    public static final String POOL_IDLE_COUNT = "pool-idle-count";
+    public static final String POOL_IDLE_TIMEOUT = "pool-idle-timeout";
+    public static final String POOL_MAX_SIZE = "pool-max-size";
+    public static final String POOL_MIN_SIZE = "pool-min-size";
     public static final String PRINCIPAL = "principal";
     public static final String PROPERTY = "property";
     public static final String PROVIDER = "provider";
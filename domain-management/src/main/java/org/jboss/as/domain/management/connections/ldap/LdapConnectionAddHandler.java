@@ -25,6 +25,9 @@ package org.jboss.as.domain.management.connections.ldap;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.HANDLES_REFERRALS_FOR;
 import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.INITIAL_CONTEXT_FACTORY;
+import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.POOL_IDLE_TIMEOUT;
+import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.POOL_MAX_SIZE;
+import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.POOL_MIN_SIZE;
 import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.REFERRALS;
 import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.SEARCH_CREDENTIAL;
 import static org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.SEARCH_DN;
@@ -125,7 +128,12 @@ public class LdapConnectionAddHandler extends AbstractAddStepHandler {
             handlesReferralsForSet = Collections.emptySet();
         }
 
-        return connectionManagerService.setConfiguration(initialContextFactory, url, searchDn, searchCredential, referralHandling, handlesReferralsForSet);
+        int poolMaxSize = POOL_MAX_SIZE.resolveModelAttribute(context, model).asInt();
+        int poolMinSize = POOL_MIN_SIZE.resolveModelAttribute(context, model).asInt();
+        int poolIdleTimeout = POOL_IDLE_TIMEOUT.resolveModelAttribute(context, model).asInt();
+
+        return connectionManagerService.setConfiguration(initialContextFactory, url, searchDn, searchCredential, referralHandling, handlesReferralsForSet,
+                poolMaxSize, poolMinSize, poolIdleTimeout);
     }
 
 }
@@ -62,13 +62,17 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
     private volatile Config configuration;
     private volatile Hashtable<String, String> properties = new Hashtable<String, String>();
 
+    private final LdapConnectionPool connectionPool = new LdapConnectionPool();
+
     public LdapConnectionManagerService(final String name, final LdapConnectionManagerRegistry connectionManagerRegistry) {
         this.name = name;
         this.connectionManagerRegistry = connectionManagerRegistry;
     }
 
-    Config setConfiguration(final String initialContextFactory, final String url, final String searchDn, final String searchCredential, final ReferralHandling referralHandling, final Set<URI> referralURIs) {
-        Config configuration = new Config(initialContextFactory, url, searchDn, searchCredential, referralHandling, referralURIs);
+    Config setConfiguration(final String initialContextFactory, final String url, final String searchDn, final String searchCredential,
+            final ReferralHandling referralHandling, final Set<URI> referralURIs, final int poolMaxSize, final int poolMinSize, final int poolIdleTimeout) {
+        Config configuration = new Config(initialContextFactory, url, searchDn, searchCredential, referralHandling, referralURIs,
+                poolMaxSize, poolMinSize, poolIdleTimeout);
 
         try {
             return this.configuration;
@@ -107,6 +111,7 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
                 @Override
                 public void run() {
                     connectionManagerRegistry.removeLdapConnectionManagerService(name);
+                    connectionPool.closeIdle();
                     context.complete();
                 }
             });
@@ -173,7 +178,10 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
 
     @Override
     public DirContext getConnection() throws NamingException {
-        return getConnection(configuration);
+        final Config configuration = this.configuration;
+        final Hashtable<String, String> properties = this.properties;
+        return connectionPool.getConnection(configuration, properties,
+                () -> getConnection(getFullProperties(configuration, properties), getSSLContext(false)));
     }
 
     private DirContext getConnection(final Config configuration) throws NamingException {
@@ -281,7 +289,31 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
         return sslContext;
     }
 
+    /*
+     * Connection Pool Metrics
+     */
+
+    int getPoolActiveCount() {
+        return connectionPool.getActiveCount();
+    }
+
+    int getPoolIdleCount() {
+        return connectionPool.getIdleCount();
+    }
+
+    long getConnectionsCreated() {
+        return connectionPool.getCreatedCount();
+    }
+
+    long getConnectionsClosed() {
+        return connectionPool.getClosedCount();
+    }
+
     private Hashtable<String, String> getConnectionOnlyProperties(final Config configuration) {
+        return getConnectionOnlyProperties(configuration, properties);
+    }
+
+    private Hashtable<String, String> getConnectionOnlyProperties(final Config configuration, final Hashtable<String, String> properties) {
         final Hashtable<String, String> result = new Hashtable<String, String>(properties);
         result.put(Context.INITIAL_CONTEXT_FACTORY, configuration.initialContextFactory);
         result.put(Context.PROVIDER_URL, configuration.url);
@@ -290,7 +322,11 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
     }
 
     private Hashtable<String, String> getFullProperties(final Config configuration) {
-        final Hashtable<String, String> result = getConnectionOnlyProperties(configuration);
+        return getFullProperties(configuration, properties);
+    }
+
+    private Hashtable<String, String> getFullProperties(final Config configuration, final Hashtable<String, String> properties) {
+        final Hashtable<String, String> result = getConnectionOnlyProperties(configuration, properties);
         // These are no longer mandatory as the SSL identity of the server
         // could be used instead.
         if (configuration.searchDn != null) {
@@ -324,13 +360,17 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
 
     static class Config {
 
-        private Config(final String initialContextFactory, final String url, final String searchDn, final String searchCredential, final ReferralHandling referralHandling, final Set<URI> referralURIs) {
+        Config(final String initialContextFactory, final String url, final String searchDn, final String searchCredential, final ReferralHandling referralHandling, final Set<URI> referralURIs,
+                final int poolMaxSize, final int poolMinSize, final int poolIdleTimeout) {
             this.initialContextFactory = initialContextFactory;
             this.url = url;
             this.searchDn = searchDn;
             this.searchCredential = searchCredential;
             this.referralHandling = referralHandling;
             this.referralURIs = referralURIs;
+            this.poolMaxSize = poolMaxSize;
+            this.poolMinSize = poolMinSize;
+            this.poolIdleTimeout = poolIdleTimeout;
         }
 
         private Config(final String url, final Config config) {
@@ -340,6 +380,9 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
             this.searchCredential = config.searchCredential;
             this.referralHandling = config.referralHandling;
             this.referralURIs = config.referralURIs;
+            this.poolMaxSize = config.poolMaxSize;
+            this.poolMinSize = config.poolMinSize;
+            this.poolIdleTimeout = config.poolIdleTimeout;
         }
 
         private final String initialContextFactory;
@@ -348,6 +391,9 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
         private final String searchCredential;
         private final ReferralHandling referralHandling;
         private final Set<URI> referralURIs;
+        private final int poolMaxSize;
+        private final int poolMinSize;
+        private final int poolIdleTimeout;
         public String getInitialContextFactory() {
             return initialContextFactory;
         }
@@ -366,6 +412,15 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
         public Set<URI> getReferralURIs() {
             return referralURIs;
         }
+        public int getPoolMaxSize() {
+            return poolMaxSize;
+        }
+        public int getPoolMinSize() {
+            return poolMinSize;
+        }
+        public int getPoolIdleTimeout() {
+            return poolIdleTimeout;
+        }
     }
 
 }
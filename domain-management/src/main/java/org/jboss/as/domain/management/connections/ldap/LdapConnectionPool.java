@@ -0,0 +1,284 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.domain.management.connections.ldap;
+
+import static org.jboss.as.domain.management.logging.DomainManagementLogger.SECURITY_LOGGER;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.naming.CommunicationException;
+import javax.naming.NamingException;
+import javax.naming.ServiceUnavailableException;
+import javax.naming.directory.DirContext;
+
+import org.jboss.as.domain.management.connections.ldap.LdapConnectionManagerService.Config;
+
+/**
+ * A pool of the connections used to search LDAP, the connections used to verify the identity of a user are never pooled.
+ *
+ * Connections are validated each time they are borrowed from the pool. Idle connections above the minimum size of the pool
+ * are closed once they have been idle for longer than the idle timeout, this is checked each time a connection is borrowed
+ * rather than by a background thread. If every connection is in use a new connection is established for the caller and
+ * closed once the caller is finished with it, callers never wait for a connection to be returned as the caller may
+ * already hold a connection from this pool.
+ *
+ * Each connection is associated with the configuration and properties it was established with, connections established
+ * with a previous configuration are closed instead of being reused.
+ *
+ * @see LdapConnectionManagerService
+ */
+final class LdapConnectionPool {
+
+    interface ConnectionFactory {
+
+        DirContext create() throws NamingException;
+
+    }
+
+    /*
+     * The most recently returned connection first so the connections at the end are the ones idle the longest.
+     */
+    private final Deque<PooledConnection> idle = new ArrayDeque<PooledConnection>();
+    private int active;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    /**
+     * Obtain a connection for the configuration and properties specified, the connection is returned to the pool when it is
+     * closed.
+     *
+     * @param configuration - The configuration of the connection manager.
+     * @param properties - The properties the connection will be established with.
+     * @param factory - The factory to establish a new connection if no idle connection can be reused.
+     * @return The connection.
+     * @throws NamingException - If an error occurs establishing a new connection.
+     */
+    DirContext getConnection(final Config configuration, final Map<String, String> properties, final ConnectionFactory factory) throws NamingException {
+        while (true) {
+            final PooledConnection candidate;
+            final boolean reserved;
+            final List<PooledConnection> expired;
+            synchronized (this) {
+                expired = removeExpired(configuration, properties);
+                candidate = idle.pollFirst();
+                reserved = candidate != null || active + idle.size() < configuration.getPoolMaxSize();
+                if (reserved) {
+                    active++;
+                }
+            }
+            closeAll(expired);
+
+            if (candidate != null) {
+                if (isValid(candidate.context)) {
+                    SECURITY_LOGGER.trace("Reusing pooled LDAP connection.");
+                    candidate.returned = false;
+                    return candidate.proxy;
+                }
+                synchronized (this) {
+                    active--;
+                }
+                close(candidate);
+                continue;
+            }
+
+            final DirContext context;
+            try {
+                context = factory.create();
+            } catch (NamingException | RuntimeException e) {
+                if (reserved) {
+                    synchronized (this) {
+                        active--;
+                    }
+                }
+                throw e;
+            }
+            created.increment();
+            return new PooledConnection(context, reserved ? configuration : null, properties).proxy;
+        }
+    }
+
+    /**
+     * Close all idle connections, connections currently in use are closed once they are returned.
+     */
+    void closeIdle() {
+        final List<PooledConnection> toClose;
+        synchronized (this) {
+            toClose = new ArrayList<PooledConnection>(idle);
+            idle.clear();
+        }
+        closeAll(toClose);
+    }
+
+    synchronized int getActiveCount() {
+        return active;
+    }
+
+    synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    long getCreatedCount() {
+        return created.sum();
+    }
+
+    long getClosedCount() {
+        return closed.sum();
+    }
+
+    /*
+     * Must be called whilst holding the lock on the pool.
+     */
+    private List<PooledConnection> removeExpired(final Config configuration, final Map<String, String> properties) {
+        List<PooledConnection> expired = null;
+        final long now = System.nanoTime();
+        final long idleTimeout = TimeUnit.SECONDS.toNanos(configuration.getPoolIdleTimeout());
+        Iterator<PooledConnection> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledConnection current = it.next();
+            boolean stale = current.configuration != configuration || current.properties != properties;
+            if (stale || (now - current.idleSince >= idleTimeout && active + idle.size() > configuration.getPoolMinSize())) {
+                it.remove();
+                if (expired == null) {
+                    expired = new ArrayList<PooledConnection>();
+                }
+                expired.add(current);
+            }
+        }
+        return expired;
+    }
+
+    private void release(final PooledConnection connection) {
+        if (connection.returned) {
+            return;
+        }
+        connection.returned = true;
+        if (connection.configuration == null || connection.broken) {
+            if (connection.configuration != null) {
+                synchronized (this) {
+                    active--;
+                }
+            }
+            close(connection);
+            return;
+        }
+        connection.idleSince = System.nanoTime();
+        synchronized (this) {
+            active--;
+            idle.addFirst(connection);
+        }
+    }
+
+    private boolean isValid(final DirContext context) {
+        try {
+            // Read no attributes of the base entry, any response from the server shows the connection is still usable.
+            context.getAttributes("", new String[] { "1.1" });
+            return true;
+        } catch (CommunicationException | ServiceUnavailableException e) {
+            SECURITY_LOGGER.tracef(e, "Discarding pooled LDAP connection that failed validation.");
+            return false;
+        } catch (NamingException e) {
+            return true;
+        }
+    }
+
+    private void closeAll(final List<PooledConnection> connections) {
+        if (connections != null) {
+            for (PooledConnection current : connections) {
+                close(current);
+            }
+        }
+    }
+
+    private void close(final PooledConnection connection) {
+        closed.increment();
+        try {
+            connection.context.close();
+        } catch (NamingException e) {
+            SECURITY_LOGGER.tracef(e, "Unable to close LDAP connection.");
+        }
+    }
+
+    private final class PooledConnection implements InvocationHandler {
+
+        private final DirContext context;
+        private final DirContext proxy;
+        /*
+         * The configuration the connection was established with, or null if the connection is not part of the pool.
+         */
+        private final Config configuration;
+        private final Map<String, String> properties;
+
+        /*
+         * A connection is only used by one thread at a time.
+         */
+        private boolean returned;
+        private boolean broken;
+        private long idleSince;
+
+        private PooledConnection(final DirContext context, final Config configuration, final Map<String, String> properties) {
+            this.context = context;
+            this.configuration = configuration;
+            this.properties = properties;
+            proxy = (DirContext) Proxy.newProxyInstance(DirContext.class.getClassLoader(), new Class<?>[] { DirContext.class }, this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return method.invoke(context, args);
+                }
+            }
+            if ("close".equals(method.getName())) {
+                release(this);
+                return null;
+            }
+            try {
+                return method.invoke(context, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CommunicationException || cause instanceof ServiceUnavailableException) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+
+}
@@ -23,24 +23,34 @@
 package org.jboss.as.domain.management.connections.ldap;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LDAP_CONNECTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.common.ControllerResolver;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.operations.validation.URIValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.domain.management.ModelDescriptionConstants;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for a connection factory for an LDAP-based security store.
@@ -94,7 +104,49 @@ public class LdapConnectionResourceDefinition extends SimpleResourceDefinition {
             .setValidator(new URIValidator(true, true))
             .build();
 
-    public static final AttributeDefinition[] ATTRIBUTE_DEFINITIONS = {URL, SEARCH_DN, SEARCH_CREDENTIAL, SECURITY_REALM, INITIAL_CONTEXT_FACTORY, REFERRALS, HANDLES_REFERRALS_FOR};
+    public static final SimpleAttributeDefinition POOL_MAX_SIZE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.POOL_MAX_SIZE, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(0))
+            .setValidator(new IntRangeValidator(0, true, true))
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_MIN_SIZE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.POOL_MIN_SIZE, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(0))
+            .setValidator(new IntRangeValidator(0, true, true))
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_IDLE_TIMEOUT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.POOL_IDLE_TIMEOUT, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(300))
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .build();
+
+    public static final AttributeDefinition[] ATTRIBUTE_DEFINITIONS = {URL, SEARCH_DN, SEARCH_CREDENTIAL, SECURITY_REALM, INITIAL_CONTEXT_FACTORY, REFERRALS, HANDLES_REFERRALS_FOR,
+            POOL_MAX_SIZE, POOL_MIN_SIZE, POOL_IDLE_TIMEOUT};
+
+    /*
+     * Metrics
+     */
+
+    public static final SimpleAttributeDefinition POOL_ACTIVE_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.POOL_ACTIVE_COUNT, ModelType.INT)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_IDLE_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.POOL_IDLE_COUNT, ModelType.INT)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final SimpleAttributeDefinition CONNECTIONS_CREATED = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CONNECTIONS_CREATED, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final SimpleAttributeDefinition CONNECTIONS_CLOSED = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CONNECTIONS_CLOSED, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition[] METRICS = {POOL_ACTIVE_COUNT, POOL_IDLE_COUNT, CONNECTIONS_CREATED, CONNECTIONS_CLOSED};
 
 
 
@@ -122,6 +174,37 @@ public class LdapConnectionResourceDefinition extends SimpleResourceDefinition {
 
         LdapConnectionWriteAttributeHandler writeHandler = new LdapConnectionWriteAttributeHandler();
         writeHandler.registerAttributes(resourceRegistration);
+
+        for (AttributeDefinition metric : METRICS) {
+            resourceRegistration.registerMetric(metric, PoolMetricsHandler.INSTANCE);
+        }
+    }
+
+    private static class PoolMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        private static final PoolMetricsHandler INSTANCE = new PoolMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            String name = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(LdapConnectionManagerService.ServiceUtil.createServiceName(name));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                // Leave the result undefined if the connection is not running.
+                return;
+            }
+
+            LdapConnectionManagerService service = LdapConnectionManagerService.class.cast(controller.getValue());
+            String attributeName = operation.require(NAME).asString();
+            if (ModelDescriptionConstants.POOL_ACTIVE_COUNT.equals(attributeName)) {
+                context.getResult().set(service.getPoolActiveCount());
+            } else if (ModelDescriptionConstants.POOL_IDLE_COUNT.equals(attributeName)) {
+                context.getResult().set(service.getPoolIdleCount());
+            } else if (ModelDescriptionConstants.CONNECTIONS_CREATED.equals(attributeName)) {
+                context.getResult().set(service.getConnectionsCreated());
+            } else if (ModelDescriptionConstants.CONNECTIONS_CLOSED.equals(attributeName)) {
+                context.getResult().set(service.getConnectionsClosed());
+            }
+        }
     }
 
     public enum ReferralHandling {
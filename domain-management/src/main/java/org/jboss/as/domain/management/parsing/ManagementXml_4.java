@@ -327,6 +327,21 @@ class ManagementXml_4 extends ManagementXml {
                         }
                         break;
                     }
+                    case POOL_MAX_SIZE: {
+                        requirePoolSupport(reader, i);
+                        LdapConnectionResourceDefinition.POOL_MAX_SIZE.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
+                    case POOL_MIN_SIZE: {
+                        requirePoolSupport(reader, i);
+                        LdapConnectionResourceDefinition.POOL_MIN_SIZE.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
+                    case POOL_IDLE_TIMEOUT: {
+                        requirePoolSupport(reader, i);
+                        LdapConnectionResourceDefinition.POOL_IDLE_TIMEOUT.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -359,6 +374,15 @@ class ManagementXml_4 extends ManagementXml {
         }
     }
 
+    /*
+     * The connection pool attributes were added in version 5.0 of the schema.
+     */
+    private void requirePoolSupport(final XMLExtendedStreamReader reader, final int index) throws XMLStreamException {
+        if (namespace.getMajorVersion() < 5) {
+            throw unexpectedAttribute(reader, index);
+        }
+    }
+
     private void parseLdapConnectionProperties(final XMLExtendedStreamReader reader, final ModelNode address, final List<ModelNode> list) throws XMLStreamException {
 
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
@@ -2266,6 +2290,9 @@ class ManagementXml_4 extends ManagementXml {
             LdapConnectionResourceDefinition.REFERRALS.marshallAsAttribute(connection, writer);
             LdapConnectionResourceDefinition.HANDLES_REFERRALS_FOR.getAttributeMarshaller()
                     .marshallAsAttribute(LdapConnectionResourceDefinition.HANDLES_REFERRALS_FOR, connection, true, writer);
+            LdapConnectionResourceDefinition.POOL_MAX_SIZE.marshallAsAttribute(connection, writer);
+            LdapConnectionResourceDefinition.POOL_MIN_SIZE.marshallAsAttribute(connection, writer);
+            LdapConnectionResourceDefinition.POOL_IDLE_TIMEOUT.marshallAsAttribute(connection, writer);
 
             if (connection.hasDefined(PROPERTY)) {
                 ModelNode properties = connection.get(PROPERTY);
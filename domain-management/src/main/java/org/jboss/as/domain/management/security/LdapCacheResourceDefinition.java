@@ -110,6 +110,24 @@ public class LdapCacheResourceDefinition extends SimpleResourceDefinition {
 
     // (Other options are, max size, min size, max age, min age, average age.
 
+    /*
+     * Metrics
+     */
+
+    public static final SimpleAttributeDefinition HIT_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.HIT_COUNT, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final SimpleAttributeDefinition MISS_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.MISS_COUNT, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final SimpleAttributeDefinition EVICTION_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.EVICTION_COUNT, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final SimpleAttributeDefinition[] METRICS = new SimpleAttributeDefinition[] { HIT_COUNT, MISS_COUNT, EVICTION_COUNT };
+
     /*
      * Runtime Operations
      */
@@ -232,6 +250,9 @@ public class LdapCacheResourceDefinition extends SimpleResourceDefinition {
         for (SimpleAttributeDefinition attr : runtimeAttributes) {
             resourceRegistration.registerReadOnlyAttribute(attr, runtimeStepHandler);
         }
+        for (SimpleAttributeDefinition metric : METRICS) {
+            resourceRegistration.registerMetric(metric, runtimeStepHandler);
+        }
     }
 
     @Override
@@ -287,6 +308,12 @@ public class LdapCacheResourceDefinition extends SimpleResourceDefinition {
                 LdapSearcherCache<?, K> ldapCacheService = lookupService(context, operation);
 
                 context.getResult().set(ldapCacheService.getCurrentSize());
+            } else if (ModelDescriptionConstants.HIT_COUNT.equals(name)) {
+                context.getResult().set(lookupService(context, operation).getHitCount());
+            } else if (ModelDescriptionConstants.MISS_COUNT.equals(name)) {
+                context.getResult().set(lookupService(context, operation).getMissCount());
+            } else if (ModelDescriptionConstants.EVICTION_COUNT.equals(name)) {
+                context.getResult().set(lookupService(context, operation).getEvictionCount());
             }
         }
 
@@ -24,18 +24,24 @@ package org.jboss.as.domain.management.security;
 import static org.jboss.as.domain.management.logging.DomainManagementLogger.SECURITY_LOGGER;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.naming.NamingException;
 
@@ -55,6 +61,12 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
 
     private static volatile int THREAD_COUNT = 1;
 
+    /*
+     * Upper bound on the number of one second buckets in the expiration wheel, entries expiring further away are
+     * revisited once per revolution.
+     */
+    private static final int MAX_WHEEL_SIZE = 1024;
+
     private final LdapSearcher<R, K> searcher;
     private volatile CacheMode mode;
     private volatile int evictionTime;
@@ -102,6 +114,19 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
 
     @Override
     public void start(final StartContext context) throws StartException {
+        /*
+         * This is only used to process the expiration wheel of the cache once a second, a single thread is all that is
+         * needed as the wheel never waits on a search.
+         */
+        if (evictionTime > 0 && mode != CacheMode.OFF) {
+            executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, String.format("LDAP Cache Eviction Thread (%d)", THREAD_COUNT++));
+                }
+            });
+        }
         switch (mode) {
             case OFF:
                 cacheImplementation = new NoCacheCache();
@@ -116,19 +141,6 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
                 // Should not actually hit this.
                 throw new IllegalStateException(String.format("Unknown cache mode '%s'", mode));
         }
-        /*
-         * This is only used to trigger evictions, if one eviction is stuck waiting for the lock on the table there is no point
-         * having many threads concurrently waiting on the same lock.
-         */
-        if (evictionTime > 0) {
-            executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
-
-                @Override
-                public Thread newThread(Runnable r) {
-                    return new Thread(r, String.format("LDAP Cache Eviction Thread (%d)", THREAD_COUNT++));
-                }
-            });
-        }
     }
 
     @Override
@@ -139,7 +151,7 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
                 @Override
                 public void run() {
                     try {
-                        cacheImplementation.clearAll();
+                        cacheImplementation.shutdown();
                         cacheImplementation = null;
                         if (executorService != null) {
                             // FIXME context.execute() should not be used for blocking tasks. Inject a scheduled executor
@@ -215,6 +227,11 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
         int count(Predicate<K> predicate);
 
         Set<K> currentKeys();
+
+        /**
+         * Clear the cache and stop any background eviction as the cache is no longer in use.
+         */
+        void shutdown();
     }
 
     private class NoCacheCache implements ExtendedLdapSearcherCache<R, K> {
@@ -232,10 +249,29 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
             return 0;
         }
 
+        @Override
+        public long getHitCount() {
+            return 0;
+        }
+
+        @Override
+        public long getMissCount() {
+            return 0;
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return 0;
+        }
+
         @Override
         public void clearAll() {
         }
 
+        @Override
+        public void shutdown() {
+        }
+
         @Override
         public void clear(K key) {
         }
@@ -267,78 +303,152 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
         protected final boolean cacheFailures;
         protected final int maxSize;
 
-        protected final LinkedHashMap<K, CacheEntry> theCache = new LinkedHashMap<K, CacheEntry>();
+        /*
+         * Searches only ever touch a single entry so the map is the only shared structure on the search path, entries
+         * that are not found are created outside of any lock and the first one to be added wins.
+         */
+        protected final ConcurrentMap<K, CacheEntry> theCache = new ConcurrentHashMap<K, CacheEntry>();
+
+        /*
+         * The entries in the order they were added, only maintained if the size of the cache is limited. Entries removed
+         * from the cache are only marked as dead and stay queued until they are polled or purged, the queue length is
+         * tracked separately as the size of the queue is not a constant time operation.
+         */
+        private final Queue<CacheEntry> order;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean purging = new AtomicBoolean();
+        private final ExpirationWheel expirations;
+        private final long origin = System.nanoTime();
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
 
         private BaseSearchCache(final int evictionTime, final boolean cacheFailures, final int maxSize) {
             this.evictionTime = evictionTime;
             this.cacheFailures = cacheFailures;
             this.maxSize = maxSize;
+            this.order = maxSize > 0 ? new ConcurrentLinkedQueue<CacheEntry>() : null;
+            if (evictionTime > 0) {
+                expirations = new ExpirationWheel(evictionTime);
+                expirations.future = executorService.scheduleAtFixedRate(expirations, 1, 1, TimeUnit.SECONDS);
+            } else {
+                expirations = null;
+            }
         }
 
         @Override
-        public int getCurrentSize() {
-            synchronized (theCache) {
-                return theCache.size();
+        public SearchResult<R> search(LdapConnectionHandler connectionHandler, final K key) throws IOException, NamingException {
+            final long now = now();
+            CacheEntry entry = theCache.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                // The expiration wheel only runs once a second, don't hand out an entry that should already be gone.
+                expire(entry);
+                entry = null;
+            }
+            if (entry == null) {
+                SECURITY_LOGGER.tracef("Entry for '%s' not found in cache.", key);
+                final CacheEntry created = new CacheEntry(key, expiryFrom(now));
+                entry = theCache.putIfAbsent(key, created);
+                if (entry == null) {
+                    added(created);
+                    entry = created;
+                } else {
+                    accessed(entry, now);
+                }
+            } else {
+                SECURITY_LOGGER.tracef("Cached entry for '%s' found in cache.", key);
+                accessed(entry, now);
             }
+            // The individual entry will handle it's own synchronization now.
+            return entry.getSearchResult(connectionHandler, key);
+        }
+
+        /**
+         * Called each time a search finds an existing entry.
+         *
+         * @param entry - The entry found by the search.
+         * @param now - The current time as returned by {@link #now()}.
+         */
+        protected abstract void accessed(CacheEntry entry, long now);
+
+        @Override
+        public int getCurrentSize() {
+            return theCache.size();
+        }
+
+        @Override
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return evictions.sum();
         }
 
         @Override
         public void clearAll() {
-            synchronized (theCache) {
-                Iterator<CacheEntry> it = theCache.values().iterator();
-                while (it.hasNext()) {
-                    CacheEntry current = it.next();
-                    current.cancelFuture();
-                    it.remove();
-                }
+            theCache.clear();
+            if (order != null) {
+                order.clear();
+                queued.set(0);
+            }
+            if (expirations != null) {
+                expirations.clear();
             }
             SECURITY_LOGGER.trace("Cleared whole cache.");
         }
 
+        @Override
+        public void shutdown() {
+            if (expirations != null) {
+                expirations.future.cancel(false);
+            }
+            clearAll();
+        }
+
         @Override
         public void clear(K key) {
-            synchronized (theCache) {
-                CacheEntry entry = theCache.remove(key);
-                if (entry != null) {
-                    entry.cancelFuture();
-                }
+            CacheEntry entry = theCache.remove(key);
+            if (entry != null) {
+                removed(entry);
             }
             SECURITY_LOGGER.tracef("Cleared entry from cache with key '%s'", key);
         }
 
         @Override
         public void clear(Predicate<K> predicate) {
-            synchronized (theCache) {
-                Iterator<Entry<K, CacheEntry>> it = theCache.entrySet().iterator();
-                while (it.hasNext()) {
-                    Entry<K, CacheEntry> current = it.next();
-                    K key = current.getKey();
-                    if (predicate.matches(key)) {
-                        it.remove();
-                        current.getValue().cancelFuture();
-                        SECURITY_LOGGER.tracef("Cleared entry from cache with key '%s' based on predicate match.", key);
-                    }
+            Iterator<Entry<K, CacheEntry>> it = theCache.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry<K, CacheEntry> current = it.next();
+                K key = current.getKey();
+                if (predicate.matches(key) && theCache.remove(key, current.getValue())) {
+                    removed(current.getValue());
+                    SECURITY_LOGGER.tracef("Cleared entry from cache with key '%s' based on predicate match.", key);
                 }
             }
         }
 
         @Override
         public boolean contains(K key) {
-            synchronized (theCache) {
-                return theCache.containsKey(key);
-            }
+            CacheEntry entry = theCache.get(key);
+            return entry != null && !entry.isExpired(now());
         }
 
         @Override
         public int count(Predicate<K> predicate) {
             int count = 0;
-            synchronized (theCache) {
-                Iterator<K> it = theCache.keySet().iterator();
-                while (it.hasNext()) {
-                    K current = it.next();
-                    if (predicate.matches(current)) {
-                        count++;
-                    }
+            Iterator<K> it = theCache.keySet().iterator();
+            while (it.hasNext()) {
+                K current = it.next();
+                if (predicate.matches(current)) {
+                    count++;
                 }
             }
             return count;
@@ -349,30 +459,139 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
             return Collections.unmodifiableSet(theCache.keySet());
         }
 
+        /**
+         * The time in nanoseconds since this cache was created.
+         */
+        protected long now() {
+            return System.nanoTime() - origin;
+        }
+
+        protected long expiryFrom(final long now) {
+            return evictionTime > 0 ? now + TimeUnit.SECONDS.toNanos(evictionTime) : Long.MAX_VALUE;
+        }
+
+        private void added(final CacheEntry entry) {
+            if (expirations != null) {
+                expirations.schedule(entry);
+            }
+            if (order != null) {
+                order.offer(entry);
+                if (queued.incrementAndGet() > 2 * maxSize) {
+                    purgeDeadEntries();
+                }
+                evictIfAboveMaximumSize();
+            }
+        }
+
+        private void removed(final CacheEntry entry) {
+            // Expiry and the flush operations get here, removing the entry from the queue would be a linear scan so it is
+            // only marked, entries left in the expiration wheel are likewise discarded when their bucket is processed.
+            entry.dead = true;
+        }
+
+        private void purgeDeadEntries() {
+            if (purging.compareAndSet(false, true)) {
+                try {
+                    // The count only decides when to purge, so racing with concurrent offers and polls is harmless.
+                    int remaining = 0;
+                    Iterator<CacheEntry> it = order.iterator();
+                    while (it.hasNext()) {
+                        if (it.next().dead) {
+                            it.remove();
+                        } else {
+                            remaining++;
+                        }
+                    }
+                    queued.set(remaining);
+                } finally {
+                    purging.set(false);
+                }
+            }
+        }
+
+        private void evictIfAboveMaximumSize() {
+            boolean trace = SECURITY_LOGGER.isTraceEnabled();
+            while (theCache.size() > maxSize) {
+                CacheEntry eldest = order.poll();
+                if (eldest == null) {
+                    return;
+                }
+                if (eldest.dead) {
+                    // Already removed from the cache.
+                    queued.decrementAndGet();
+                } else if (eldest.accessed) {
+                    // Accessed since it was queued, give it a second chance.
+                    eldest.accessed = false;
+                    order.offer(eldest);
+                } else {
+                    queued.decrementAndGet();
+                    if (theCache.remove(eldest.key, eldest)) {
+                        eldest.dead = true;
+                        evictions.increment();
+                        if (trace) {
+                            SECURITY_LOGGER.tracef("Entry with key '%s' evicted from cache due to cache being above maximum size.",
+                                    eldest.key);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void expire(final CacheEntry entry) {
+            if (theCache.remove(entry.key, entry)) {
+                evictions.increment();
+                removed(entry);
+                SECURITY_LOGGER.tracef("Evicted entry with key '%s' due to eviction timeout.", entry.key);
+            }
+        }
+
         protected class CacheEntry {
 
+            private final K key;
+            private volatile long expiry;
+            /*
+             * Set when the entry is found by a search, used to approximate least recently used ordering when evicting.
+             */
+            private volatile boolean accessed;
+            /*
+             * Set once the entry is removed from the cache, it is then skipped by the eviction order.
+             */
+            private volatile boolean dead;
             private volatile NamingException failure;
             private volatile SearchResult<R> result;
-            private ScheduledFuture<?> future;
+
+            private CacheEntry(final K key, final long expiry) {
+                this.key = key;
+                this.expiry = expiry;
+            }
+
+            private boolean isExpired(final long now) {
+                return expiry <= now;
+            }
 
             public SearchResult<R> getSearchResult(LdapConnectionHandler connectionHandler, K key) throws IOException, NamingException {
                 if (failure != null) {
                     SECURITY_LOGGER.tracef("Using cached failure for search with key '%s'", key);
+                    hits.increment();
                     throw failure;
                 } else if (result != null) {
                     SECURITY_LOGGER.tracef("Using cached result for search with key '%s'", key);
+                    hits.increment();
                     return result;
                 }
 
                 synchronized (this) {
                     if (failure != null) {
                         SECURITY_LOGGER.tracef("Using cached failure for search with key '%s'", key);
+                        hits.increment();
                         throw failure;
                     } else if (result != null) {
                         SECURITY_LOGGER.tracef("Using cached result for search with key '%s'", key);
+                        hits.increment();
                         return result;
                     }
 
+                    misses.increment();
                     try {
                         R result = internalSearch(connectionHandler, key);
                         SECURITY_LOGGER.tracef("New search for entry with key '%s'", key);
@@ -386,29 +605,71 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
                     }
                 }
             }
+        }
 
-            /**
-             * Set the {@link ScheduledFuture} for the eviction of this entry.
-             *
-             * Note: This method should only be called by a {@link Thread} that has already obtained a lock to the cache.
-             *
-             * @param future - The {@link ScheduledFuture} for the eviction of this entry.
+        /**
+         * Hashed timer wheel with a one second tick, used instead of scheduling a task for the eviction of each entry.
+         *
+         * Each bucket holds the entries expiring in the same second modulo the size of the wheel. Entries are never
+         * moved when their expiry is extended, instead they are moved to the bucket of their current expiry when their
+         * original bucket is processed.
+         */
+        private class ExpirationWheel implements Runnable {
+
+            private final Queue<CacheEntry>[] buckets;
+            private final int mask;
+            private final long tick = TimeUnit.SECONDS.toNanos(1);
+            /*
+             * Only accessed by the eviction thread.
              */
-            public void setFuture(ScheduledFuture<?> future) {
-                this.future = future;
+            private long processed;
+            private ScheduledFuture<?> future;
+
+            @SuppressWarnings("unchecked")
+            private ExpirationWheel(final int evictionTime) {
+                int size = Integer.highestOneBit(Math.min(evictionTime, MAX_WHEEL_SIZE)) << 1;
+                buckets = new Queue[size];
+                for (int i = 0; i < size; i++) {
+                    buckets[i] = new ConcurrentLinkedQueue<CacheEntry>();
+                }
+                mask = size - 1;
             }
 
-            /**
-             * Cancel the {@link ScheduledFuture} for the eviction of this entry.
-             *
-             * This could be called either because the entry is being manually evicted from the cache or because eviction is
-             * being rescheduled.
-             *
-             * Note: This method should only be called by a {@link Thread} that has already obtained a lock to the cache.
-             */
-            public void cancelFuture() {
-                if (future != null) {
-                    future.cancel(true);
+            private void schedule(final CacheEntry entry) {
+                // Round up so an entry is never processed before it expires.
+                buckets[(int) (((entry.expiry + tick - 1) / tick) & mask)].offer(entry);
+            }
+
+            private void clear() {
+                for (Queue<CacheEntry> bucket : buckets) {
+                    bucket.clear();
+                }
+            }
+
+            @Override
+            public void run() {
+                final long now = now();
+                final long current = now / tick;
+                final long from = Math.max(processed + 1, current - mask);
+                final List<CacheEntry> due = new ArrayList<CacheEntry>();
+                for (long i = from; i <= current; i++) {
+                    Queue<CacheEntry> bucket = buckets[(int) (i & mask)];
+                    CacheEntry entry;
+                    while ((entry = bucket.poll()) != null) {
+                        due.add(entry);
+                    }
+                }
+                processed = current;
+                for (CacheEntry entry : due) {
+                    if (theCache.get(entry.key) != entry) {
+                        // Already removed from the cache.
+                        continue;
+                    }
+                    if (entry.isExpired(now)) {
+                        expire(entry);
+                    } else {
+                        schedule(entry);
+                    }
                 }
             }
         }
@@ -422,52 +683,8 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
         }
 
         @Override
-        public SearchResult<R> search(LdapConnectionHandler connectionHandler, final K key) throws IOException, NamingException {
-            CacheEntry entry = null;
-            synchronized (theCache) {
-                entry = theCache.get(key);
-                if (entry == null) {
-                    SECURITY_LOGGER.tracef("Entry for '%s' not found in cache.", key);
-                    entry = new CacheEntry();
-                    theCache.put(key, entry);
-                    if (maxSize > 0 && theCache.size() > maxSize) {
-                        boolean trace = SECURITY_LOGGER.isTraceEnabled();
-                        Iterator<Entry<K, CacheEntry>> it = theCache.entrySet().iterator();
-                        while (theCache.size() > maxSize) {
-                            Entry<K, CacheEntry> current = it.next();
-                            current.getValue().cancelFuture();
-                            it.remove();
-                            if (trace) {
-                                SECURITY_LOGGER.tracef(
-                                        "Entry with key '%s' evicted from cache due to cache being above maximum size.",
-                                        current.getKey());
-                            }
-                        }
-                    }
-                    if (evictionTime > 0) {
-                        entry.setFuture(executorService.schedule(new Runnable() {
-
-                            @Override
-                            public void run() {
-                                synchronized (theCache) {
-                                    CacheEntry entry = theCache.remove(key);
-                                    if (entry == null) {
-                                        SECURITY_LOGGER.tracef("Entry with key '%s' not in cache at time of timeout.", key);
-                                    } else {
-                                        SECURITY_LOGGER.tracef("Evicted entry with key '%s' due to eviction timeout.", key);
-                                    }
-                                }
-
-                            }
-                        }, evictionTime, TimeUnit.SECONDS));
-                    }
-                } else {
-                    SECURITY_LOGGER.tracef("Cached entry for '%s' found in cache.", key);
-                }
-
-            }
-            // The individual entry will handle it's own synchronization now.
-            return entry.getSearchResult(connectionHandler, key);
+        protected void accessed(CacheEntry entry, long now) {
+            // Neither the expiry or the eviction order depend on access.
         }
 
     }
@@ -479,53 +696,9 @@ class LdapCacheService<R, K> implements Service<LdapSearcherCache<R, K>> {
         }
 
         @Override
-        public SearchResult<R> search(LdapConnectionHandler connectionHandler, final K key) throws IOException, NamingException {
-            CacheEntry entry = null;
-            synchronized (theCache) {
-                // Always remove the cached entry so it can be re-added and moved to the end of the list.
-                entry = theCache.remove(key);
-                if (entry == null) {
-                    SECURITY_LOGGER.tracef("Entry for '%s' not found in cache.", key);
-                    entry = new CacheEntry();
-                    if (maxSize > 0 && theCache.size() + 1 > maxSize) {
-                        boolean trace = SECURITY_LOGGER.isTraceEnabled();
-                        Iterator<Entry<K, CacheEntry>> it = theCache.entrySet().iterator();
-                        while (theCache.size() + 1 > maxSize) {
-                            Entry<K, CacheEntry> current = it.next();
-                            current.getValue().cancelFuture();
-                            it.remove();
-                            if (trace) {
-                                SECURITY_LOGGER.tracef(
-                                        "Entry with key '%s' evicted from cache due to cache being above maximum size.",
-                                        current.getKey());
-                            }
-                        }
-                    }
-                } else {
-                    SECURITY_LOGGER.tracef("Cached entry for '%s' found in cache.", key);
-                }
-                theCache.put(key, entry);
-                if (evictionTime > 0) {
-                    entry.cancelFuture();
-                    entry.setFuture(executorService.schedule(new Runnable() {
-
-                        @Override
-                        public void run() {
-                            synchronized (theCache) {
-                                CacheEntry entry = theCache.remove(key);
-                                if (entry == null) {
-                                    SECURITY_LOGGER.tracef("Entry with key '%s' not in cache at time of timeout.", key);
-                                } else {
-                                    SECURITY_LOGGER.tracef("Evicted entry with key '%s' due to eviction timeout.", key);
-                                }
-                            }
-
-                        }
-                    }, evictionTime, TimeUnit.SECONDS));
-                }
-            }
-            // The individual entry will handle it's own synchronization now.
-            return entry.getSearchResult(connectionHandler, key);
+        protected void accessed(CacheEntry entry, long now) {
+            entry.expiry = expiryFrom(now);
+            entry.accessed = true;
         }
 
     }
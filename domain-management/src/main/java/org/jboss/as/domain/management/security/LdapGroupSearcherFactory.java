@@ -154,19 +154,24 @@ public class LdapGroupSearcherFactory {
                         filterString, Arrays.toString(searchParameter));
             }
             NamingEnumeration<SearchResult> searchResults = connectionHandler.getConnection().search(baseDn, filterString, searchParameter, searchControls);
-            if (trace && searchResults.hasMore() == false) {
-                SECURITY_LOGGER.trace("No search results found.");
-            }
-            while (searchResults.hasMore()) {
-                SearchResult current = searchResults.next();
-                Attributes attributes = current.getAttributes();
-                if (attributes != null) {
-                    LdapEntry newEntry = convertToLdapEntry(current, attributes, referralAddress);
-                    SECURITY_LOGGER.tracef("Adding %s", newEntry);
-                    foundEntries.add(newEntry);
-                } else {
-                    SECURITY_LOGGER.tracef("No attributes found for %s", current);
+            try {
+                if (trace && searchResults.hasMore() == false) {
+                    SECURITY_LOGGER.trace("No search results found.");
+                }
+                while (searchResults.hasMore()) {
+                    SearchResult current = searchResults.next();
+                    Attributes attributes = current.getAttributes();
+                    if (attributes != null) {
+                        LdapEntry newEntry = convertToLdapEntry(current, attributes, referralAddress);
+                        SECURITY_LOGGER.tracef("Adding %s", newEntry);
+                        foundEntries.add(newEntry);
+                    } else {
+                        SECURITY_LOGGER.tracef("No attributes found for %s", current);
+                    }
                 }
+            } finally {
+                // The connection may be returned to a pool, don't leave the search outstanding.
+                searchResults.close();
             }
 
             return foundEntries.toArray(new LdapEntry[foundEntries.size()]);
@@ -52,6 +52,21 @@ interface LdapSearcherCache<R, K> {
 
     int getCurrentSize();
 
+    /**
+     * @return The number of searches answered from the cache.
+     */
+    long getHitCount();
+
+    /**
+     * @return The number of searches that had to be performed against LDAP.
+     */
+    long getMissCount();
+
+    /**
+     * @return The number of entries removed from the cache because they expired or to keep the cache within its maximum size.
+     */
+    long getEvictionCount();
+
     void clearAll();
 
     void clear(K key);
@@ -0,0 +1,183 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.domain.management.connections.ldap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.List;
+
+import javax.naming.CommunicationException;
+import javax.naming.directory.DirContext;
+
+import org.jboss.as.domain.management.connections.ldap.LdapConnectionManagerService.Config;
+import org.jboss.as.domain.management.connections.ldap.LdapConnectionResourceDefinition.ReferralHandling;
+import org.junit.Test;
+
+/**
+ * Test case for the reuse of LDAP connections by {@link LdapConnectionPool}.
+ */
+public class LdapConnectionPoolTestCase {
+
+    private final LdapConnectionPool pool = new LdapConnectionPool();
+    private final Hashtable<String, String> properties = new Hashtable<String, String>();
+    private final List<TestConnection> connections = new ArrayList<TestConnection>();
+
+    @Test
+    public void testConnectionReused() throws Exception {
+        Config config = config(2, 0, 300);
+
+        DirContext first = pool.getConnection(config, properties, this::create);
+        first.close();
+        DirContext second = pool.getConnection(config, properties, this::create);
+
+        assertEquals(1, connections.size());
+        assertEquals(1, pool.getActiveCount());
+        assertEquals(0, pool.getIdleCount());
+        second.close();
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+        assertFalse(connections.get(0).closed);
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(0, pool.getClosedCount());
+    }
+
+    @Test
+    public void testOverflowConnectionsClosed() throws Exception {
+        Config config = config(1, 0, 300);
+
+        DirContext first = pool.getConnection(config, properties, this::create);
+        DirContext second = pool.getConnection(config, properties, this::create);
+        assertNotSame(first, second);
+        second.close();
+        assertTrue(connections.get(1).closed);
+        first.close();
+        assertFalse(connections.get(0).closed);
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(1, pool.getClosedCount());
+    }
+
+    @Test
+    public void testPoolingDisabled() throws Exception {
+        Config config = config(0, 0, 300);
+
+        pool.getConnection(config, properties, this::create).close();
+        pool.getConnection(config, properties, this::create).close();
+        assertEquals(2, connections.size());
+        assertTrue(connections.get(0).closed);
+        assertTrue(connections.get(1).closed);
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testInvalidConnectionDiscarded() throws Exception {
+        Config config = config(2, 0, 300);
+
+        pool.getConnection(config, properties, this::create).close();
+        connections.get(0).failing = true;
+        pool.getConnection(config, properties, this::create);
+
+        assertEquals(2, connections.size());
+        assertTrue(connections.get(0).closed);
+        assertEquals(1, pool.getActiveCount());
+    }
+
+    @Test
+    public void testBrokenConnectionNotReturned() throws Exception {
+        Config config = config(2, 0, 300);
+
+        DirContext context = pool.getConnection(config, properties, this::create);
+        connections.get(0).failing = true;
+        try {
+            context.search("", "(objectClass=*)", null);
+        } catch (CommunicationException expected) {
+        }
+        context.close();
+
+        assertTrue(connections.get(0).closed);
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    public void testIdleConnectionsExpire() throws Exception {
+        Config config = config(3, 1, 0);
+
+        DirContext first = pool.getConnection(config, properties, this::create);
+        DirContext second = pool.getConnection(config, properties, this::create);
+        first.close();
+        second.close();
+        assertEquals(2, pool.getIdleCount());
+
+        // Only the connection above the minimum size is closed.
+        pool.getConnection(config, properties, this::create);
+        assertEquals(2, connections.size());
+        assertEquals(1, pool.getClosedCount());
+        assertEquals(1, pool.getActiveCount());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testConfigurationChange() throws Exception {
+        pool.getConnection(config(2, 0, 300), properties, this::create).close();
+        pool.getConnection(config(2, 0, 300), properties, this::create);
+
+        assertEquals(2, connections.size());
+        assertTrue(connections.get(0).closed);
+    }
+
+    private Config config(int maxSize, int minSize, int idleTimeout) {
+        return new Config("factory", "ldap://localhost", null, null, ReferralHandling.IGNORE, Collections.emptySet(), maxSize, minSize, idleTimeout);
+    }
+
+    private DirContext create() {
+        TestConnection connection = new TestConnection();
+        connections.add(connection);
+        return (DirContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DirContext.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            connection.closed = true;
+                            return null;
+                        default:
+                            if (connection.failing) {
+                                throw new CommunicationException();
+                            }
+                            return null;
+                    }
+                });
+    }
+
+    private static class TestConnection {
+
+        private boolean closed;
+        private boolean failing;
+
+    }
+
+}
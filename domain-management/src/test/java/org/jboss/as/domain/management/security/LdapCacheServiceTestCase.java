@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.domain.management.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.NamingException;
+
+import org.jboss.msc.service.StopContext;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test case for the caching of LDAP searches by {@link LdapCacheService}.
+ */
+public class LdapCacheServiceTestCase {
+
+    private final CountingSearcher searcher = new CountingSearcher();
+    private LdapCacheService<String, String> service;
+
+    @After
+    public void stopService() {
+        if (service != null) {
+            // Only the methods used by the service to stop asynchronously are needed.
+            service.stop((StopContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { StopContext.class },
+                    (proxy, method, args) -> {
+                        if ("execute".equals(method.getName())) {
+                            ((Runnable) args[0]).run();
+                        }
+                        return null;
+                    }));
+        }
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        LdapSearcherCache<String, String> cache = start(LdapCacheService.createBySearchCacheService(searcher, 0, false, 0));
+
+        LdapSearcherCache.SearchResult<String> first = cache.search(null, "one");
+        assertEquals("one-1", first.getResult());
+        assertSame(first, cache.search(null, "one"));
+        cache.search(null, "two");
+
+        assertEquals(2, searcher.count.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(2, cache.getCurrentSize());
+
+        cache.clear("one");
+        assertFalse(cache.contains("one"));
+        assertEquals("one-3", cache.search(null, "one").getResult());
+    }
+
+    @Test
+    public void testBySearchEvictsOldest() throws Exception {
+        LdapSearcherCache<String, String> cache = start(LdapCacheService.createBySearchCacheService(searcher, 0, false, 2));
+
+        cache.search(null, "one");
+        cache.search(null, "two");
+        cache.search(null, "one");
+        cache.search(null, "three");
+
+        assertEquals(2, cache.getCurrentSize());
+        assertFalse(cache.contains("one"));
+        assertTrue(cache.contains("two"));
+        assertTrue(cache.contains("three"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testByAccessKeepsRecentlyUsed() throws Exception {
+        LdapSearcherCache<String, String> cache = start(LdapCacheService.createByAccessCacheService(searcher, 0, false, 2));
+
+        cache.search(null, "one");
+        cache.search(null, "two");
+        cache.search(null, "one");
+        cache.search(null, "three");
+
+        assertEquals(2, cache.getCurrentSize());
+        assertTrue(cache.contains("one"));
+        assertFalse(cache.contains("two"));
+        assertTrue(cache.contains("three"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testRemovedEntriesSkippedWhenEvicting() throws Exception {
+        LdapSearcherCache<String, String> cache = start(LdapCacheService.createBySearchCacheService(searcher, 0, false, 2));
+
+        // Enough removals to have the dead entries purged from the eviction order.
+        for (int i = 0; i < 10; i++) {
+            cache.search(null, "removed" + i);
+            cache.clear("removed" + i);
+        }
+        cache.search(null, "one");
+        cache.search(null, "two");
+        cache.clear("one");
+        cache.search(null, "three");
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.search(null, "four");
+        assertEquals(2, cache.getCurrentSize());
+        assertFalse(cache.contains("two"));
+        assertTrue(cache.contains("three"));
+        assertTrue(cache.contains("four"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testFailuresCached() throws Exception {
+        LdapSearcherCache<String, String> cache = start(LdapCacheService.createBySearchCacheService(searcher, 0, true, 0));
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.search(null, "fail");
+                fail("Expected NamingException");
+            } catch (NamingException expected) {
+            }
+        }
+        assertEquals(1, searcher.count.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        LdapSearcherCache<String, String> cache = start(LdapCacheService.createBySearchCacheService(searcher, 1, false, 0));
+
+        cache.search(null, "one");
+        assertTrue(cache.contains("one"));
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (cache.getCurrentSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, cache.getCurrentSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals("one-2", cache.search(null, "one").getResult());
+    }
+
+    private LdapSearcherCache<String, String> start(LdapCacheService<String, String> service) throws Exception {
+        this.service = service;
+        service.start(null);
+        return service.getValue();
+    }
+
+    private static class CountingSearcher implements LdapSearcher<String, String> {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public String search(LdapConnectionHandler connectionHandler, String key) throws IOException, NamingException {
+            int current = count.incrementAndGet();
+            if ("fail".equals(key)) {
+                throw new NamingException(key);
+            }
+            return key + "-" + current;
+        }
+
+    }
+
+}
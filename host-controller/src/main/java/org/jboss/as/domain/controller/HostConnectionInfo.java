@@ -34,6 +34,8 @@ public interface HostConnectionInfo {
     String ADDRESS = "address";
     String CONNECTED = "connected";
     String EVENTS = "events";
+    String PING_LATENCY = "ping-latency";
+    String SUSPICION_LEVEL = "suspicion-level";
     String TIMESTAMP = "timestamp";
     String TYPE = "type";
 
@@ -58,6 +60,26 @@ public interface HostConnectionInfo {
      */
     List<Event> getEvents();
 
+    /**
+     * Get the round trip time of the last successful ping of the host.
+     *
+     * @return the round trip time in milliseconds, or {@code -1} if not known
+     */
+    default long getPingLatency() {
+        return -1;
+    }
+
+    /**
+     * Get how strongly the host is suspected to have failed, based on how late it is with any message compared to the
+     * intervals between the messages received from it so far.
+     *
+     * @return the suspicion level, where {@code 1} means a 10% chance that the host is still alive, {@code 2} a 1% chance
+     *         and so on; or {@code -1} if not known
+     */
+    default double getSuspicionLevel() {
+        return -1;
+    }
+
     public interface Event {
 
         /**
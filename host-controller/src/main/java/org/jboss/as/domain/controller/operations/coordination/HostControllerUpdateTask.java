@@ -42,6 +42,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 
 import org.jboss.as.controller.OperationContext;
@@ -76,15 +77,25 @@ class HostControllerUpdateTask {
     private final OperationContext context;
     private final TransformingProxyController proxyController;
     private final Transformers.TransformationInputs transformationInputs;
+    private final Map<Object, SharedTransformation> sharedTransformations;
 
+    /**
+     * Creates a task sending an operation to a host.
+     *
+     * @param sharedTransformations the transformations of the operation already done for other hosts, keyed by
+     *                              {@link Transformers#getOperationTransformationKey() transformation key}. The
+     *                              operation must be the same for all of those hosts
+     */
     public HostControllerUpdateTask(final String name, final ModelNode operation, final OperationContext context,
                                     final TransformingProxyController proxyController,
-                                    final Transformers.TransformationInputs transformationInputs) {
+                                    final Transformers.TransformationInputs transformationInputs,
+                                    final Map<Object, SharedTransformation> sharedTransformations) {
         this.name = name;
         this.context = context;
         this.operation = operation;
         this.proxyController = proxyController;
         this.transformationInputs = transformationInputs;
+        this.sharedTransformations = sharedTransformations;
     }
 
     public ExecutedHostRequest execute(final ProxyOperationListener listener) {
@@ -95,7 +106,7 @@ class HostControllerUpdateTask {
         final SubsystemInfoOperationListener subsystemListener = new SubsystemInfoOperationListener(listener, proxyController.getTransformers());
         try {
 
-            final OperationTransformer.TransformedOperation transformationResult = proxyController.transformOperation(transformationInputs, operation);
+            final OperationTransformer.TransformedOperation transformationResult = transformOperation();
             final ModelNode transformedOperation = transformationResult.getTransformedOperation();
             final ProxyOperation proxyOperation = new ProxyOperation(name, transformedOperation, messageHandler, operationAttachments);
             try {
@@ -131,6 +142,49 @@ class HostControllerUpdateTask {
         }
     }
 
+    /**
+     * Transforms the operation, unless another host with the same transformation key already had it transformed, in
+     * which case this host gets a copy of the transformed operation. Only the operation is shared; the rejection
+     * policy and result transformer are this host's own. Hence the operation is transformed again for this host if the
+     * first transformation had a rejection policy or result transformer specific to its host.
+     */
+    private OperationTransformer.TransformedOperation transformOperation() throws OperationFailedException {
+        final Object key = proxyController.getTransformers().getOperationTransformationKey();
+        final SharedTransformation shared = sharedTransformations.get(key);
+        if (shared == null) {
+            final OperationTransformer.TransformedOperation transformed = proxyController.transformOperation(transformationInputs, operation);
+            sharedTransformations.put(key, new SharedTransformation(operation, transformed));
+            return transformed;
+        } else if (!shared.targetIndependent) {
+            return proxyController.transformOperation(transformationInputs, operation);
+        }
+        // Transforming also updates the original operation, e.g. its address, so do the same here
+        operation.set(shared.operation);
+        final ModelNode transformedOperation = shared.transformedOperation == null ? null : shared.transformedOperation.clone();
+        return new OperationTransformer.TransformedOperation(transformedOperation, OperationTransformer.DEFAULT_REJECTION_POLICY, shared.resultTransformer);
+    }
+
+    /**
+     * The operation as transformed for the first of the hosts with the same transformation key.
+     */
+    static final class SharedTransformation {
+
+        private final ModelNode operation;
+        private final ModelNode transformedOperation;
+        private final boolean targetIndependent;
+        private final OperationResultTransformer resultTransformer;
+
+        private SharedTransformation(final ModelNode operation, final OperationTransformer.TransformedOperation transformed) {
+            // Copied before the host they were transformed for adds its headers
+            this.operation = operation.clone();
+            final ModelNode transformedOperation = transformed.getTransformedOperation();
+            this.transformedOperation = transformedOperation == null ? null : transformedOperation.clone();
+            this.targetIndependent = transformed.isTargetIndependent();
+            // Only kept if it is one of the shared stateless result transformers
+            this.resultTransformer = targetIndependent ? transformed.getResultTransformer() : null;
+        }
+    }
+
     static class ProxyOperation extends TransactionalOperationImpl {
 
         private final String name;
@@ -38,6 +38,7 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -79,6 +80,15 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    private static final AttributeDefinition PING_LATENCY_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.PING_LATENCY, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition SUSPICION_LEVEL_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.SUSPICION_LEVEL, ModelType.DOUBLE, true)
+            .setStorageRuntime()
+            .build();
+
     private static final OperationDefinition PRUNE_EXPIRED_DEF = new SimpleOperationDefinitionBuilder("prune-expired", RESOLVER)
             .withFlag(OperationEntry.Flag.MASTER_HOST_CONTROLLER_ONLY)
             .build();
@@ -99,6 +109,8 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerReadOnlyAttribute(CONNECTION_DEF, attributeReadHandler);
         resourceRegistration.registerReadOnlyAttribute(EVENT_LIST, attributeReadHandler);
+        resourceRegistration.registerMetric(PING_LATENCY_DEF, attributeReadHandler);
+        resourceRegistration.registerMetric(SUSPICION_LEVEL_DEF, attributeReadHandler);
     }
 
     @Override
@@ -136,6 +148,18 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
                     case HostConnectionInfo.EVENTS:
                         processEvents(info, result.setEmptyList());
                         break;
+                    case HostConnectionInfo.PING_LATENCY:
+                        final long latency = info.getPingLatency();
+                        if (latency >= 0) {
+                            result.set(latency);
+                        }
+                        break;
+                    case HostConnectionInfo.SUSPICION_LEVEL:
+                        final double suspicion = info.getSuspicionLevel();
+                        if (suspicion >= 0) {
+                            result.set(suspicion);
+                        }
+                        break;
                 }
             }
         }
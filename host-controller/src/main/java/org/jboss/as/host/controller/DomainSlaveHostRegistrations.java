@@ -214,6 +214,16 @@ public class DomainSlaveHostRegistrations {
             return pinger;
         }
 
+        @Override
+        public long getPingLatency() {
+            return pinger != null && connected ? pinger.getPingLatency() : -1;
+        }
+
+        @Override
+        public double getSuspicionLevel() {
+            return pinger != null && connected ? pinger.getSuspicionLevel() : -1;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -34,10 +34,13 @@ import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOG
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.CurrentOperationIdHolder;
 import org.jboss.as.controller.PathAddress;
@@ -123,6 +126,11 @@ class ManagedServer {
     private volatile InternalState internalState = InternalState.STOPPED;
 
     private volatile int operationID = CurrentOperationIdHolder.getCurrentOperationID();
+    /** Waiting for the server to be stopped or failed, guarded by this */
+    private final List<CompletableFuture<ServerStatus>> stoppedWaiters = new ArrayList<>();
+    private final CompletableFuture<Void> removed = new CompletableFuture<>();
+    /** When the server was last asked to start or stop, used to log how long that took; guarded by this */
+    private long transitionRequested;
     private volatile ManagedServerBootConfiguration bootConfiguration;
 
     ManagedServer(final String hostControllerName, final String serverName, final String authKey,
@@ -246,6 +254,7 @@ class ManagedServer {
         operationID = CurrentOperationIdHolder.getCurrentOperationID();
         bootConfiguration = factory.createConfiguration();
         requiredState = InternalState.SERVER_STARTED;
+        transitionRequested = System.nanoTime();
         ROOT_LOGGER.startingServer(serverName);
         transition();
     }
@@ -257,6 +266,7 @@ class ManagedServer {
         final InternalState required = this.requiredState;
         if(required != InternalState.STOPPED) {
             this.requiredState = InternalState.STOPPED;
+            transitionRequested = System.nanoTime();
             ROOT_LOGGER.stoppingServer(serverName);
             // Only send the stop operation if the server is started
             if (internalState == InternalState.SERVER_STARTED) {
@@ -325,6 +335,32 @@ class ManagedServer {
         internalSetState(null, InternalState.STOPPED, InternalState.PROCESS_STOPPING);
     }
 
+    /**
+     * Get a future completed with the status of the server once it is either {@link ServerStatus#STOPPED stopped} or
+     * has {@link ServerStatus#FAILED failed}.
+     *
+     * @return the future, already completed if the server is not running
+     */
+    synchronized CompletableFuture<ServerStatus> getStoppedFuture() {
+        final ServerStatus status = getState();
+        if (status == ServerStatus.STOPPED || status == ServerStatus.FAILED) {
+            return CompletableFuture.completedFuture(status);
+        }
+        final CompletableFuture<ServerStatus> future = new CompletableFuture<>();
+        stoppedWaiters.add(future);
+        return future;
+    }
+
+    /**
+     * Get a future completed once the server process got removed from the process controller and this server from
+     * the inventory.
+     *
+     * @return the future
+     */
+    CompletableFuture<Void> getRemovedFuture() {
+        return removed;
+    }
+
     /**
      * Await a state.
      *
@@ -474,6 +510,7 @@ class ManagedServer {
      */
     void processRemoved() {
         finishTransition(InternalState.PROCESS_REMOVING, InternalState.STOPPED);
+        removed.complete(null);
     }
 
     private void transition() {
@@ -519,7 +556,7 @@ class ManagedServer {
                     break;
             }
             this.requiredState = InternalState.FAILED;
-            notifyAll();
+            stateChanged();
         }
     }
 
@@ -572,12 +609,32 @@ class ManagedServer {
                 ROOT_LOGGER.logf(DEBUG_LEVEL, e, "transition (%s > %s) failed for server \"%s\"", current, next, serverName);
                 transitionFailed(current, e);
             } finally {
-                notifyAll();
+                stateChanged();
             }
         }
         return false;
     }
 
+    /**
+     * Wake up the threads waiting for this server to reach a state.
+     */
+    private void stateChanged() {
+        assert Thread.holdsLock(this); // Call under lock
+        notifyAll();
+        final ServerStatus status = getState();
+        if (status == ServerStatus.STOPPED || status == ServerStatus.FAILED) {
+            for (final CompletableFuture<ServerStatus> waiter : stoppedWaiters) {
+                waiter.complete(status);
+            }
+            stoppedWaiters.clear();
+        }
+        if (transitionRequested != 0 && status != ServerStatus.STARTING && status != ServerStatus.STOPPING) {
+            ROOT_LOGGER.logf(DEBUG_LEVEL, "server (%s) reached state %s after %d ms", serverName, status,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - transitionRequested));
+            transitionRequested = 0;
+        }
+    }
+
     private TransitionTask getTransitionTask(final InternalState next) {
         switch (next) {
             case PROCESS_ADDING: {
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
@@ -38,6 +39,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
@@ -102,7 +104,8 @@ public class ServerInventoryImpl implements ServerInventory {
     private volatile CountDownLatch processInventoryLatch;
     private volatile Map<String, ProcessInfo> processInfos;
 
-    private final Object shutdownCondition = new Object();
+    /** Completed once the connection to the process controller is closed, to release anyone waiting on the servers. */
+    private final CompletableFuture<Void> connectionClosed = new CompletableFuture<>();
 
     ServerInventoryImpl(final DomainController domainController, final HostControllerEnvironment environment, final URI managementURI,
                         final ProcessControllerClient processControllerClient, final ExtensionRegistry extensionRegistry) {
@@ -200,9 +203,6 @@ public class ServerInventoryImpl implements ServerInventory {
         }
         // Start the server
         server.start(createBootFactory(serverName, domainModel));
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
         if(blocking) {
             // Block until the server started message
             server.awaitState(ManagedServer.InternalState.SERVER_STARTED);
@@ -221,21 +221,13 @@ public class ServerInventoryImpl implements ServerInventory {
     @Override
     public ServerStatus restartServer(final String serverName, final int gracefulTimeout, final ModelNode domainModel, final boolean blocking) {
         stopServer(serverName, gracefulTimeout);
-        synchronized (shutdownCondition) {
-            for(;;) {
-                if(shutdown || connectionFinished) {
-                    throw HostControllerLogger.ROOT_LOGGER.hostAlreadyShutdown();
-                }
-                if(! servers.containsKey(serverName)) {
-                    break;
-                }
-                try {
-                    shutdownCondition.wait();
-                } catch (InterruptedException e){
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
+        final ManagedServer server = servers.get(serverName);
+        if (server != null) {
+            // Wait for the process to be removed, the server gets replaced when it is started again
+            awaitOrConnectionClosed(server.getRemovedFuture());
+        }
+        if(shutdown || connectionFinished) {
+            throw HostControllerLogger.ROOT_LOGGER.hostAlreadyShutdown();
         }
         startServer(serverName, domainModel, blocking);
         return determineServerStatus(serverName);
@@ -284,9 +276,6 @@ public class ServerInventoryImpl implements ServerInventory {
         } else {
             server.removeServerProcess();
         }
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
@@ -339,34 +328,29 @@ public class ServerInventoryImpl implements ServerInventory {
             server.stop(currentOperationID == null ? -1 : currentOperationID, gracefulTimeout);
         }
         if(blockUntilStopped) {
-            synchronized (shutdownCondition) {
-                for(;;) {
-                    if(connectionFinished) {
-                        break;
-                    }
-                    int count = 0;
-                    for(final ManagedServer server : servers.values()) {
-                        final ServerStatus state = server.getState();
-                        switch (state) {
-                            case DISABLED:
-                            case FAILED:
-                            case STOPPED:
-                                break;
-                            default:
-                                count++;
-                        }
-                    }
-                    if(count == 0) {
-                        break;
-                    }
-                    try {
-                        shutdownCondition.wait();
-                    } catch(InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+            // Each server completes its own future once it stopped or failed, rather than everyone being woken
+            // up to recount all servers whenever any of them changes state
+            final List<CompletableFuture<ServerStatus>> stopped = new ArrayList<>();
+            for(final ManagedServer server : servers.values()) {
+                stopped.add(server.getStoppedFuture());
             }
+            awaitOrConnectionClosed(CompletableFuture.allOf(stopped.toArray(new CompletableFuture<?>[stopped.size()])));
+        }
+    }
+
+    /**
+     * Wait until the given future completes, or the connection to the process controller is closed.
+     *
+     * @param future the future to wait for
+     */
+    private void awaitOrConnectionClosed(final CompletableFuture<?> future) {
+        try {
+            CompletableFuture.anyOf(future, connectionClosed).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Neither future is completed exceptionally
+            throw new IllegalStateException(e.getCause());
         }
     }
 
@@ -509,18 +493,13 @@ public class ServerInventoryImpl implements ServerInventory {
         // always un-register in case the process exits
         domainController.unregisterRunningServer(server.getServerName());
         server.processFinished();
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
     public void connectionFinished() {
         this.connectionFinished = true;
         ROOT_LOGGER.debug("process controller connection closed.");
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
+        connectionClosed.complete(null);
     }
 
     @Override
@@ -532,9 +511,6 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.serverStarted(null);
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
@@ -546,9 +522,6 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.serverStartFailed();
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
@@ -560,9 +533,6 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.processAdded();
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
@@ -574,9 +544,6 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.processStarted();
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
@@ -588,9 +555,6 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.processRemoved();
-        synchronized (shutdownCondition) {
-            shutdownCondition.notifyAll();
-        }
     }
 
     @Override
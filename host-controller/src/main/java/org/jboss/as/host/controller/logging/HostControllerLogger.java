@@ -1303,5 +1303,9 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 181, value = "Host Controller shutdown has been requested via an OS signal")
     void shutdownHookInvoked();
 
+    @LogMessage(level = WARN)
+    @Message(id = 182, value = "Invalid value '%s' for system property %s; using the default value %s")
+    void invalidSystemPropertyValue(String value, String property, String defaultValue);
+
 
 }
@@ -63,4 +63,8 @@ public class DomainRemoteFileRequestAndHandler extends RemoteFileRequestAndHandl
         super(MAPPER, asyncExecutor);
     }
 
+    public DomainRemoteFileRequestAndHandler(Executor asyncExecutor, TransferLimiter transferLimiter) {
+        super(MAPPER, asyncExecutor, transferLimiter);
+    }
+
 }
@@ -41,6 +41,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SER
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SOCKET_BINDING_GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WILDCARD;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -268,6 +269,17 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         return false;
     }
 
+    @Override
+    public synchronized Object getExclusionKey() {
+        // Everything isOperationExcluded depends on
+        final boolean domainExcluding = ignoreUnaffectedConfig && !hostDeclaredIgnoreUnaffected && requiredConfigurationHolder != null;
+        if (!domainExcluding) {
+            return Arrays.asList(domainIgnoredExtensions);
+        }
+        return Arrays.asList(domainIgnoredExtensions, new HashSet<>(requiredConfigurationHolder.getProfiles()),
+                new HashSet<>(requiredConfigurationHolder.getServerGroups()), new HashSet<>(requiredConfigurationHolder.getSocketBindings()));
+    }
+
     public synchronized ReadMasterDomainModelUtil.RequiredConfigurationHolder
             populateRequiredConfigurationHolder(Resource resource, ExtensionRegistry extensionRegistry) {
         if (requiredConfigurationHolder != null) {
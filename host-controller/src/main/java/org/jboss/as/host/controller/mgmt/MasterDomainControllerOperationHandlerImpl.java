@@ -42,6 +42,7 @@ import org.jboss.as.protocol.mgmt.RequestProcessingException;
 import org.jboss.as.repository.ContentReference;
 import org.jboss.as.repository.HostFileRepository;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.RootFileReader;
+import org.jboss.as.repository.RemoteFileRequestAndHandler.TransferLimiter;
 
 /**
  * Handles for requests from slave DC to master DC on the 'domain' channel.
@@ -52,10 +53,17 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
 
     private final DomainController domainController;
     private final Executor asyncExecutor;
+    private final TransferLimiter transferLimiter;
 
     public MasterDomainControllerOperationHandlerImpl(final DomainController domainController, final Executor asyncExecutor) {
+        this(domainController, asyncExecutor, null);
+    }
+
+    public MasterDomainControllerOperationHandlerImpl(final DomainController domainController, final Executor asyncExecutor,
+                                                      final TransferLimiter transferLimiter) {
         this.domainController = domainController;
         this.asyncExecutor = asyncExecutor;
+        this.transferLimiter = transferLimiter;
     }
 
     @Override
@@ -92,7 +100,7 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
 
     private class GetFileOperation extends AbstractHostRequestHandler {
 
-        private final DomainRemoteFileRequestAndHandler remoteSupport = new DomainRemoteFileRequestAndHandler(asyncExecutor);
+        private final DomainRemoteFileRequestAndHandler remoteSupport = new DomainRemoteFileRequestAndHandler(asyncExecutor, transferLimiter);
 
         @Override
         void handleRequest(String hostId, DataInput input, ActiveOperation.ResultHandler<Void> resultHandler, ManagementRequestContext<Void> context) throws IOException {
@@ -50,11 +50,13 @@ import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
 import org.jboss.as.protocol.mgmt.ManagementClientChannelStrategy;
 import org.jboss.as.protocol.mgmt.ManagementPongRequestHandler;
 import org.jboss.as.protocol.mgmt.ManagementRequestContext;
+import org.jboss.as.repository.RemoteFileRequestAndHandler.TransferLimiter;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.remoting3.Channel;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Installs {@link MasterDomainControllerOperationHandlerImpl} which handles requests from slave DC to master DC.
@@ -65,6 +67,21 @@ public class MasterDomainControllerOperationHandlerService extends AbstractModel
 
     public static final ServiceName SERVICE_NAME = DomainController.SERVICE_NAME.append(ModelControllerClientOperationHandlerFactoryService.OPERATION_HANDLER_NAME_SUFFIX);
 
+    /** The maximum number of files sent to slave host controllers concurrently; further requests are queued. */
+    private static final int MAX_CONCURRENT_FILE_TRANSFERS;
+    static {
+        final int defaultMaxTransfers = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int maxTransfers = defaultMaxTransfers;
+        try {
+            maxTransfers = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged("jboss.as.domain.file-transfer.max-concurrent",
+                    Integer.toString(defaultMaxTransfers)));
+        } catch (Exception e) {
+            // use the default
+        } finally {
+            MAX_CONCURRENT_FILE_TRANSFERS = maxTransfers;
+        }
+    }
+
     private final DomainController domainController;
     private final HostControllerRegistrationHandler.OperationExecutor operationExecutor;
     private final TransactionalOperationExecutor txOperationExecutor;
@@ -72,6 +89,8 @@ public class MasterDomainControllerOperationHandlerService extends AbstractModel
     private final File tempDir;
     private final HostRegistrations slaveHostRegistrations;
     private final DomainHostExcludeRegistry domainHostExcludeRegistry;
+    // Shared by all slave channels, so the limit applies to the whole master
+    private final TransferLimiter fileTransferLimiter = new TransferLimiter(MAX_CONCURRENT_FILE_TRANSFERS);
 
     public MasterDomainControllerOperationHandlerService(final DomainController domainController, final HostControllerRegistrationHandler.OperationExecutor operationExecutor,
                                                          TransactionalOperationExecutor txOperationExecutor,
@@ -98,7 +117,7 @@ public class MasterDomainControllerOperationHandlerService extends AbstractModel
         handler.addHandlerFactory(new HostControllerRegistrationHandler(handler, domainController, operationExecutor,
                 getExecutor(), slaveHostRegistrations, domainHostExcludeRegistry));
         handler.addHandlerFactory(new ModelControllerClientOperationHandler(getController(), handler, getResponseAttachmentSupport(), getClientRequestExecutor()));
-        handler.addHandlerFactory(new MasterDomainControllerOperationHandlerImpl(domainController, getExecutor()));
+        handler.addHandlerFactory(new MasterDomainControllerOperationHandlerImpl(domainController, getExecutor(), fileTransferLimiter));
         handler.addHandlerFactory(pongRequestHandler);
         handler.addHandlerFactory(new DomainTransactionalProtocolOperationHandler(txOperationExecutor, handler, getResponseAttachmentSupport()));
         channel.receiveMessage(handler.getReceiver());
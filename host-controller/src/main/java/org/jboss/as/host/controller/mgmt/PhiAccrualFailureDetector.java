@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller.mgmt;
+
+/**
+ * Adaptive failure detector based on the intervals between the heartbeats received from a remote process. Rather than
+ * a fixed timeout it provides a suspicion level, phi, that scales with how unlikely it is for the heartbeat to be this
+ * late given the intervals seen so far. A phi of 1 means a 10% chance that the remote process is still alive, a phi of
+ * 2 a 1% chance, and so on.
+ * <p>
+ * See <i>The Phi Accrual Failure Detector</i> by Hayashibara et al.
+ *
+ * @see SlaveHostPinger
+ */
+final class PhiAccrualFailureDetector {
+
+    private final long[] intervals;
+    private final long minStdDeviation;
+    private int count;
+    private int next;
+    private double sum;
+    private double squaredSum;
+    private long lastHeartbeat;
+
+    /**
+     * Create a new detector.
+     *
+     * @param maxSampleSize the number of intervals the suspicion level is based on
+     * @param minStdDeviation the minimum standard deviation of the intervals in milliseconds, to not become over
+     *                        sensitive when the heartbeats are very regular
+     * @param firstHeartbeat the time of the first heartbeat
+     * @param firstIntervalEstimate the interval assumed until one has been measured
+     */
+    PhiAccrualFailureDetector(int maxSampleSize, long minStdDeviation, long firstHeartbeat, long firstIntervalEstimate) {
+        this.intervals = new long[maxSampleSize];
+        this.minStdDeviation = minStdDeviation;
+        this.lastHeartbeat = firstHeartbeat;
+        record(firstIntervalEstimate);
+    }
+
+    /**
+     * Record a heartbeat. Heartbeats that are not more recent than the last one are ignored.
+     *
+     * @param timestamp the time the heartbeat was received
+     */
+    synchronized void heartbeat(long timestamp) {
+        if (timestamp > lastHeartbeat) {
+            record(timestamp - lastHeartbeat);
+            lastHeartbeat = timestamp;
+        }
+    }
+
+    /**
+     * Get the time of the last heartbeat.
+     *
+     * @return the time of the last heartbeat
+     */
+    synchronized long getLastHeartbeat() {
+        return lastHeartbeat;
+    }
+
+    /**
+     * Get the suspicion level of the remote process having failed.
+     *
+     * @param timestamp the current time
+     * @return the suspicion level, {@code 0} if a heartbeat is not overdue
+     */
+    synchronized double phi(long timestamp) {
+        return phi(timestamp, lastHeartbeat);
+    }
+
+    /**
+     * Get the suspicion level of the remote process having failed, also taking a more recent sign of life than the
+     * last heartbeat into account. Unlike {@link #heartbeat(long)}, this does not record an interval, so it may be
+     * called at any time without affecting the intervals the suspicion level is based on.
+     *
+     * @param timestamp the current time
+     * @param lastSeen the time the remote process was last known to be alive
+     * @return the suspicion level, {@code 0} if a heartbeat is not overdue
+     */
+    synchronized double phi(long timestamp, long lastSeen) {
+        final long elapsed = timestamp - Math.max(lastHeartbeat, lastSeen);
+        final double mean = sum / count;
+        final double variance = squaredSum / count - mean * mean;
+        final double stdDeviation = Math.max(Math.sqrt(Math.max(variance, 0)), minStdDeviation);
+        // Logistic approximation of the cumulative normal distribution
+        final double y = (elapsed - mean) / stdDeviation;
+        final double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+        final double phi;
+        if (elapsed > mean) {
+            phi = -Math.log10(e / (1.0 + e));
+        } else {
+            phi = -Math.log10(1.0 - 1.0 / (1.0 + e));
+        }
+        return Math.max(phi, 0);
+    }
+
+    private void record(long interval) {
+        if (count == intervals.length) {
+            final long oldest = intervals[next];
+            sum -= oldest;
+            squaredSum -= (double) oldest * oldest;
+        } else {
+            count++;
+        }
+        intervals[next] = interval;
+        next = (next + 1) % intervals.length;
+        sum += interval;
+        squaredSum += (double) interval * interval;
+    }
+}
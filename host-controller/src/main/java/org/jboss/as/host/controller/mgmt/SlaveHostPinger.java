@@ -27,7 +27,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.protocol.StreamUtils;
@@ -38,7 +38,11 @@ import org.jboss.threads.AsyncFuture;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
- * Coordinates periodic pinging of a slave Host Controller to validate its connection
+ * Coordinates periodic pinging of a slave Host Controller to validate its connection.
+ * <p>
+ * Any message received from the slave counts as a heartbeat, a ping is only sent if none was received for an interval.
+ * A slave that does not respond to a ping before the timeout is only considered as failed once the delay since its last
+ * heartbeat is unusual compared to the delays seen so far, see {@link PhiAccrualFailureDetector}.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
@@ -47,6 +51,10 @@ public class SlaveHostPinger {
     public static final long STD_INTERVAL;
     public static final long STD_TIMEOUT;
     public static final long SHORT_TIMEOUT = 10000;
+    /** The suspicion level from which a slave host that did not respond to a ping in time is considered as failed */
+    private static final double PHI_THRESHOLD;
+    private static final int SAMPLE_SIZE = 100;
+    private static final long MIN_STD_DEVIATION = 500;
 
     static {
         long interval = -1;
@@ -66,20 +74,37 @@ public class SlaveHostPinger {
         } finally {
             STD_TIMEOUT = timeout > 0 ? timeout : 30000;
         }
+        final String thresholdValue = WildFlySecurityManager.getPropertyPrivileged("jboss.as.domain.ping.phi.threshold", "8");
+        double threshold = -1;
+        try {
+            threshold = Double.parseDouble(thresholdValue);
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        if (threshold > 0) {
+            PHI_THRESHOLD = threshold;
+        } else {
+            HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(thresholdValue, "jboss.as.domain.ping.phi.threshold", "8");
+            PHI_THRESHOLD = 8;
+        }
     }
 
     private final String hostName;
     private final ManagementChannelHandler channelHandler;
     private final ScheduledExecutorService scheduler;
 
+    private final PhiAccrualFailureDetector detector;
+
     private volatile Long remoteConnectionID;
     private volatile boolean cancelled;
+    private volatile long pingLatency = -1;
 
     public SlaveHostPinger(String hostName, ManagementChannelHandler channelHandler, ScheduledExecutorService scheduler, long remoteConnectionID) {
         this.hostName = hostName;
         this.channelHandler = channelHandler;
         this.scheduler = scheduler;
         this.remoteConnectionID = remoteConnectionID;
+        this.detector = new PhiAccrualFailureDetector(SAMPLE_SIZE, MIN_STD_DEVIATION, System.currentTimeMillis(), STD_INTERVAL);
     }
 
     public Long getRemoteConnectionID() {
@@ -99,6 +124,27 @@ public class SlaveHostPinger {
         this.cancelled = true;
     }
 
+    /**
+     * Get the round trip time of the last successful ping.
+     *
+     * @return the round trip time in milliseconds, or {@code -1} if no ping succeeded yet
+     */
+    public long getPingLatency() {
+        return pingLatency;
+    }
+
+    /**
+     * Get how strongly the slave host is suspected to have failed, based on how late it is with any message compared to
+     * the intervals between the messages received so far.
+     *
+     * @return the suspicion level, where {@code 1} means a 10% chance that the host is still alive, {@code 2} a 1% chance
+     *         and so on
+     */
+    public double getSuspicionLevel() {
+        // Only the ping task records heartbeats, reading the level must not add intervals to the sample
+        return detector.phi(System.currentTimeMillis(), channelHandler.getLastMessageReceivedTime());
+    }
+
     private class PingTask implements Runnable {
 
         private final long timeout;
@@ -112,44 +158,128 @@ public class SlaveHostPinger {
         @Override
         public void run() {
             if (!cancelled) {
-                boolean fail = false;
-                AsyncFuture<Long> future = null;
-                try {
-                    if (interval < 1 || System.currentTimeMillis() - channelHandler.getLastMessageReceivedTime() > interval) {
+                // Any message from the slave counts as a heartbeat
+                detector.heartbeat(channelHandler.getLastMessageReceivedTime());
+                if (interval < 1 || System.currentTimeMillis() - channelHandler.getLastMessageReceivedTime() > interval) {
+                    final AsyncFuture<Long> future;
+                    try {
                         future = channelHandler.executeRequest(ManagementPingRequest.INSTANCE, null).getResult();
-                        Long id = future.get(timeout, TimeUnit.MILLISECONDS);
-                        if (!cancelled && remoteConnectionID != null && !remoteConnectionID.equals(id)) {
-                            HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerChanged(hostName);
-                            fail = true;
-                        } else {
-                            remoteConnectionID = id;
-                        }
-                    }
-                } catch (IOException e) {
-                    HostControllerLogger.DOMAIN_LOGGER.debug("Caught exception sending ping request", e);
-                } catch (InterruptedException e) {
-                    safeCancel(future);
-                    Thread.currentThread().interrupt();
-                } catch (ExecutionException e) {
-                    HostControllerLogger.DOMAIN_LOGGER.debug("Caught exception sending ping request", e);
-                } catch (TimeoutException e) {
-                    if (!cancelled) {
-                        fail = true;
-                        HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerUnreachable(hostName, timeout);
-                    }
-                    safeCancel(future);
-                } finally {
-                    if (fail) {
-                        Channel channel = null;
-                        try {
-                            channel = channelHandler.getChannel();
-                        } catch (IOException e) {
-                            // ignore; shouldn't happen as the channel is already established if this task is running
-                        }
-                        StreamUtils.safeClose(channel);
-                    } else if (!cancelled && interval > 0) {
-                        scheduler.schedule(this, interval, TimeUnit.MILLISECONDS);
+                    } catch (IOException e) {
+                        HostControllerLogger.DOMAIN_LOGGER.debug("Caught exception sending ping request", e);
+                        scheduleNext();
+                        return;
                     }
+                    // Don't hold on to a scheduler thread while waiting for the response
+                    final Ping ping = new Ping(future);
+                    ping.timeoutTask = scheduler.schedule(ping, timeout, TimeUnit.MILLISECONDS);
+                    future.addListener(ping, null);
+                } else {
+                    scheduleNext();
+                }
+            }
+        }
+
+        private void scheduleNext() {
+            if (!cancelled && interval > 0) {
+                scheduler.schedule(this, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Whether the host should be considered as failed, once a ping did not get a response in time.
+         */
+        private boolean isFailed(final long now) {
+            // Whatever the heartbeats have been like so far, don't tolerate not hearing from the host forever
+            final long maxPause = 2 * (Math.max(interval, 0) + timeout);
+            return detector.phi(now) >= PHI_THRESHOLD || now - detector.getLastHeartbeat() >= maxPause;
+        }
+
+        private void fail() {
+            Channel channel = null;
+            try {
+                channel = channelHandler.getChannel();
+            } catch (IOException e) {
+                // ignore; shouldn't happen as the channel is already established if this task is running
+            }
+            StreamUtils.safeClose(channel);
+        }
+
+        /**
+         * Handles the response to, or the time out of, a single ping request.
+         */
+        private class Ping implements AsyncFuture.Listener<Long, Void>, Runnable {
+
+            private final AsyncFuture<Long> future;
+            private final long sent = System.currentTimeMillis();
+            private final AtomicBoolean done = new AtomicBoolean();
+            private volatile Future<?> timeoutTask;
+
+            private Ping(AsyncFuture<Long> future) {
+                this.future = future;
+            }
+
+            @Override
+            public void handleComplete(AsyncFuture<? extends Long> ignored, Void attachment) {
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                safeCancel(timeoutTask);
+                final long received = System.currentTimeMillis();
+                pingLatency = received - sent;
+                detector.heartbeat(received);
+                final Long id;
+                try {
+                    id = future.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    // not possible once the request completed
+                    scheduleNext();
+                    return;
+                }
+                if (!cancelled && remoteConnectionID != null && !remoteConnectionID.equals(id)) {
+                    HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerChanged(hostName);
+                    fail();
+                } else {
+                    remoteConnectionID = id;
+                    scheduleNext();
+                }
+            }
+
+            @Override
+            public void handleFailed(AsyncFuture<? extends Long> ignored, Throwable cause, Void attachment) {
+                if (done.compareAndSet(false, true)) {
+                    safeCancel(timeoutTask);
+                    HostControllerLogger.DOMAIN_LOGGER.debug("Caught exception sending ping request", cause);
+                    scheduleNext();
+                }
+            }
+
+            @Override
+            public void handleCancelled(AsyncFuture<? extends Long> ignored, Void attachment) {
+                if (done.compareAndSet(false, true)) {
+                    safeCancel(timeoutTask);
+                    scheduleNext();
+                }
+            }
+
+            @Override
+            public void run() {
+                // The ping timed out
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                safeCancel(future);
+                if (cancelled) {
+                    return;
+                }
+                final long now = System.currentTimeMillis();
+                detector.heartbeat(channelHandler.getLastMessageReceivedTime());
+                if (isFailed(now)) {
+                    HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerUnreachable(hostName, now - detector.getLastHeartbeat());
+                    fail();
+                } else {
+                    // Messages from this host have been late before, give it another chance
+                    HostControllerLogger.DOMAIN_LOGGER.debugf("No ping response from %s in %d milliseconds, retrying", hostName, timeout);
+                    scheduler.execute(PingTask.this);
                 }
             }
         }
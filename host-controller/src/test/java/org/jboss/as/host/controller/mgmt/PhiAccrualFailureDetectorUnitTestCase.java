@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller.mgmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link PhiAccrualFailureDetector}.
+ */
+public class PhiAccrualFailureDetectorUnitTestCase {
+
+    @Test
+    public void testNotSuspectedBeforeHeartbeatIsDue() {
+        PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(100, 500, 0, 15000);
+        long now = heartbeats(detector, 15000, 15000, 15000, 15000);
+        assertEquals(0, detector.phi(now), 0);
+        assertEquals(0, detector.phi(now + 5000), 0.01);
+    }
+
+    @Test
+    public void testSuspicionGrowsWithDelay() {
+        PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(100, 500, 0, 15000);
+        long now = heartbeats(detector, 15000, 15000, 15000, 15000);
+        double previous = 0;
+        for (long delay = 15000; delay < 20000; delay += 500) {
+            double phi = detector.phi(now + delay);
+            assertTrue(phi + " for " + delay, phi > previous);
+            previous = phi;
+        }
+        assertTrue(detector.phi(now + 45000) > 8);
+    }
+
+    @Test
+    public void testIrregularHeartbeatsAreTolerated() {
+        PhiAccrualFailureDetector regular = new PhiAccrualFailureDetector(100, 500, 0, 15000);
+        long regularNow = heartbeats(regular, 15000, 15000, 15000, 15000, 15000, 15000);
+        PhiAccrualFailureDetector irregular = new PhiAccrualFailureDetector(100, 500, 0, 15000);
+        long irregularNow = heartbeats(irregular, 15000, 45000, 15000, 15000, 45000, 15000);
+
+        assertTrue(regular.phi(regularNow + 45000) > 8);
+        assertTrue(irregular.phi(irregularNow + 45000) < 8);
+    }
+
+    @Test
+    public void testOldIntervalsAreForgotten() {
+        PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(3, 500, 0, 15000);
+        long now = heartbeats(detector, 45000, 45000, 15000, 15000, 15000);
+        assertTrue(detector.phi(now + 45000) > 8);
+    }
+
+    @Test
+    public void testStaleHeartbeatsAreIgnored() {
+        PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(100, 500, 0, 15000);
+        long now = heartbeats(detector, 15000, 15000);
+        detector.heartbeat(now - 1000);
+        detector.heartbeat(now);
+        assertEquals(now, detector.getLastHeartbeat());
+        assertTrue(detector.phi(now + 45000) > 8);
+    }
+
+    @Test
+    public void testLastSeenIsNotRecorded() {
+        PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(100, 500, 0, 15000);
+        long now = heartbeats(detector, 15000, 15000, 15000, 15000);
+        // A recent message lowers the suspicion level
+        assertEquals(0, detector.phi(now + 45000, now + 40000), 0.01);
+        assertTrue(detector.phi(now + 45000, now - 1000) > 8);
+        // but is not taken as a heartbeat
+        assertEquals(now, detector.getLastHeartbeat());
+        assertTrue(detector.phi(now + 45000) > 8);
+    }
+
+    private static long heartbeats(PhiAccrualFailureDetector detector, long... intervals) {
+        long time = detector.getLastHeartbeat();
+        for (long interval : intervals) {
+            time += interval;
+            detector.heartbeat(time);
+        }
+        return time;
+    }
+}
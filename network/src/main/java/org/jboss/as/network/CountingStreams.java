@@ -0,0 +1,95 @@
+/*
+* JBoss, Home of Professional Open Source
+* Copyright 2016, Red Hat Inc., and individual contributors as indicated
+* by the @authors tag. See the copyright.txt in the distribution for a
+* full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.network;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Socket stream wrappers that feed a {@link ManagedBindingStatistics}.
+ */
+final class CountingStreams {
+
+    static final class CountingInputStream extends FilterInputStream {
+        private final ManagedBindingStatistics statistics;
+
+        CountingInputStream(final InputStream in, final ManagedBindingStatistics statistics) {
+            super(in);
+            this.statistics = statistics;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            if (b != -1) {
+                statistics.bytesReceived(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = in.read(b, off, len);
+            if (read > 0) {
+                statistics.bytesReceived(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = in.skip(n);
+            if (skipped > 0) {
+                statistics.bytesReceived(skipped);
+            }
+            return skipped;
+        }
+    }
+
+    static final class CountingOutputStream extends FilterOutputStream {
+        private final ManagedBindingStatistics statistics;
+
+        CountingOutputStream(final OutputStream out, final ManagedBindingStatistics statistics) {
+            super(out);
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            statistics.bytesSent(1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            // Don't use the FilterOutputStream implementation, it writes a byte at a time
+            out.write(b, off, len);
+            statistics.bytesSent(len);
+        }
+    }
+
+    private CountingStreams() {
+    }
+}
@@ -0,0 +1,137 @@
+/*
+* JBoss, Home of Professional Open Source
+* Copyright 2016, Red Hat Inc., and individual contributors as indicated
+* by the @authors tag. See the copyright.txt in the distribution for a
+* full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.network;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Traffic counters for the sockets created through a named socket binding or outbound socket binding.
+ * <p>
+ * Only sockets created by the {@link ManagedSocketFactory} and {@link ManagedServerSocketFactory} of the
+ * {@link SocketBindingManager} are counted; channels registered directly with a {@link ManagedBindingRegistry}
+ * are not visible to these counters.
+ */
+public final class ManagedBindingStatistics {
+
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder acceptedConnections = new LongAdder();
+    private final LongAdder openedConnections = new LongAdder();
+    private final AtomicLong activeConnections = new AtomicLong();
+    private final LongAdder connectTime = new LongAdder();
+    private final AtomicLong maxConnectTime = new AtomicLong();
+
+    ManagedBindingStatistics() {
+    }
+
+    void bytesReceived(final long count) {
+        bytesReceived.add(count);
+    }
+
+    void bytesSent(final long count) {
+        bytesSent.add(count);
+    }
+
+    void connectionAccepted() {
+        acceptedConnections.increment();
+        activeConnections.incrementAndGet();
+    }
+
+    void connectionOpened(final long connectNanos) {
+        openedConnections.increment();
+        activeConnections.incrementAndGet();
+        connectTime.add(connectNanos);
+        long current = maxConnectTime.get();
+        while (connectNanos > current && !maxConnectTime.compareAndSet(current, connectNanos)) {
+            current = maxConnectTime.get();
+        }
+    }
+
+    void connectionClosed() {
+        activeConnections.decrementAndGet();
+    }
+
+    /**
+     * Gets the number of bytes read from sockets of this binding.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Gets the number of bytes written to sockets of this binding.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * Gets the number of connections accepted by server sockets of this binding.
+     *
+     * @return the number of connections
+     */
+    public long getAcceptedConnections() {
+        return acceptedConnections.sum();
+    }
+
+    /**
+     * Gets the number of outbound connections successfully established through this binding.
+     *
+     * @return the number of connections
+     */
+    public long getOpenedConnections() {
+        return openedConnections.sum();
+    }
+
+    /**
+     * Gets the number of accepted or outbound connections that have not been closed yet.
+     *
+     * @return the number of connections
+     */
+    public long getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /**
+     * Gets the mean time taken to establish an outbound connection.
+     *
+     * @return the mean connect time in nanoseconds, or {@code 0} if no connection has been established
+     */
+    public long getMeanConnectTime() {
+        final long count = openedConnections.sum();
+        return count == 0 ? 0 : connectTime.sum() / count;
+    }
+
+    /**
+     * Gets the longest time taken to establish an outbound connection.
+     *
+     * @return the maximum connect time in nanoseconds
+     */
+    public long getMaxConnectTime() {
+        return maxConnectTime.get();
+    }
+}
@@ -38,6 +38,7 @@ public class ManagedServerSocketBinding extends ServerSocket implements ManagedB
     private final String name;
     private final SocketBindingManager socketBindings;
     private final boolean metrics;
+    private final ManagedBindingStatistics statistics;
     private volatile long acceptCount = 0;
 
     ManagedServerSocketBinding(final SocketBindingManager socketBindings) throws IOException {
@@ -53,9 +54,15 @@ public class ManagedServerSocketBinding extends ServerSocket implements ManagedB
     }
 
     ManagedServerSocketBinding(final String name, final SocketBindingManager socketBindings, final boolean metrics) throws IOException {
+        this(name, socketBindings, metrics, null);
+    }
+
+    ManagedServerSocketBinding(final String name, final SocketBindingManager socketBindings, final boolean metrics,
+                               final ManagedBindingStatistics statistics) throws IOException {
         this.name = name;
         this.socketBindings = socketBindings;
         this.metrics = metrics;
+        this.statistics = statistics;
     }
 
     @Override
@@ -80,6 +87,15 @@ public class ManagedServerSocketBinding extends ServerSocket implements ManagedB
 
     @Override
     public Socket accept() throws IOException {
+        if (statistics != null) {
+            final ManagedSocketBinding socket = new ManagedSocketBinding(null, socketBindings.getUnnamedRegistry(), statistics);
+            implAccept(socket);
+            socket.accepted();
+            if(metrics) {
+                acceptCount++;
+            }
+            return socket;
+        }
         final Socket socket = metrics ? new ManagedSocketBinding(socketBindings.getUnnamedRegistry()) : new Socket();
         implAccept(socket);
         if(metrics) {
@@ -22,6 +22,8 @@
 package org.jboss.as.network;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
@@ -36,14 +38,21 @@ class ManagedSocketBinding extends Socket implements ManagedBinding {
 
     private final String name;
     private final ManagedBindingRegistry socketBindings;
+    private final ManagedBindingStatistics statistics;
+    private boolean active;
 
     ManagedSocketBinding(final ManagedBindingRegistry socketBindings) {
         this(null, socketBindings);
     }
 
     ManagedSocketBinding(final String name, final ManagedBindingRegistry socketBindings) {
+        this(name, socketBindings, null);
+    }
+
+    ManagedSocketBinding(final String name, final ManagedBindingRegistry socketBindings, final ManagedBindingStatistics statistics) {
         this.name = name;
         this.socketBindings = socketBindings;
+        this.statistics = statistics;
     }
 
     @Override
@@ -60,10 +69,50 @@ class ManagedSocketBinding extends Socket implements ManagedBinding {
         socketBindings.registerBinding(this);
     }
 
+    @Override
+    public void connect(SocketAddress endpoint, int timeout) throws IOException {
+        if (statistics == null) {
+            super.connect(endpoint, timeout);
+            return;
+        }
+        final long start = System.nanoTime();
+        super.connect(endpoint, timeout);
+        statistics.connectionOpened(System.nanoTime() - start);
+        markActive();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        final InputStream in = super.getInputStream();
+        return statistics == null ? in : new CountingStreams.CountingInputStream(in, statistics);
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        final OutputStream out = super.getOutputStream();
+        return statistics == null ? out : new CountingStreams.CountingOutputStream(out, statistics);
+    }
+
+    /**
+     * Called once this socket has been accepted by a {@link ManagedServerSocketBinding} with statistics.
+     */
+    void accepted() {
+        statistics.connectionAccepted();
+        markActive();
+    }
+
+    private synchronized void markActive() {
+        active = true;
+    }
+
     public synchronized void close() throws IOException {
         try {
             socketBindings.unregisterBinding(this);
         } finally {
+            if (active) {
+                active = false;
+                statistics.connectionClosed();
+            }
             super.close();
         }
     }
@@ -134,6 +134,15 @@ public class OutboundSocketBinding {
         return socket;
     }
 
+    /**
+     * Returns the traffic statistics of the sockets connected through this outbound socket binding.
+     *
+     * @return the statistics, or {@code null} if statistics are not enabled
+     */
+    public ManagedBindingStatistics getStatistics() {
+        return this.socketBindingManager.getBindingStatistics(this.name);
+    }
+
     /**
      * Returns the name of this outbound socket binding. Can be used in log statements to make the log statement usable.
      *
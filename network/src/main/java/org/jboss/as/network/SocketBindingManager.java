@@ -60,6 +60,17 @@ public interface SocketBindingManager {
      */
     ManagedSocketFactory getSocketFactory();
 
+    /**
+     * Get the traffic statistics of the sockets created for a named binding by the
+     * {@link #getSocketFactory() socket factory} and {@link #getServerSocketFactory() server socket factory}.
+     *
+     * @param name the socket binding or outbound socket binding name
+     * @return the statistics, or {@code null} if statistics are not enabled
+     */
+    default ManagedBindingStatistics getBindingStatistics(String name) {
+        return null;
+    }
+
     /**
      * Create a named, unbound datagram socket.
      *
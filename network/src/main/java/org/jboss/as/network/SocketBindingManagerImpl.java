@@ -39,8 +39,10 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.as.network.logging.NetworkMessages;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 
 /**
@@ -48,12 +50,18 @@ import org.jboss.as.network.logging.NetworkMessages;
  */
 public abstract class SocketBindingManagerImpl implements SocketBindingManager {
 
+    /** System property enabling the collection of per binding {@link ManagedBindingStatistics traffic statistics}. */
+    public static final String STATISTICS_ENABLED_PROPERTY = "org.jboss.as.network.statistics-enabled";
+
     private final ManagedSocketFactory socketFactory = new ManagedSocketFactoryImpl();
     private final ManagedServerSocketFactory serverSocketFactory = new ManagedServerSocketFactoryImpl();
 
     private final NamedManagedBindingRegistry namedRegistry = new NamedRegistryImpl();
     private final UnnamedBindingRegistry unnamedRegistry = new UnnamedRegistryImpl();
 
+    private final boolean statisticsEnabled = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(STATISTICS_ENABLED_PROPERTY, "false"));
+    private final ConcurrentMap<String, ManagedBindingStatistics> statistics = new ConcurrentHashMap<String, ManagedBindingStatistics>();
+
     /** {@inheritDoc} */
     @Override
     public ManagedServerSocketFactory getServerSocketFactory() {
@@ -66,6 +74,23 @@ public abstract class SocketBindingManagerImpl implements SocketBindingManager {
         return socketFactory;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ManagedBindingStatistics getBindingStatistics(String name) {
+        if (!statisticsEnabled || name == null) {
+            return null;
+        }
+        ManagedBindingStatistics result = statistics.get(name);
+        if (result == null) {
+            final ManagedBindingStatistics created = new ManagedBindingStatistics();
+            result = statistics.putIfAbsent(name, created);
+            if (result == null) {
+                result = created;
+            }
+        }
+        return result;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DatagramSocket createDatagramSocket(String name) throws SocketException {
@@ -184,7 +209,7 @@ public abstract class SocketBindingManagerImpl implements SocketBindingManager {
 
         @Override
         public Socket createSocket(final String name) {
-            return new ManagedSocketBinding(name, SocketBindingManagerImpl.this.namedRegistry);
+            return new ManagedSocketBinding(name, SocketBindingManagerImpl.this.namedRegistry, getBindingStatistics(name));
         }
 
         @Override
@@ -218,7 +243,7 @@ public abstract class SocketBindingManagerImpl implements SocketBindingManager {
 
         @Override
         public ServerSocket createServerSocket(String name) throws IOException {
-            return new ManagedServerSocketBinding(name, SocketBindingManagerImpl.this);
+            return new ManagedServerSocketBinding(name, SocketBindingManagerImpl.this, false, getBindingStatistics(name));
         }
         @Override
         public ServerSocket createServerSocket() throws IOException {
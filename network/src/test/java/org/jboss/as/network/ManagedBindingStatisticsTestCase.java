@@ -0,0 +1,79 @@
+/*
+* JBoss, Home of Professional Open Source.
+* Copyright 2016, Red Hat, Inc., and individual contributors
+* as indicated by the @author tags. See the copyright.txt file in the
+* distribution for a full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.network;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ManagedBindingStatistics} and the {@link CountingStreams} feeding it.
+ */
+public class ManagedBindingStatisticsTestCase {
+
+    @Test
+    public void testStreamsCountBytes() throws IOException {
+        final ManagedBindingStatistics statistics = new ManagedBindingStatistics();
+
+        final InputStream in = new CountingStreams.CountingInputStream(new ByteArrayInputStream(new byte[100]), statistics);
+        Assert.assertEquals(0, in.read());
+        Assert.assertEquals(50, in.read(new byte[50]));
+        Assert.assertEquals(10, in.skip(10));
+        Assert.assertEquals(39, in.read(new byte[64]));
+        Assert.assertEquals(-1, in.read());
+        Assert.assertEquals(-1, in.read(new byte[64]));
+        Assert.assertEquals(100, statistics.getBytesReceived());
+
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final OutputStream out = new CountingStreams.CountingOutputStream(target, statistics);
+        out.write(1);
+        out.write(new byte[20], 5, 10);
+        out.write(new byte[7]);
+        Assert.assertEquals(18, target.size());
+        Assert.assertEquals(18, statistics.getBytesSent());
+    }
+
+    @Test
+    public void testConnectionCounters() {
+        final ManagedBindingStatistics statistics = new ManagedBindingStatistics();
+        Assert.assertEquals(0, statistics.getMeanConnectTime());
+
+        statistics.connectionAccepted();
+        statistics.connectionOpened(100);
+        statistics.connectionOpened(300);
+        Assert.assertEquals(1, statistics.getAcceptedConnections());
+        Assert.assertEquals(2, statistics.getOpenedConnections());
+        Assert.assertEquals(3, statistics.getActiveConnections());
+        Assert.assertEquals(200, statistics.getMeanConnectTime());
+        Assert.assertEquals(300, statistics.getMaxConnectTime());
+
+        statistics.connectionClosed();
+        statistics.connectionClosed();
+        Assert.assertEquals(1, statistics.getActiveConnections());
+        Assert.assertEquals(1, statistics.getAcceptedConnections());
+    }
+}
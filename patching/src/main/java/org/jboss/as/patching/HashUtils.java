@@ -43,29 +43,27 @@ public class HashUtils {
 
     private static final char[] TABLE = "0123456789abcdef".toCharArray();
 
-    private static final MessageDigest DIGEST;
-    static {
+    // One digest per thread, so module content can be hashed concurrently
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
         try {
-            DIGEST = MessageDigest.getInstance("SHA-1");
+            return MessageDigest.getInstance("SHA-1");
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException(e);
         }
-    }
+    });
 
     public static byte[] hashFile(File file) throws IOException {
-        synchronized (DIGEST) {
-            DIGEST.reset();
-            updateDigest(DIGEST, file);
-            return DIGEST.digest();
-        }
+        final MessageDigest digest = DIGEST.get();
+        digest.reset();
+        updateDigest(digest, file);
+        return digest.digest();
     }
 
     public static byte[] hashBytes(byte[] bytes) throws IOException {
-        synchronized (DIGEST) {
-            DIGEST.reset();
-            DIGEST.update(bytes);
-            return DIGEST.digest();
-        }
+        final MessageDigest digest = DIGEST.get();
+        digest.reset();
+        digest.update(bytes);
+        return digest.digest();
     }
 
     private static void updateDigest(MessageDigest digest, File file) throws IOException {
@@ -101,16 +99,13 @@ public class HashUtils {
     }
 
     public static byte[] copyAndGetHash(final InputStream is, final OutputStream os) throws IOException {
-        byte[] sha1Bytes;
-        synchronized (DIGEST) {
-            DIGEST.reset();
-            try (BufferedInputStream bis = new BufferedInputStream(is);
-                 DigestOutputStream dos = new DigestOutputStream(os, DIGEST)) {
-                IoUtils.copyStream(bis, dos);
-            }
-            sha1Bytes = DIGEST.digest();
+        final MessageDigest digest = DIGEST.get();
+        digest.reset();
+        try (BufferedInputStream bis = new BufferedInputStream(is);
+             DigestOutputStream dos = new DigestOutputStream(os, digest)) {
+            IoUtils.copyStream(bis, dos);
         }
-        return sha1Bytes;
+        return digest.digest();
     }
 
     /**
@@ -27,7 +27,6 @@ import static org.jboss.as.patching.IoUtils.NO_CONTENT;
 import java.io.File;
 import java.io.IOException;
 
-import org.jboss.as.patching.HashUtils;
 import org.jboss.as.patching.IoUtils;
 import org.jboss.as.patching.logging.PatchLogger;
 import org.jboss.as.patching.metadata.BundleItem;
@@ -60,7 +59,7 @@ class BundlePatchingTask extends AbstractPatchingTask<BundleItem> {
                     return NO_CONTENT;
                 }
                 context.invalidateRoot(bundlePath);
-                return HashUtils.hashFile(bundlePath);
+                return context.hashModuleRoot(bundlePath);
             }
         }
         return NO_CONTENT;
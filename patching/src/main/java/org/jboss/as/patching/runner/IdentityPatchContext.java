@@ -67,6 +67,7 @@ class IdentityPatchContext implements PatchContentProvider {
     private final InstallationManager.InstallationModification modification;
     private final Map<String, PatchContentLoader> contentLoaders = new HashMap<String, PatchContentLoader>();
     private final PatchingHistory history;
+    private final ModuleHashCache moduleHashes;
 
     // TODO initialize layers in the correct order
     private final Map<String, PatchEntry> layers = new LinkedHashMap<String, PatchEntry>();
@@ -105,6 +106,7 @@ class IdentityPatchContext implements PatchContentProvider {
         this.modification = modification;
         this.installedImage = installedImage;
         this.history = PatchingHistory.Factory.getHistory(modification.getUnmodifiedInstallationState());
+        this.moduleHashes = ModuleHashCache.load(new File(installedImage.getInstallationMetadata(), ModuleHashCache.CACHE_FILE));
 
         if (backup != null) {
             this.miscBackup = new File(backup, PatchContentLoader.MISC);
@@ -411,6 +413,7 @@ class IdentityPatchContext implements PatchContentProvider {
                         cleanupMarker.createNewFile();
                     }
                     storeFailedRenaming();
+                    moduleHashes.store();
                 } catch (IOException e) {
                     PatchLogger.ROOT_LOGGER.debugf(e, "failed to create cleanup marker");
                 }
@@ -817,7 +820,10 @@ class IdentityPatchContext implements PatchContentProvider {
             final List<File> files = listFiles(moduleRoot);
             if (files != null && files.size() > 0) {
                 for (final File file : files) {
-                    moduleInvalidations.add(file);
+                    // Module and bundle tasks are prepared concurrently
+                    synchronized (moduleInvalidations) {
+                        moduleInvalidations.add(file);
+                    }
                     if (mode == Mode.ROLLBACK) {
                         // For rollback we need to restore the file before calculating the hash
                         PatchModuleInvalidationUtils.processFile(null, file, mode);
@@ -826,6 +832,11 @@ class IdentityPatchContext implements PatchContentProvider {
             }
         }
 
+        @Override
+        public byte[] hashModuleRoot(final File root) throws IOException {
+            return moduleHashes.hashFile(root);
+        }
+
         void prepareForPortForward(ContentItem item, String patchId) throws IOException {
             if (item.getContentType() == ContentType.MODULE) {
                 final File targetFile = delegate.getDirectoryStructure().getModulePatchDirectory(patchId);
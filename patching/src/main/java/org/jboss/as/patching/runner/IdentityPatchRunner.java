@@ -15,6 +15,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -56,6 +64,23 @@ class IdentityPatchRunner implements InstallationManager.ModificationCompletionC
 
     private static final String DIRECTORY_SUFFIX = "jboss-as-patch-";
     private static final File TEMP_DIR = new File(SecurityActions.getSystemProperty("java.io.tmpdir"));
+    /**
+     * The number of threads hashing and backing up module and bundle content while preparing the tasks. The content
+     * is only read in this phase, all modifications are still applied one after another.
+     */
+    private static final int PREPARE_THREADS;
+    static {
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        try {
+            final String value = SecurityActions.getSystemProperty("org.jboss.as.patching.prepare-threads");
+            if (value != null) {
+                threads = Integer.parseInt(value);
+            }
+        } catch (NumberFormatException e) {
+            // use the default
+        }
+        PREPARE_THREADS = threads;
+    }
 
     private final InstalledImage installedImage;
 
@@ -630,16 +655,27 @@ class IdentityPatchRunner implements InstallationManager.ModificationCompletionC
     static PatchingResult executeTasks(final IdentityPatchContext context, final IdentityPatchContext.FinalizeCallback callback) throws Exception {
         final List<PreparedTask> tasks = new ArrayList<PreparedTask>();
         final List<ContentItem> conflicts = new ArrayList<ContentItem>();
-        // Identity
-        prepareTasks(context.getIdentityEntry(), context, tasks, conflicts);
-        // Layers
-        for (final IdentityPatchContext.PatchEntry layer : context.getLayers()) {
-            prepareTasks(layer, context, tasks, conflicts);
-        }
-        // AddOns
-        for (final IdentityPatchContext.PatchEntry addOn : context.getAddOns()) {
-            prepareTasks(addOn, context, tasks, conflicts);
+        final long start = System.nanoTime();
+        final ExecutorService prepareExecutor = PREPARE_THREADS > 1 ? Executors.newFixedThreadPool(PREPARE_THREADS, new PrepareThreadFactory()) : null;
+        try {
+            // Identity
+            prepareTasks(context.getIdentityEntry(), context, tasks, conflicts, prepareExecutor);
+            // Layers
+            for (final IdentityPatchContext.PatchEntry layer : context.getLayers()) {
+                prepareTasks(layer, context, tasks, conflicts, prepareExecutor);
+            }
+            // AddOns
+            for (final IdentityPatchContext.PatchEntry addOn : context.getAddOns()) {
+                prepareTasks(addOn, context, tasks, conflicts, prepareExecutor);
+            }
+        } finally {
+            if (prepareExecutor != null) {
+                // Never interrupt a prepare task, it could leave a partially invalidated jar behind
+                prepareExecutor.shutdown();
+                awaitTermination(prepareExecutor);
+            }
         }
+        final long prepared = System.nanoTime();
         // If there were problems report them
         if (!conflicts.isEmpty()) {
             throw PatchLogger.ROOT_LOGGER.conflictsDetected(conflicts);
@@ -654,7 +690,12 @@ class IdentityPatchRunner implements InstallationManager.ModificationCompletionC
             // Run the task
             task.execute();
         }
-        return context.finalize(callback);
+        final long executed = System.nanoTime();
+        final PatchingResult result = context.finalize(callback);
+        PatchLogger.ROOT_LOGGER.debugf("%s of %d tasks took %dms to prepare, %dms to execute and %dms to finalize",
+                context.getMode(), tasks.size(), TimeUnit.NANOSECONDS.toMillis(prepared - start),
+                TimeUnit.NANOSECONDS.toMillis(executed - prepared), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - executed));
+        return result;
     }
 
     /**
@@ -667,14 +708,48 @@ class IdentityPatchRunner implements InstallationManager.ModificationCompletionC
      * @throws PatchingException
      */
     static void prepareTasks(final IdentityPatchContext.PatchEntry entry, final IdentityPatchContext context, final List<PreparedTask> tasks, final List<ContentItem> conflicts) throws PatchingException {
+        prepareTasks(entry, context, tasks, conflicts, null);
+    }
+
+    /**
+     * Prepare all tasks. Module and bundle tasks, which hash whole module directories, are prepared concurrently
+     * using the given executor; the results are still processed in the order of the task definitions.
+     *
+     * @param entry     the patch entry
+     * @param context   the patch context
+     * @param tasks     a list for prepared tasks
+     * @param conflicts a list for conflicting content items
+     * @param executor  the executor preparing module and bundle tasks, or {@code null} to prepare all tasks in the calling thread
+     * @throws PatchingException
+     */
+    static void prepareTasks(final IdentityPatchContext.PatchEntry entry, final IdentityPatchContext context, final List<PreparedTask> tasks,
+                             final List<ContentItem> conflicts, final ExecutorService executor) throws PatchingException {
+        final List<PatchingTasks.ContentTaskDefinition> definitions = new ArrayList<PatchingTasks.ContentTaskDefinition>();
+        final List<PatchingTask> relevant = new ArrayList<PatchingTask>();
+        final List<Future<Boolean>> prepared = new ArrayList<Future<Boolean>>();
         for (final PatchingTasks.ContentTaskDefinition definition : entry.getTaskDefinitions()) {
             final PatchingTask task = createTask(definition, context, entry);
             if(!task.isRelevant(entry)) {
                 continue;
             }
-            try {
+            definitions.add(definition);
+            relevant.add(task);
+            final ContentItem item = task.getContentItem();
+            if (executor != null && item != null
+                    && (item.getContentType() == ContentType.MODULE || item.getContentType() == ContentType.BUNDLE)) {
+                // backup and validate content
+                prepared.add(executor.submit(() -> task.prepare(entry)));
+            } else {
+                prepared.add(null);
+            }
+        }
+        try {
+            for (int i = 0; i < relevant.size(); i++) {
+                final PatchingTask task = relevant.get(i);
+                final Future<Boolean> future = prepared.get(i);
                 // backup and validate content
-                if (!task.prepare(entry) || definition.hasConflicts()) {
+                final boolean valid = future == null ? task.prepare(entry) : getPrepared(future);
+                if (!valid || definitions.get(i).hasConflicts()) {
                     // Unless it a content item was manually ignored (or excluded)
                     final ContentItem item = task.getContentItem();
                     if (!context.isIgnored(item)) {
@@ -682,12 +757,83 @@ class IdentityPatchRunner implements InstallationManager.ModificationCompletionC
                     }
                 }
                 tasks.add(new PreparedTask(task, entry));
-            } catch (IOException e) {
-                throw new PatchingException(e);
+            }
+        } catch (IOException e) {
+            throw new PatchingException(e);
+        } finally {
+            // Drop the tasks not yet started, and let the running ones finish rather than interrupting them
+            for (final Future<Boolean> future : prepared) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+            for (final Future<Boolean> future : prepared) {
+                if (future != null) {
+                    awaitCompletion(future);
+                }
             }
         }
     }
 
+    private static void awaitCompletion(final Future<Boolean> future) {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    future.get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    // already reported, or never started
+                    return;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void awaitTermination(final ExecutorService executor) {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    if (executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static boolean getPrepared(final Future<Boolean> future) throws IOException, PatchingException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PatchingException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PatchingException(cause);
+        }
+    }
+
     /**
      * Create the patching task based on the definition.
      *
@@ -702,6 +848,21 @@ class IdentityPatchRunner implements InstallationManager.ModificationCompletionC
         return PatchingTask.Factory.create(description, context);
     }
 
+    private static final class PrepareThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+        private final int pool = POOL_COUNT.incrementAndGet();
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, String.format("Patch Prepare Thread (%d-%d)", pool, threadCount.incrementAndGet()));
+            thread.setDaemon(false);
+            return thread;
+        }
+    }
+
     static class PreparedTask {
 
         private final PatchingTask task;
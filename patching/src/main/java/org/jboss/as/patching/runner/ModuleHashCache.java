@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2016 Red Hat, inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package org.jboss.as.patching.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.patching.HashUtils;
+import org.jboss.as.patching.logging.PatchLogger;
+
+/**
+ * Persistent cache of the content hashes of installed module and bundle roots.
+ * <p>
+ * Each entry is keyed by the absolute path of the root and remembers a fingerprint of the names, sizes and
+ * modification times of the files below it. As long as the fingerprint still matches, the cached hash is returned
+ * without reading any content, so only roots which were touched since the last patching operation get rehashed.
+ * The fingerprint is based on file metadata only; content that was rewritten in place while keeping both the size
+ * and the modification time is not detected.
+ */
+final class ModuleHashCache {
+
+    /** The name of the cache file in the installation metadata directory. */
+    static final String CACHE_FILE = "module-hashes";
+
+    // Content modified this close to the time it was hashed could change again without a visible mtime change,
+    // depending on the timestamp granularity of the file system
+    private static final long RACY_WINDOW = TimeUnit.SECONDS.toMillis(2);
+
+    private final File cacheFile;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    private ModuleHashCache(final File cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * Load the cache. A missing or unreadable cache file results in an empty cache.
+     *
+     * @param cacheFile the cache file
+     * @return the cache
+     */
+    static ModuleHashCache load(final File cacheFile) {
+        final ModuleHashCache cache = new ModuleHashCache(cacheFile);
+        try {
+            final Properties properties = PatchUtils.loadProperties(cacheFile);
+            for (final String path : properties.stringPropertyNames()) {
+                final Entry entry = Entry.parse(properties.getProperty(path));
+                if (entry != null) {
+                    cache.entries.put(path, entry);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            PatchLogger.ROOT_LOGGER.debugf(e, "failed to load the module hash cache %s", cacheFile.getAbsolutePath());
+        }
+        return cache;
+    }
+
+    /**
+     * Get the hash of a module or bundle root, as calculated by {@link HashUtils#hashFile(File)}.
+     *
+     * @param root the root
+     * @return the hash
+     * @throws IOException
+     */
+    byte[] hashFile(final File root) throws IOException {
+        final String key = root.getAbsolutePath();
+        final Fingerprint fingerprint = fingerprint(root);
+        final Entry cached = entries.get(key);
+        if (cached != null && cached.fingerprint == fingerprint.value) {
+            return cached.hash.clone();
+        }
+        final byte[] hash = HashUtils.hashFile(root);
+        if (fingerprint.newest < System.currentTimeMillis() - RACY_WINDOW) {
+            entries.put(key, new Entry(fingerprint.value, hash.clone()));
+        } else {
+            entries.remove(key);
+        }
+        modified = true;
+        return hash;
+    }
+
+    /**
+     * Persist the cache if it was updated. Entries for roots which no longer exist are dropped. Failing to write the
+     * cache only means the hashes need to be calculated again next time, so errors are not propagated.
+     */
+    void store() {
+        if (!modified) {
+            return;
+        }
+        final Properties properties = new Properties();
+        for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (new File(entry.getKey()).exists()) {
+                properties.setProperty(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        try {
+            PatchUtils.writeProperties(cacheFile, properties);
+            modified = false;
+        } catch (IOException e) {
+            PatchLogger.ROOT_LOGGER.debugf(e, "failed to store the module hash cache %s", cacheFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Calculate the fingerprint of a root, visiting the same files {@link HashUtils#hashFile(File)} would read.
+     */
+    static Fingerprint fingerprint(final File root) throws IOException {
+        final Path start = root.toPath();
+        final Fingerprint fingerprint = new Fingerprint();
+        if (!Files.exists(start)) {
+            return fingerprint;
+        }
+        Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                // Skipped by HashUtils as well, jboss modules creates them at runtime
+                if (!file.getFileName().toString().endsWith(".jar.index")) {
+                    fingerprint.add(start.relativize(file).toString(), attrs.size(), attrs.lastModifiedTime().toMillis());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return fingerprint;
+    }
+
+    static final class Fingerprint {
+
+        private long value;
+        private long newest;
+
+        private void add(final String path, final long size, final long lastModified) {
+            // Combine the entries independently of the order in which the file system lists them
+            value += mix(mix(path.hashCode() ^ size) ^ lastModified);
+            newest = Math.max(newest, lastModified);
+        }
+
+        long getValue() {
+            return value;
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long fingerprint;
+        private final byte[] hash;
+
+        private Entry(final long fingerprint, final byte[] hash) {
+            this.fingerprint = fingerprint;
+            this.hash = hash;
+        }
+
+        static Entry parse(final String value) {
+            final int i = value.indexOf(':');
+            if (i < 0) {
+                return null;
+            }
+            return new Entry(Long.parseUnsignedLong(value.substring(0, i), 16), HashUtils.hexStringToByteArray(value.substring(i + 1)));
+        }
+
+        @Override
+        public String toString() {
+            return Long.toHexString(fingerprint) + ':' + HashUtils.bytesToHexString(hash);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jboss.as.patching.runner;
 import java.io.File;
 import java.io.IOException;
 
+import org.jboss.as.patching.HashUtils;
 import org.jboss.as.patching.metadata.ContentItem;
 import org.jboss.as.patching.metadata.ContentModification;
 import org.jboss.as.patching.metadata.MiscContentItem;
@@ -68,6 +69,17 @@ public interface PatchingTaskContext {
      */
     void invalidateRoot(final File root) throws IOException;
 
+    /**
+     * Calculate the hash of an installed module or bundle root. The result of a previous patching operation is reused
+     * when the content did not change since.
+     *
+     * @param root the module or bundle root
+     * @return the hash
+     */
+    default byte[] hashModuleRoot(final File root) throws IOException {
+        return HashUtils.hashFile(root);
+    }
+
     /**
      * Get the current bundle path.
      *
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2016 Red Hat, inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package org.jboss.as.patching.runner;
+
+import static org.jboss.as.patching.IoUtils.mkdir;
+import static org.jboss.as.patching.runner.TestUtils.randomString;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.patching.HashUtils;
+import org.jboss.as.patching.IoUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModuleHashCacheTestCase {
+
+    private File tempDir;
+    private File moduleRoot;
+    private File cacheFile;
+    private long lastModified;
+
+    @Before
+    public void setup() throws Exception {
+        tempDir = mkdir(new File(System.getProperty("java.io.tmpdir")), "patching-" + randomString());
+        moduleRoot = mkdir(tempDir, "modules", "org", "jboss", "test", "main");
+        cacheFile = new File(tempDir, ModuleHashCache.CACHE_FILE);
+        // Recently modified content is never cached
+        lastModified = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1);
+        write(new File(moduleRoot, "module.xml"), "<module/>");
+        write(new File(moduleRoot, "test.jar"), "content");
+    }
+
+    @After
+    public void tearDown() {
+        if (!IoUtils.recursiveDelete(tempDir)) {
+            tempDir.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testHashMatchesHashUtils() throws Exception {
+        final ModuleHashCache cache = ModuleHashCache.load(cacheFile);
+        assertArrayEquals(HashUtils.hashFile(moduleRoot), cache.hashFile(moduleRoot));
+        // Cached
+        assertArrayEquals(HashUtils.hashFile(moduleRoot), cache.hashFile(moduleRoot));
+    }
+
+    @Test
+    public void testCacheIsPersisted() throws Exception {
+        final byte[] original = HashUtils.hashFile(moduleRoot);
+        ModuleHashCache cache = ModuleHashCache.load(cacheFile);
+        cache.hashFile(moduleRoot);
+        cache.store();
+        assertTrue(cacheFile.exists());
+
+        // Rewrite the content without changing the size or the modification time, the stale hash proves a cache hit
+        write(new File(moduleRoot, "test.jar"), "CONTENT");
+        cache = ModuleHashCache.load(cacheFile);
+        assertArrayEquals(original, cache.hashFile(moduleRoot));
+    }
+
+    @Test
+    public void testModifiedContentIsRehashed() throws Exception {
+        ModuleHashCache cache = ModuleHashCache.load(cacheFile);
+        final byte[] original = cache.hashFile(moduleRoot);
+        cache.store();
+
+        final File jar = new File(moduleRoot, "test.jar");
+        write(jar, "CONTENT");
+        assertTrue(jar.setLastModified(lastModified + TimeUnit.MINUTES.toMillis(1)));
+        cache = ModuleHashCache.load(cacheFile);
+        final byte[] updated = cache.hashFile(moduleRoot);
+        assertFalse(Arrays.equals(original, updated));
+        assertArrayEquals(HashUtils.hashFile(moduleRoot), updated);
+
+        write(new File(moduleRoot, "other.jar"), "other");
+        assertArrayEquals(HashUtils.hashFile(moduleRoot), cache.hashFile(moduleRoot));
+    }
+
+    @Test
+    public void testJarIndexIsIgnored() throws Exception {
+        final long fingerprint = ModuleHashCache.fingerprint(moduleRoot).getValue();
+        write(new File(moduleRoot, "test.jar.index"), "index");
+        assertEquals(fingerprint, ModuleHashCache.fingerprint(moduleRoot).getValue());
+        write(new File(moduleRoot, "test.txt"), "text");
+        assertNotEquals(fingerprint, ModuleHashCache.fingerprint(moduleRoot).getValue());
+    }
+
+    private void write(final File file, final String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified(lastModified));
+    }
+}
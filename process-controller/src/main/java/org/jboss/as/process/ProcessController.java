@@ -43,6 +43,7 @@ import org.jboss.as.process.logging.ProcessLogger;
 import org.jboss.as.process.protocol.Connection;
 import org.jboss.as.process.protocol.ProtocolServer;
 import org.jboss.as.process.protocol.StreamUtils;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
@@ -66,12 +67,20 @@ public final class ProcessController {
     public static final short AUTH_BYTES_LENGTH = 16;
     public static final short AUTH_BYTES_ENCODED_LENGTH = 24;
 
+    /**
+     * System property limiting the number of lines of output copied from each stream of a managed process per second,
+     * lines over the limit are discarded. Not set or {@code 0} for no limit.
+     */
+    public static final String OUTPUT_MAX_LINES_PER_SECOND = "jboss.process.controller.output.max-lines-per-second";
+
     private final PrintStream stdout;
     private final PrintStream stderr;
+    private final ProcessOutputMultiplexer outputMultiplexer;
 
     public ProcessController(final ProtocolServer.Configuration configuration, final PrintStream stdout, final PrintStream stderr) throws IOException {
         this.stdout = stdout;
         this.stderr = stderr;
+        this.outputMultiplexer = new ProcessOutputMultiplexer(parseMaxLinesPerSecond(WildFlySecurityManager.getPropertyPrivileged(OUTPUT_MAX_LINES_PER_SECOND, null)));
         //noinspection ThisEscapedInObjectConstruction
         configuration.setConnectionHandler(new ProcessControllerServerHandler(this));
         final ProtocolServer server = new ProtocolServer(configuration);
@@ -79,6 +88,29 @@ public final class ProcessController {
         this.server = server;
     }
 
+    /**
+     * Parses the value of the {@link #OUTPUT_MAX_LINES_PER_SECOND} system property, falling back to no limit if it is
+     * not set or not valid.
+     *
+     * @param value the property value. May be {@code null}
+     * @return the maximum number of lines per second, {@code 0} for no limit
+     */
+    static int parseMaxLinesPerSecond(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            final int maxLines = Integer.parseInt(value.trim());
+            if (maxLines >= 0) {
+                return maxLines;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the warning
+        }
+        ProcessLogger.ROOT_LOGGER.invalidSystemPropertyValue(value, OUTPUT_MAX_LINES_PER_SECOND, 0);
+        return 0;
+    }
+
     void addManagedConnection(final Connection connection) {
         synchronized (lock)  {
             if(shutdown) {
@@ -412,6 +444,10 @@ public final class ProcessController {
         return stderr;
     }
 
+    ProcessOutputMultiplexer getOutputMultiplexer() {
+        return outputMultiplexer;
+    }
+
     private static final class Key {
         private final byte[] authKey;
         private final int hashCode;
@@ -0,0 +1,423 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.process.logging.ProcessLogger;
+import org.jboss.as.process.protocol.StreamUtils;
+
+/**
+ * Copies the stdout and stderr of every managed process to the stdout and stderr of the process controller using a
+ * single thread.
+ * <p>
+ * The streams of a {@link Process} can not be used with a selector so the thread polls each stream in turn, reading at
+ * most one buffer from each stream per round so a process writing a lot of output can not starve the others, and backs
+ * off while no process has written anything. Complete lines are prefixed with the name of the process and collected
+ * into a batch per target stream, each batch is then written whilst holding the lock on the target once per round
+ * rather than once per line.
+ * <p>
+ * The output of a process can optionally be limited to a number of lines per second, lines over the limit are discarded
+ * and the number discarded is logged with the first line after the second has passed, or when the stream is closed.
+ *
+ * @see ManagedProcess
+ */
+final class ProcessOutputMultiplexer {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    /** A line longer than this is written in pieces rather than buffered until the end of the line is found. */
+    private static final int MAX_LINE_LENGTH = 16384;
+    /** Batches are written once they reach this size even if the current round has not finished. */
+    private static final int MAX_BATCH_SIZE = 65536;
+    private static final long MIN_IDLE_WAIT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_IDLE_WAIT = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    private static final byte ESC = '\033';
+    private static final byte[] RESET = { ESC, '[', '0', 'm' };
+    private static final byte[] NO_ESCAPE = new byte[0];
+
+    private final int maxLinesPerSecond;
+    private final ConcurrentLinkedQueue<Channel> registered = new ConcurrentLinkedQueue<Channel>();
+    /** Only accessed by the multiplexer thread. */
+    private final List<Channel> channels = new ArrayList<Channel>();
+    /** Only accessed by the multiplexer thread, keyed on the identity of the target stream. */
+    private final Map<PrintStream, ByteArrayOutputStream> batches = new IdentityHashMap<PrintStream, ByteArrayOutputStream>();
+    private Thread thread;
+
+    /**
+     * Creates a new multiplexer.
+     *
+     * @param maxLinesPerSecond the maximum number of lines of output of a single stream of a process to copy per second,
+     *                          or zero for no limit.
+     */
+    ProcessOutputMultiplexer(final int maxLinesPerSecond) {
+        this.maxLinesPerSecond = maxLinesPerSecond;
+    }
+
+    /**
+     * Starts copying the output of a process.
+     *
+     * @param processName the name of the process the lines are prefixed with
+     * @param source the stream of the process to copy
+     * @param target the stream to copy the lines to
+     * @return the registration of the stream, which must be closed once the process has exited
+     */
+    Registration register(final String processName, final InputStream source, final PrintStream target) {
+        final Channel channel = new Channel(processName, source, target);
+        registered.add(channel);
+        synchronized (this) {
+            if (thread == null) {
+                thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        ProcessOutputMultiplexer.this.run();
+                    }
+                }, "process output multiplexer");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            notifyAll();
+        }
+        return channel;
+    }
+
+    /**
+     * The registration of a stream with the multiplexer.
+     */
+    interface Registration {
+
+        /**
+         * Indicates the process has exited, any output remaining in the stream is copied and the stream is closed before
+         * this method returns.
+         */
+        void close();
+
+    }
+
+    private void run() {
+        long idleWait = MIN_IDLE_WAIT;
+        while (true) {
+            synchronized (this) {
+                while (channels.isEmpty() && registered.isEmpty()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // The thread is a daemon that runs for the life of the process controller.
+                    }
+                }
+            }
+            Channel added;
+            while ((added = registered.poll()) != null) {
+                channels.add(added);
+            }
+
+            boolean progress = false;
+            final long now = System.nanoTime();
+            for (Iterator<Channel> it = channels.iterator(); it.hasNext();) {
+                Channel current = it.next();
+                if (current.poll(now)) {
+                    progress = true;
+                }
+                if (current.done) {
+                    it.remove();
+                }
+            }
+            flushBatches();
+
+            if (progress) {
+                idleWait = MIN_IDLE_WAIT;
+            } else {
+                synchronized (this) {
+                    if (registered.isEmpty()) {
+                        try {
+                            TimeUnit.NANOSECONDS.timedWait(this, idleWait);
+                        } catch (InterruptedException e) {
+                            // Ignored as above.
+                        }
+                    }
+                }
+                idleWait = Math.min(idleWait * 2, MAX_IDLE_WAIT);
+            }
+        }
+    }
+
+    private ByteArrayOutputStream getBatch(final PrintStream target) {
+        ByteArrayOutputStream batch = batches.get(target);
+        if (batch == null) {
+            batch = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+            batches.put(target, batch);
+        }
+        return batch;
+    }
+
+    private void flushBatches() {
+        for (Map.Entry<PrintStream, ByteArrayOutputStream> entry : batches.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void flush(final PrintStream target, final ByteArrayOutputStream batch) {
+        if (batch.size() > 0) {
+            synchronized (target) {
+                try {
+                    batch.writeTo(target);
+                } catch (IOException e) {
+                    // PrintStream never throws.
+                }
+                target.flush();
+            }
+            batch.reset();
+        }
+    }
+
+    private final class Channel implements Registration {
+
+        private final String processName;
+        private final byte[] prefix;
+        private final InputStream source;
+        private final PrintStream target;
+        private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private volatile boolean closed;
+        /** Only accessed by the multiplexer thread from here on. */
+        private boolean done;
+        private boolean skipLineFeed;
+        private byte[] prevEscape = NO_ESCAPE;
+        private long windowStart;
+        private int linesInWindow;
+        private long discarded;
+
+        private Channel(final String processName, final InputStream source, final PrintStream target) {
+            this.processName = processName;
+            this.prefix = ('[' + processName + "] ").getBytes(Charset.defaultCharset());
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            synchronized (ProcessOutputMultiplexer.this) {
+                ProcessOutputMultiplexer.this.notifyAll();
+            }
+            boolean interrupted = false;
+            try {
+                long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT;
+                long remaining;
+                while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                    try {
+                        if (finished.await(remaining, TimeUnit.MILLISECONDS)) {
+                            break;
+                        }
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Reads whatever the process has written without blocking.
+         *
+         * @return {@code true} if anything was read
+         */
+        private boolean poll(final long now) {
+            // Read the flag first so nothing written before the process exited can be missed.
+            final boolean exited = closed;
+            try {
+                int available = source.available();
+                if (available > 0) {
+                    int read = source.read(buffer, 0, Math.min(available, buffer.length));
+                    if (read > 0) {
+                        process(read, now);
+                        return true;
+                    }
+                    if (read < 0) {
+                        finish(now);
+                    }
+                } else if (exited) {
+                    finish(now);
+                }
+            } catch (IOException e) {
+                ProcessLogger.ROOT_LOGGER.streamProcessingFailed(processName, e);
+                finish(now);
+            }
+            return false;
+        }
+
+        private void process(final int length, final long now) {
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                final byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    if (b == '\n' && skipLineFeed) {
+                        // The second half of a \r\n line terminator.
+                        start = i + 1;
+                        skipLineFeed = false;
+                        continue;
+                    }
+                    line.write(buffer, start, i - start);
+                    writeLine(now);
+                    skipLineFeed = b == '\r';
+                    start = i + 1;
+                } else {
+                    skipLineFeed = false;
+                }
+            }
+            if (start < length) {
+                line.write(buffer, start, length - start);
+                if (line.size() >= MAX_LINE_LENGTH) {
+                    writeLine(now);
+                }
+            }
+        }
+
+        private void writeLine(final long now) {
+            final byte[] bytes = line.toByteArray();
+            line.reset();
+            if (isOverLimit(now)) {
+                return;
+            }
+
+            // Has ANSI?
+            int i = lastIndexOf(bytes, ESC);
+            int j = i != -1 ? indexOf(bytes, (byte) 'm', i) : 0;
+
+            final ByteArrayOutputStream batch = getBatch(target);
+            batch.write(prefix, 0, prefix.length);
+            batch.write(prevEscape, 0, prevEscape.length);
+            batch.write(bytes, 0, bytes.length);
+            // Reset if there was ANSI
+            if (j != 0 || prevEscape != NO_ESCAPE) {
+                batch.write(RESET, 0, RESET.length);
+            }
+            batch.write('\n');
+
+            // Remember escape code for the next line
+            if (j > 0) {
+                byte[] escape = new byte[j + 1 - i];
+                System.arraycopy(bytes, i, escape, 0, escape.length);
+                prevEscape = isReset(escape) ? NO_ESCAPE : escape;
+            }
+
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                flush(target, batch);
+            }
+        }
+
+        private boolean isOverLimit(final long now) {
+            if (maxLinesPerSecond <= 0) {
+                return false;
+            }
+            if (now - windowStart >= TimeUnit.SECONDS.toNanos(1)) {
+                reportDiscarded();
+                windowStart = now;
+                linesInWindow = 0;
+            }
+            if (linesInWindow < maxLinesPerSecond) {
+                linesInWindow++;
+                return false;
+            }
+            discarded++;
+            return true;
+        }
+
+        private void reportDiscarded() {
+            if (discarded > 0) {
+                ProcessLogger.ROOT_LOGGER.discardedProcessOutput(discarded, processName, maxLinesPerSecond);
+                discarded = 0;
+            }
+        }
+
+        private void finish(final long now) {
+            try {
+                // Copy anything written after the last check for available output.
+                int read;
+                while (source.available() > 0 && (read = source.read(buffer)) > 0) {
+                    process(read, now);
+                }
+            } catch (IOException e) {
+                ProcessLogger.ROOT_LOGGER.streamProcessingFailed(processName, e);
+            }
+            if (line.size() > 0) {
+                writeLine(now);
+            }
+            reportDiscarded();
+            StreamUtils.safeClose(source);
+            // The batch is written before the latch is released so all output has been copied once close() returns.
+            flush(target, getBatch(target));
+            done = true;
+            finished.countDown();
+        }
+    }
+
+    private static boolean isReset(final byte[] escape) {
+        if (escape.length != RESET.length) {
+            return false;
+        }
+        for (int i = 0; i < RESET.length; i++) {
+            if (escape[i] != RESET[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lastIndexOf(final byte[] bytes, final byte b) {
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(final byte[] bytes, final byte b, final int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
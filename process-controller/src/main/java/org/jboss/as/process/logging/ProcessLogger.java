@@ -807,4 +807,26 @@ public interface ProcessLogger extends BasicLogger {
     @Message(id = 62, value = "Writes are already shut down")
     IOException writesAlreadyShutdown();
 
+    /**
+     * Logs a warning message indicating lines of output from a process were discarded.
+     *
+     * @param count       the number of lines discarded.
+     * @param processName the name of the process.
+     * @param limit       the maximum number of lines per second.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 63, value = "Discarded %d lines of output from process '%s' exceeding the limit of %d lines per second")
+    void discardedProcessOutput(long count, String processName, int limit);
+
+    /**
+     * Logs a warning message indicating a system property has a value that is not valid.
+     *
+     * @param value        the value of the system property.
+     * @param property     the name of the system property.
+     * @param defaultValue the value used instead.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 64, value = "Invalid value '%s' for system property %s; using the default value %d")
+    void invalidSystemPropertyValue(String value, String property, int defaultValue);
+
 }
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * Test case for the copying of the output of managed processes by {@link ProcessOutputMultiplexer}.
+ */
+public class ProcessOutputMultiplexerTestCase {
+
+    @Test
+    public void testLinesArePrefixed() throws Exception {
+        ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer(0);
+        assertEquals("[one] first\n[one] second\n[one] third\n[one] last\n",
+                copy(multiplexer, "one", "first\nsecond\r\nthird\rlast"));
+    }
+
+    @Test
+    public void testProcessesAreNotMixed() throws Exception {
+        ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(out, true);
+        ProcessOutputMultiplexer.Registration one = multiplexer.register("one", input("a\nb\n"), target);
+        ProcessOutputMultiplexer.Registration two = multiplexer.register("two", input("c\nd\n"), target);
+        one.close();
+        two.close();
+
+        String result = new String(out.toByteArray(), Charset.defaultCharset());
+        assertEquals(result.indexOf("[one] a\n") + 8, result.indexOf("[one] b\n"));
+        assertEquals(result.indexOf("[two] c\n") + 8, result.indexOf("[two] d\n"));
+        assertEquals(32, result.length());
+    }
+
+    @Test
+    public void testEscapeCarriedToNextLine() throws Exception {
+        ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer(0);
+        assertEquals("[one] \033[31mred\033[0m\n[one] \033[31mstill red\033[0m\n[one] \033[31m\033[0mplain\033[0m\n[one] plain\n",
+                copy(multiplexer, "one", "\033[31mred\nstill red\n\033[0mplain\nplain\n"));
+    }
+
+    @Test
+    public void testLinesOverLimitAreDiscarded() throws Exception {
+        ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer(2);
+        assertEquals("[one] 1\n[one] 2\n", copy(multiplexer, "one", "1\n2\n3\n4\n"));
+    }
+
+    @Test
+    public void testParseMaxLinesPerSecond() {
+        assertEquals(0, ProcessController.parseMaxLinesPerSecond(null));
+        assertEquals(100, ProcessController.parseMaxLinesPerSecond(" 100 "));
+        assertEquals(0, ProcessController.parseMaxLinesPerSecond(""));
+        assertEquals(0, ProcessController.parseMaxLinesPerSecond("100/s"));
+        assertEquals(0, ProcessController.parseMaxLinesPerSecond("-1"));
+    }
+
+    private static String copy(ProcessOutputMultiplexer multiplexer, String processName, String output) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        multiplexer.register(processName, input(output), new PrintStream(out, true)).close();
+        return new String(out.toByteArray(), Charset.defaultCharset());
+    }
+
+    private static ByteArrayInputStream input(String output) {
+        return new ByteArrayInputStream(output.getBytes(Charset.defaultCharset()));
+    }
+
+}
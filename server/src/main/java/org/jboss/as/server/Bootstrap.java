@@ -22,6 +22,7 @@
 
 package org.jboss.as.server;
 
+import java.io.File;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -35,14 +36,18 @@ import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.extension.RuntimeHostControllerInfoAccessor;
 import org.jboss.as.controller.parsing.Namespace;
 import org.jboss.as.controller.persistence.BackupXmlConfigurationPersister;
+import org.jboss.as.controller.persistence.BootOperationsSnapshot;
 import org.jboss.as.controller.persistence.ConfigurationFile;
 import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.as.server.parsing.StandaloneXml;
+import org.jboss.as.version.ProductConfig;
+import org.jboss.as.version.Version;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.service.ServiceActivator;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.threads.AsyncFuture;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * The application server bootstrap interface.  Get a new instance via {@link Factory#newInstance()}.
@@ -201,6 +206,19 @@ public interface Bootstrap {
                                 persister.registerAdditionalRootElement(new QName(namespace.getUriString(), "server"), parser);
                             }
                         }
+                        if (Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.JBOSS_SERVER_BOOT_SNAPSHOT, "false"))) {
+                            File snapshotFile = new File(new File(serverEnvironment.getServerDataDir(), "boot-snapshot"),
+                                    configurationFile.getBootFile().getName() + ".dmr");
+                            // The operations produced by the parsers depend on the version of the modules providing them,
+                            // which patches change through the overlays of the module roots, and products layered on
+                            // the same core version provide different ones.
+                            final String modulePath = WildFlySecurityManager.getPropertyPrivileged("module.path", "");
+                            final ProductConfig productConfig = serverEnvironment.getProductConfig();
+                            persister.setBootOperationsSnapshot(new BootOperationsSnapshot(snapshotFile, Version.AS_VERSION,
+                                    productConfig == null ? null : productConfig.getProductName(),
+                                    productConfig == null ? null : productConfig.getProductVersion(),
+                                    modulePath, ModuleOverlaysState.getState(modulePath)));
+                        }
                         extensionRegistry.setWriterRegistry(persister);
                         return persister;
                     }
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Describes the state of the module roots that decides which module versions are loaded, other than the module
+ * path itself: the layer configuration and, for each layer and add-on, the active patch overlays. Installing or rolling
+ * back a patch changes the overlays, and so the modules providing the subsystem parsers, without changing the module
+ * path.
+ */
+final class ModuleOverlaysState {
+
+    private static final String LAYERS_CONF = "layers.conf";
+    private static final String OVERLAYS = ".overlays";
+
+    private ModuleOverlaysState() {
+    }
+
+    /**
+     * Gets the state of the given module path.
+     *
+     * @param modulePath the module path, with roots separated by {@link File#pathSeparatorChar}
+     * @return the state. Will not be {@code null}
+     */
+    static String getState(final String modulePath) {
+        final StringBuilder sb = new StringBuilder();
+        if (modulePath != null && !modulePath.isEmpty()) {
+            for (String root : modulePath.split(File.pathSeparator)) {
+                final File moduleRoot = new File(root).getAbsoluteFile();
+                append(sb, new File(moduleRoot, LAYERS_CONF));
+                final File system = new File(moduleRoot, "system");
+                appendOverlays(sb, new File(system, "layers"));
+                appendOverlays(sb, new File(system, "add-ons"));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendOverlays(final StringBuilder sb, final File dir) {
+        final File[] children = dir.listFiles();
+        if (children != null) {
+            Arrays.sort(children);
+            for (File child : children) {
+                // The overlay metadata lists the active overlays of the layer or add-on
+                append(sb, new File(new File(child, OVERLAYS), OVERLAYS));
+            }
+        }
+    }
+
+    private static void append(final StringBuilder sb, final File file) {
+        if (file.isFile()) {
+            sb.append(file.getPath()).append('=');
+            try {
+                sb.append(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // An unreadable file must not match any earlier state
+                sb.append(UUID.randomUUID());
+            }
+            sb.append('\n');
+        }
+    }
+}
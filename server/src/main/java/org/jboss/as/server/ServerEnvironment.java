@@ -261,6 +261,13 @@ public class ServerEnvironment extends ProcessEnvironment implements Serializabl
      */
     public static final String JBOSS_SERVER_MANAGEMENT_UUID = "jboss.server.management.uuid";
 
+    /**
+     * The system property used to enable a snapshot of the boot operations parsed from the server configuration file.
+     * If set to {@code true} the boot operations are stored in {@link #getServerDataDir() the server data directory}
+     * after a successful boot and later boots with an unchanged configuration file use them instead of parsing it.
+     */
+    public static final String JBOSS_SERVER_BOOT_SNAPSHOT = "jboss.server.boot.snapshot";
+
     /**
      * The system property used to indicate whether the server was configured to persist changes to the configuration
      * files.
@@ -469,6 +469,9 @@ public class ServerRootResourceDefinition extends SimpleResourceDefinition {
                 false
         ));
         interfaces.registerReadOnlyAttribute(NetworkInterfaceRuntimeHandler.RESOLVED_ADDRESS, NetworkInterfaceRuntimeHandler.INSTANCE);
+        interfaces.registerMetric(NetworkInterfaceRuntimeHandler.RESOLUTION_TIME, NetworkInterfaceRuntimeHandler.INSTANCE);
+        interfaces.registerMetric(NetworkInterfaceRuntimeHandler.SNAPSHOT_HITS, NetworkInterfaceRuntimeHandler.INSTANCE);
+        interfaces.registerMetric(NetworkInterfaceRuntimeHandler.SNAPSHOT_MISSES, NetworkInterfaceRuntimeHandler.INSTANCE);
         interfaces.registerOperationHandler(SpecifiedInterfaceResolveHandler.DEFINITION, SpecifiedInterfaceResolveHandler.INSTANCE);
 
         resourceRegistration.registerSubModel(SocketBindingGroupResourceDefinition.INSTANCE);
@@ -1196,4 +1196,8 @@ public interface ServerLogger extends BasicLogger {
     @Message(id = 241, value = "Shutting down in response to management operation '%s'")
     void shuttingDownInResponseToManagementRequest(String op);
 
+    @LogMessage(level = WARN)
+    @Message(id = 242, value = "Invalid value '%s' for system property %s; using the default value %d")
+    void invalidSystemPropertyValue(String value, String property, long defaultValue);
+
 }
@@ -30,8 +30,10 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PrimitiveListAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.repository.ContentRepository;
 import org.jboss.as.server.controller.descriptions.ServerDescriptions;
 import org.jboss.dmr.ModelNode;
@@ -46,6 +48,9 @@ public class CleanObsoleteContentHandler implements OperationStepHandler {
 
     public static final String OPERATION_NAME = "clean-obsolete-content";
 
+    private static final String REPOSITORY_SIZE_NAME = "repository-size";
+    private static final String RECLAIMABLE_SIZE_NAME = "reclaimable-size";
+
     private static final AttributeDefinition MARKED_CONTENT = new PrimitiveListAttributeDefinition.Builder(ContentRepository.MARKED_CONTENT, ModelType.STRING)
             .setAllowNull(true)
             .build();
@@ -53,11 +58,18 @@ public class CleanObsoleteContentHandler implements OperationStepHandler {
             .setAllowNull(true)
             .build();
 
+    private static final AttributeDefinition REPOSITORY_SIZE = new SimpleAttributeDefinitionBuilder(REPOSITORY_SIZE_NAME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+    private static final AttributeDefinition RECLAIMABLE_SIZE = new SimpleAttributeDefinitionBuilder(RECLAIMABLE_SIZE_NAME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+
     public static final SimpleOperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(OPERATION_NAME,
                 ServerDescriptions.getResourceDescriptionResolver(CONTENT))
                 .setRuntimeOnly()
                 .setReplyType(ModelType.OBJECT)
-                .setReplyParameters(MARKED_CONTENT, DELETED_CONTENT)
+                .setReplyParameters(MARKED_CONTENT, DELETED_CONTENT, REPOSITORY_SIZE, RECLAIMABLE_SIZE)
                 .build();
 
     private final ContentRepository contentRepository;
@@ -84,6 +96,11 @@ public class CleanObsoleteContentHandler implements OperationStepHandler {
                 context.getResult().get(ContentRepository.DELETED_CONTENT).add(obsoleteContent);
             }
         }
+        final long repositorySize = this.contentRepository.getRepositorySize();
+        if (repositorySize >= 0) {
+            context.getResult().get(REPOSITORY_SIZE_NAME).set(repositorySize);
+            context.getResult().get(RECLAIMABLE_SIZE_NAME).set(this.contentRepository.getReclaimableSize());
+        }
     }
 
 }
@@ -22,6 +22,8 @@
 
 package org.jboss.as.server.services.net;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.server.services.net.OutboundSocketBindingResourceDefinition.OUTBOUND_SOCKET_BINDING_CAPABILITY;
 import static org.jboss.as.server.services.net.SocketBindingResourceDefinition.SOCKET_BINDING_CAPABILITY;
 
 import java.net.InetAddress;
@@ -32,9 +34,12 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.network.ManagedBinding;
+import org.jboss.as.network.ManagedBindingStatistics;
 import org.jboss.as.network.NetworkUtils;
+import org.jboss.as.network.OutboundSocketBinding;
 import org.jboss.as.network.SocketBinding;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -149,6 +154,111 @@ public final class BindingMetricHandlers {
         }
     }
 
+    /**
+     * Traffic counters of a socket binding. The counters are only available if the
+     * {@value org.jboss.as.network.SocketBindingManagerImpl#STATISTICS_ENABLED_PROPERTY} system property is set.
+     */
+    public static class StatisticsHandler extends AbstractBindingMetricsHandler {
+
+        public static final AttributeDefinition BYTES_RECEIVED = createMetric("bytes-received", MeasurementUnit.BYTES);
+        public static final AttributeDefinition BYTES_SENT = createMetric("bytes-sent", MeasurementUnit.BYTES);
+        public static final AttributeDefinition ACCEPTED_CONNECTIONS = createMetric("accepted-connections", MeasurementUnit.NONE);
+        public static final AttributeDefinition ACTIVE_CONNECTIONS = createMetric("active-connections", MeasurementUnit.NONE);
+
+        public static final AttributeDefinition[] ATTRIBUTES = {BYTES_RECEIVED, BYTES_SENT, ACCEPTED_CONNECTIONS, ACTIVE_CONNECTIONS};
+
+        public static final OperationStepHandler INSTANCE = new StatisticsHandler();
+
+        private StatisticsHandler() {
+            //
+        }
+
+        @Override
+        void execute(final ModelNode operation, final SocketBinding binding, final ModelNode result) {
+            final ManagedBindingStatistics statistics = binding.getSocketBindings().getBindingStatistics(binding.getName());
+            if (statistics != null) {
+                setStatistic(operation.require(NAME).asString(), statistics, result);
+            }
+        }
+
+        ModelNode getNoMetrics() {
+            return new ModelNode();
+        }
+    }
+
+    /**
+     * Connection and traffic counters of an outbound socket binding. The counters are only available if the
+     * {@value org.jboss.as.network.SocketBindingManagerImpl#STATISTICS_ENABLED_PROPERTY} system property is set.
+     */
+    public static class OutboundStatisticsHandler implements OperationStepHandler {
+
+        public static final AttributeDefinition OPENED_CONNECTIONS = createMetric("opened-connections", MeasurementUnit.NONE);
+        public static final AttributeDefinition MEAN_CONNECT_TIME = createMetric("mean-connect-time", MeasurementUnit.NANOSECONDS);
+        public static final AttributeDefinition MAX_CONNECT_TIME = createMetric("max-connect-time", MeasurementUnit.NANOSECONDS);
+
+        public static final AttributeDefinition[] ATTRIBUTES = {StatisticsHandler.BYTES_RECEIVED, StatisticsHandler.BYTES_SENT,
+                OPENED_CONNECTIONS, StatisticsHandler.ACTIVE_CONNECTIONS, MEAN_CONNECT_TIME, MAX_CONNECT_TIME};
+
+        public static final OperationStepHandler INSTANCE = new OutboundStatisticsHandler();
+
+        private OutboundStatisticsHandler() {
+            //
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                    final String name = context.getCurrentAddressValue();
+                    ServiceName svcName = OUTBOUND_SOCKET_BINDING_CAPABILITY.getCapabilityServiceName(name, OutboundSocketBinding.class);
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(svcName);
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        final OutboundSocketBinding binding = OutboundSocketBinding.class.cast(controller.getValue());
+                        final ManagedBindingStatistics statistics = binding.getStatistics();
+                        if (statistics != null) {
+                            setStatistic(operation.require(NAME).asString(), statistics, context.getResult());
+                        }
+                    }
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+    }
+
+    private static AttributeDefinition createMetric(final String name, final MeasurementUnit unit) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG, true)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    private static void setStatistic(final String attributeName, final ManagedBindingStatistics statistics, final ModelNode result) {
+        switch (attributeName) {
+            case "bytes-received":
+                result.set(statistics.getBytesReceived());
+                break;
+            case "bytes-sent":
+                result.set(statistics.getBytesSent());
+                break;
+            case "accepted-connections":
+                result.set(statistics.getAcceptedConnections());
+                break;
+            case "opened-connections":
+                result.set(statistics.getOpenedConnections());
+                break;
+            case "active-connections":
+                result.set(statistics.getActiveConnections());
+                break;
+            case "mean-connect-time":
+                result.set(statistics.getMeanConnectTime());
+                break;
+            case "max-connect-time":
+                result.set(statistics.getMaxConnectTime());
+                break;
+        }
+    }
+
     private BindingMetricHandlers() {
         //
     }
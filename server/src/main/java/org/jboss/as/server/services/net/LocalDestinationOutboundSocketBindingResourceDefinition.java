@@ -53,14 +53,18 @@ public class LocalDestinationOutboundSocketBindingResourceDefinition extends Out
 
     public static final SimpleAttributeDefinition[] ATTRIBUTES = {SOURCE_PORT, SOURCE_INTERFACE, FIXED_SOURCE_PORT, SOCKET_BINDING_REF};
 
-    public static final LocalDestinationOutboundSocketBindingResourceDefinition INSTANCE = new LocalDestinationOutboundSocketBindingResourceDefinition();
+    /** The definition used in domain profiles, which does not register runtime metrics. */
+    public static final LocalDestinationOutboundSocketBindingResourceDefinition INSTANCE = new LocalDestinationOutboundSocketBindingResourceDefinition(false);
+    /** The definition used by a running server. */
+    public static final LocalDestinationOutboundSocketBindingResourceDefinition SERVER_INSTANCE = new LocalDestinationOutboundSocketBindingResourceDefinition(true);
 
-    private LocalDestinationOutboundSocketBindingResourceDefinition() {
+    private LocalDestinationOutboundSocketBindingResourceDefinition(final boolean registerRuntimeOnly) {
         super(PathElement.pathElement(ModelDescriptionConstants.LOCAL_DESTINATION_OUTBOUND_SOCKET_BINDING),
                 ControllerResolver.getResolver(ModelDescriptionConstants.LOCAL_DESTINATION_OUTBOUND_SOCKET_BINDING),
                 LocalDestinationOutboundSocketBindingAddHandler.INSTANCE,
                 new ServiceRemoveStepHandler(LocalDestinationOutboundSocketBindingAddHandler.INSTANCE,
-                        OUTBOUND_SOCKET_BINDING_CAPABILITY));
+                        OUTBOUND_SOCKET_BINDING_CAPABILITY),
+                registerRuntimeOnly);
     }
 
     @Override
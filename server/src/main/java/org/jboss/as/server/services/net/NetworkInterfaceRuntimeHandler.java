@@ -30,6 +30,7 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.network.NetworkInterfaceBinding;
 import org.jboss.as.network.NetworkUtils;
@@ -50,6 +51,19 @@ public class NetworkInterfaceRuntimeHandler implements OperationStepHandler {
             .setStorageRuntime()
             .build();
 
+    public static final SimpleAttributeDefinition RESOLUTION_TIME = new SimpleAttributeDefinitionBuilder("resolution-time", ModelType.LONG, true)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+
+    public static final SimpleAttributeDefinition SNAPSHOT_HITS = new SimpleAttributeDefinitionBuilder("snapshot-hits", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition SNAPSHOT_MISSES = new SimpleAttributeDefinitionBuilder("snapshot-misses", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
     protected NetworkInterfaceRuntimeHandler() {
         //
     }
@@ -62,6 +76,14 @@ public class NetworkInterfaceRuntimeHandler implements OperationStepHandler {
         context.addStep(new OperationStepHandler() {
             @Override
             public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                // The snapshot is shared by all interfaces, so its counters don't depend on the interface service
+                if (SNAPSHOT_HITS.getName().equals(attributeName)) {
+                    context.getResult().set(NetworkInterfaceSnapshot.getHitCount());
+                    return;
+                } else if (SNAPSHOT_MISSES.getName().equals(attributeName)) {
+                    context.getResult().set(NetworkInterfaceSnapshot.getMissCount());
+                    return;
+                }
                 final ServiceController<?> controller = context.getServiceRegistry(false).getService(NetworkInterfaceService.JBOSS_NETWORK_INTERFACE.append(interfaceName));
                 if(controller != null && controller.getState() == ServiceController.State.UP) {
                     final NetworkInterfaceBinding binding = NetworkInterfaceBinding.class.cast(controller.getValue());
@@ -69,6 +91,8 @@ public class NetworkInterfaceRuntimeHandler implements OperationStepHandler {
                     final ModelNode result = new ModelNode();
                     if(RESOLVED_ADDRESS.getName().equals(attributeName)) {
                         result.set(NetworkUtils.canonize(address.getHostAddress()));
+                    } else if (RESOLUTION_TIME.getName().equals(attributeName)) {
+                        result.set(NetworkInterfaceService.class.cast(controller.getService()).getResolutionTime());
                     }
                     context.getResult().set(result);
                 }
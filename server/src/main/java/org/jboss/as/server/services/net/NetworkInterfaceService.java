@@ -30,11 +30,9 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.interfaces.InterfaceCriteria;
 import org.jboss.as.controller.interfaces.OverallInterfaceCriteria;
@@ -65,6 +63,8 @@ public class NetworkInterfaceService implements Service<NetworkInterfaceBinding>
 
     /** The interface binding. */
     private NetworkInterfaceBinding interfaceBinding;
+    /** The time spent resolving the interface binding, in nanoseconds. */
+    private volatile long resolutionTime;
 
     private final String name;
     private final boolean anyLocal;
@@ -82,6 +82,7 @@ public class NetworkInterfaceService implements Service<NetworkInterfaceBinding>
 
     public synchronized void start(StartContext arg0) throws StartException {
         log.debug("Starting NetworkInterfaceService\n");
+        final long start = System.nanoTime();
         try {
             this.interfaceBinding = createBinding(anyLocal, criteria);
         } catch (Exception e) {
@@ -90,7 +91,9 @@ public class NetworkInterfaceService implements Service<NetworkInterfaceBinding>
         if (this.interfaceBinding == null) {
             throw ServerLogger.ROOT_LOGGER.failedToResolveInterface(name);
         }
-        log.debugf("NetworkInterfaceService matched interface binding: %s\n", interfaceBinding);
+        this.resolutionTime = System.nanoTime() - start;
+        log.debugf("NetworkInterfaceService matched interface binding: %s in %d ms\n",
+                interfaceBinding, TimeUnit.NANOSECONDS.toMillis(resolutionTime));
     }
 
     public static NetworkInterfaceBinding createBinding(ParsedInterfaceCriteria criteria) throws SocketException,
@@ -110,6 +113,15 @@ public class NetworkInterfaceService implements Service<NetworkInterfaceBinding>
         this.interfaceBinding = null;
     }
 
+    /**
+     * Gets the time it took to resolve the interface binding when the service last started.
+     *
+     * @return the resolution time, in milliseconds
+     */
+    long getResolutionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(resolutionTime);
+    }
+
     public synchronized NetworkInterfaceBinding getValue() throws IllegalStateException {
         final NetworkInterfaceBinding binding = this.interfaceBinding;
         if (binding == null) {
@@ -120,11 +132,7 @@ public class NetworkInterfaceService implements Service<NetworkInterfaceBinding>
 
     private static NetworkInterfaceBinding resolveInterface(final OverallInterfaceCriteria criteria) throws SocketException {
         NetworkInterfaceBinding result = null;
-        final Map<NetworkInterface, Set<InetAddress>> candidates = new HashMap<NetworkInterface, Set<InetAddress>>();
-        final Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
-        while (networkInterfaces.hasMoreElements()) {
-            storeAddresses(networkInterfaces.nextElement(), candidates);
-        }
+        final Map<NetworkInterface, Set<InetAddress>> candidates = NetworkInterfaceSnapshot.getSnapshot().getCandidates();
         Map<NetworkInterface, Set<InetAddress>> acceptable = criteria.getAcceptableAddresses(candidates);
 
         if (acceptable.size() == 1 && acceptable.values().iterator().next().size() == 1) {
@@ -136,26 +144,9 @@ public class NetworkInterfaceService implements Service<NetworkInterfaceBinding>
         return result;
     }
 
-    private static void storeAddresses(final NetworkInterface networkInterface, final Map<NetworkInterface, Set<InetAddress>> candidates) {
-        final Enumeration<InetAddress> interfaceAddresses = networkInterface.getInetAddresses();
-        Set<InetAddress> addresses = new HashSet<InetAddress>();
-        candidates.put(networkInterface, addresses);
-        while (interfaceAddresses.hasMoreElements()) {
-            addresses.add(interfaceAddresses.nextElement());
-        }
-        final Enumeration<NetworkInterface> subInterfaces = networkInterface.getSubInterfaces();
-        while (subInterfaces.hasMoreElements()) {
-            storeAddresses(subInterfaces.nextElement(), candidates);
-        }
-    }
-
     static NetworkInterfaceBinding getNetworkInterfaceBinding(final String addr) throws UnknownHostException, SocketException {
         final InetAddress address = InetAddress.getByName(addr);
-        final Collection<NetworkInterface> interfaces = new ArrayList<NetworkInterface>();
-        final Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
-        while (networkInterfaces.hasMoreElements()) {
-            interfaces.add(networkInterfaces.nextElement());
-        }
+        final Collection<NetworkInterface> interfaces = new ArrayList<NetworkInterface>(NetworkInterfaceSnapshot.getSnapshot().getNetworkInterfaces());
         return new NetworkInterfaceBinding(interfaces, address);
     }
 
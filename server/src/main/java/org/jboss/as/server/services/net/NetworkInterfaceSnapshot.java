@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat Inc., and individual contributors as indicated
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.services.net;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.server.logging.ServerLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Point in time view of the host's network interfaces and their addresses.
+ * <p>
+ * Enumerating the network interfaces is expensive on hosts with many (virtual) NICs, and during boot every
+ * {@code interface} resource would otherwise do it separately. A snapshot is therefore shared by all resolutions
+ * that happen within {@link #MAX_AGE_PROPERTY a short period} of its creation, after which the next resolution
+ * takes a fresh one.
+ */
+final class NetworkInterfaceSnapshot {
+
+    /** System property controlling how long, in milliseconds, a snapshot may be reused. {@code 0} disables sharing. */
+    static final String MAX_AGE_PROPERTY = "jboss.network.interface-snapshot.max-age";
+
+    private static final long DEFAULT_MAX_AGE = 2000;
+
+    private static final long MAX_AGE = TimeUnit.MILLISECONDS.toNanos(
+            parseMaxAge(WildFlySecurityManager.getPropertyPrivileged(MAX_AGE_PROPERTY, null)));
+
+    private static NetworkInterfaceSnapshot current;
+    /** Number of requests served by the current snapshot, guarded by the class. */
+    private static long hits;
+    /** Number of requests that took a new snapshot, guarded by the class. */
+    private static long misses;
+
+    private final long created;
+    private final List<NetworkInterface> networkInterfaces;
+    private final Map<NetworkInterface, Set<InetAddress>> addresses;
+
+    private NetworkInterfaceSnapshot() throws SocketException {
+        final List<NetworkInterface> networkInterfaces = new ArrayList<NetworkInterface>();
+        final Map<NetworkInterface, Set<InetAddress>> addresses = new HashMap<NetworkInterface, Set<InetAddress>>();
+        final Enumeration<NetworkInterface> enumeration = NetworkInterface.getNetworkInterfaces();
+        if (enumeration != null) {
+            while (enumeration.hasMoreElements()) {
+                final NetworkInterface networkInterface = enumeration.nextElement();
+                networkInterfaces.add(networkInterface);
+                storeAddresses(networkInterface, addresses);
+            }
+        }
+        this.networkInterfaces = Collections.unmodifiableList(networkInterfaces);
+        this.addresses = addresses;
+        this.created = System.nanoTime();
+    }
+
+    /**
+     * Gets a snapshot of the network interfaces, reusing the current one if it is recent enough.
+     *
+     * @return the snapshot. Will not be {@code null}
+     * @throws SocketException if the network interfaces cannot be enumerated
+     */
+    static synchronized NetworkInterfaceSnapshot getSnapshot() throws SocketException {
+        NetworkInterfaceSnapshot snapshot = current;
+        if (snapshot == null || System.nanoTime() - snapshot.created >= MAX_AGE) {
+            snapshot = new NetworkInterfaceSnapshot();
+            current = MAX_AGE > 0 ? snapshot : null;
+            misses++;
+        } else {
+            hits++;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of times a recent enough snapshot was reused.
+     *
+     * @return the number of snapshot hits since the process started
+     */
+    static synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of times the network interfaces had to be enumerated for a new snapshot.
+     *
+     * @return the number of snapshot misses since the process started
+     */
+    static synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Parses the value of the {@link #MAX_AGE_PROPERTY} system property, falling back to the default if it is not set
+     * or not valid.
+     *
+     * @param value the property value. May be {@code null}
+     * @return the maximum age in milliseconds
+     */
+    static long parseMaxAge(final String value) {
+        if (value == null) {
+            return DEFAULT_MAX_AGE;
+        }
+        try {
+            final long maxAge = Long.parseLong(value.trim());
+            if (maxAge >= 0) {
+                return maxAge;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the warning
+        }
+        ServerLogger.NETWORK_LOGGER.invalidSystemPropertyValue(value, MAX_AGE_PROPERTY, DEFAULT_MAX_AGE);
+        return DEFAULT_MAX_AGE;
+    }
+
+    /**
+     * Gets the top level network interfaces.
+     *
+     * @return the network interfaces. Will not be {@code null}
+     */
+    Collection<NetworkInterface> getNetworkInterfaces() {
+        return networkInterfaces;
+    }
+
+    /**
+     * Gets all network interfaces, including sub-interfaces, mapped to their addresses. The returned map is a copy
+     * that the caller may modify.
+     *
+     * @return the candidate interfaces and addresses. Will not be {@code null}
+     */
+    Map<NetworkInterface, Set<InetAddress>> getCandidates() {
+        final Map<NetworkInterface, Set<InetAddress>> candidates = new HashMap<NetworkInterface, Set<InetAddress>>(addresses.size());
+        for (Map.Entry<NetworkInterface, Set<InetAddress>> entry : addresses.entrySet()) {
+            candidates.put(entry.getKey(), new HashSet<InetAddress>(entry.getValue()));
+        }
+        return candidates;
+    }
+
+    private static void storeAddresses(final NetworkInterface networkInterface, final Map<NetworkInterface, Set<InetAddress>> candidates) {
+        final Enumeration<InetAddress> interfaceAddresses = networkInterface.getInetAddresses();
+        Set<InetAddress> addresses = new HashSet<InetAddress>();
+        candidates.put(networkInterface, addresses);
+        while (interfaceAddresses.hasMoreElements()) {
+            addresses.add(interfaceAddresses.nextElement());
+        }
+        final Enumeration<NetworkInterface> subInterfaces = networkInterface.getSubInterfaces();
+        while (subInterfaces.hasMoreElements()) {
+            storeAddresses(subInterfaces.nextElement(), candidates);
+        }
+    }
+}
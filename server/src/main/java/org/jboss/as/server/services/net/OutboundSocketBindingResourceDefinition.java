@@ -22,6 +22,7 @@
 
 package org.jboss.as.server.services.net;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
@@ -70,9 +71,22 @@ public abstract class OutboundSocketBindingResourceDefinition extends SimpleReso
 
     public static final SimpleAttributeDefinition[] ATTRIBUTES = {SOURCE_PORT,SOURCE_INTERFACE,FIXED_SOURCE_PORT};
 
+    private final boolean registerRuntimeOnly;
+
     protected OutboundSocketBindingResourceDefinition(final PathElement pathElement, final ResourceDescriptionResolver descriptionResolver,
                                                       final OperationStepHandler addHandler, final OperationStepHandler removeHandler) {
+        this(pathElement, descriptionResolver, addHandler, removeHandler, false);
+    }
+
+    /**
+     * @param registerRuntimeOnly whether to register the runtime metrics, which is only possible when the resource
+     *                            represents an outbound socket binding of a running server
+     */
+    protected OutboundSocketBindingResourceDefinition(final PathElement pathElement, final ResourceDescriptionResolver descriptionResolver,
+                                                      final OperationStepHandler addHandler, final OperationStepHandler removeHandler,
+                                                      final boolean registerRuntimeOnly) {
         super(pathElement, descriptionResolver, addHandler, removeHandler);
+        this.registerRuntimeOnly = registerRuntimeOnly;
     }
 
     @Override
@@ -81,6 +95,11 @@ public abstract class OutboundSocketBindingResourceDefinition extends SimpleReso
         for (SimpleAttributeDefinition ad:ATTRIBUTES){
             resourceRegistration.registerReadWriteAttribute(ad, null, new OutboundSocketBindingWriteHandler(ad, false));
         }
+        if (registerRuntimeOnly) {
+            for (AttributeDefinition metric : BindingMetricHandlers.OutboundStatisticsHandler.ATTRIBUTES) {
+                resourceRegistration.registerMetric(metric, BindingMetricHandlers.OutboundStatisticsHandler.INSTANCE);
+            }
+        }
     }
 
     @Override
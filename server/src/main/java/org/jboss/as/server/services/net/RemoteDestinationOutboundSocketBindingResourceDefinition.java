@@ -57,14 +57,18 @@ public class RemoteDestinationOutboundSocketBindingResourceDefinition extends Ou
 
     public static final SimpleAttributeDefinition[] ATTRIBUTES = {HOST, PORT, SOURCE_INTERFACE, SOURCE_PORT, FIXED_SOURCE_PORT};
 
-    public static final RemoteDestinationOutboundSocketBindingResourceDefinition INSTANCE = new RemoteDestinationOutboundSocketBindingResourceDefinition();
+    /** The definition used in domain profiles, which does not register runtime metrics. */
+    public static final RemoteDestinationOutboundSocketBindingResourceDefinition INSTANCE = new RemoteDestinationOutboundSocketBindingResourceDefinition(false);
+    /** The definition used by a running server. */
+    public static final RemoteDestinationOutboundSocketBindingResourceDefinition SERVER_INSTANCE = new RemoteDestinationOutboundSocketBindingResourceDefinition(true);
 
-    private RemoteDestinationOutboundSocketBindingResourceDefinition() {
+    private RemoteDestinationOutboundSocketBindingResourceDefinition(final boolean registerRuntimeOnly) {
         super(PATH,
                 ControllerResolver.getResolver(ModelDescriptionConstants.REMOTE_DESTINATION_OUTBOUND_SOCKET_BINDING),
                 RemoteDestinationOutboundSocketBindingAddHandler.INSTANCE,
                 new ServiceRemoveStepHandler(RemoteDestinationOutboundSocketBindingAddHandler.INSTANCE,
-                        OUTBOUND_SOCKET_BINDING_CAPABILITY));
+                        OUTBOUND_SOCKET_BINDING_CAPABILITY),
+                registerRuntimeOnly);
     }
 
     @Override
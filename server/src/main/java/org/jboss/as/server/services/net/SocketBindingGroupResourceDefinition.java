@@ -51,8 +51,8 @@ public class SocketBindingGroupResourceDefinition extends AbstractSocketBindingG
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerSubModel(SocketBindingResourceDefinition.INSTANCE);
-        resourceRegistration.registerSubModel(RemoteDestinationOutboundSocketBindingResourceDefinition.INSTANCE);
-        resourceRegistration.registerSubModel(LocalDestinationOutboundSocketBindingResourceDefinition.INSTANCE);
+        resourceRegistration.registerSubModel(RemoteDestinationOutboundSocketBindingResourceDefinition.SERVER_INSTANCE);
+        resourceRegistration.registerSubModel(LocalDestinationOutboundSocketBindingResourceDefinition.SERVER_INSTANCE);
     }
 
     @Override
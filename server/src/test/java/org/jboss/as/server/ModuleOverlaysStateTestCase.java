@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link ModuleOverlaysState}.
+ */
+public class ModuleOverlaysStateTestCase {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testNoModulePath() {
+        assertEquals("", ModuleOverlaysState.getState(null));
+        assertEquals("", ModuleOverlaysState.getState(""));
+    }
+
+    @Test
+    public void testPatchChangesState() throws IOException {
+        final File root = temp.newFolder("modules");
+        Files.createDirectories(root.toPath().resolve("system/layers/base/org/jboss/as/server/main"));
+        final String modulePath = root.getAbsolutePath();
+        final String unpatched = ModuleOverlaysState.getState(modulePath);
+        assertEquals(unpatched, ModuleOverlaysState.getState(modulePath));
+
+        write(root.toPath().resolve("system/layers/base/.overlays/.overlays"), "base-patch-1\n");
+        final String patched = ModuleOverlaysState.getState(modulePath);
+        assertNotEquals(unpatched, patched);
+
+        write(root.toPath().resolve("system/layers/base/.overlays/.overlays"), "base-patch-2\nbase-patch-1\n");
+        assertNotEquals(patched, ModuleOverlaysState.getState(modulePath));
+    }
+
+    @Test
+    public void testAddOnsAndLayers() throws IOException {
+        final File root = temp.newFolder("modules");
+        final String modulePath = root.getAbsolutePath();
+        String previous = ModuleOverlaysState.getState(modulePath);
+
+        write(root.toPath().resolve("system/add-ons/test/.overlays/.overlays"), "add-on-patch\n");
+        String current = ModuleOverlaysState.getState(modulePath);
+        assertNotEquals(previous, current);
+
+        previous = current;
+        write(root.toPath().resolve("layers.conf"), "layers=test\n");
+        assertNotEquals(previous, ModuleOverlaysState.getState(modulePath));
+    }
+
+    @Test
+    public void testAllRootsAreIncluded() throws IOException {
+        final File first = temp.newFolder("first");
+        final File second = temp.newFolder("second");
+        final String modulePath = first.getAbsolutePath() + File.pathSeparator + second.getAbsolutePath();
+        final String unpatched = ModuleOverlaysState.getState(modulePath);
+
+        write(second.toPath().resolve("system/layers/base/.overlays/.overlays"), "base-patch-1\n");
+        assertNotEquals(unpatched, ModuleOverlaysState.getState(modulePath));
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
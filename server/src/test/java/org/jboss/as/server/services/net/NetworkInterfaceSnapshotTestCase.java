@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat Inc., and individual contributors as indicated
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.services.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link NetworkInterfaceSnapshot}.
+ */
+public class NetworkInterfaceSnapshotTestCase {
+
+    @Test
+    public void testParseMaxAge() {
+        assertEquals(2000, NetworkInterfaceSnapshot.parseMaxAge(null));
+        assertEquals(0, NetworkInterfaceSnapshot.parseMaxAge("0"));
+        assertEquals(500, NetworkInterfaceSnapshot.parseMaxAge(" 500 "));
+    }
+
+    @Test
+    public void testParseInvalidMaxAge() {
+        assertEquals(2000, NetworkInterfaceSnapshot.parseMaxAge(""));
+        assertEquals(2000, NetworkInterfaceSnapshot.parseMaxAge("2s"));
+        assertEquals(2000, NetworkInterfaceSnapshot.parseMaxAge("-1"));
+    }
+
+    @Test
+    public void testSnapshotIsReused() throws Exception {
+        assertSame(NetworkInterfaceSnapshot.getSnapshot(), NetworkInterfaceSnapshot.getSnapshot());
+    }
+
+    @Test
+    public void testHitsAndMissesCounted() throws Exception {
+        final long requests = NetworkInterfaceSnapshot.getHitCount() + NetworkInterfaceSnapshot.getMissCount();
+        NetworkInterfaceSnapshot.getSnapshot();
+        final long hits = NetworkInterfaceSnapshot.getHitCount();
+        NetworkInterfaceSnapshot.getSnapshot();
+        assertEquals(requests + 2, NetworkInterfaceSnapshot.getHitCount() + NetworkInterfaceSnapshot.getMissCount());
+        assertTrue(NetworkInterfaceSnapshot.getMissCount() > 0);
+        assertEquals(hits + 1, NetworkInterfaceSnapshot.getHitCount());
+    }
+
+    @Test
+    public void testCandidatesAreCopies() throws Exception {
+        final NetworkInterfaceSnapshot snapshot = NetworkInterfaceSnapshot.getSnapshot();
+        final Map<NetworkInterface, Set<InetAddress>> expected = snapshot.getCandidates();
+        final Map<NetworkInterface, Set<InetAddress>> modified = snapshot.getCandidates();
+        for (Set<InetAddress> addresses : modified.values()) {
+            addresses.clear();
+        }
+        modified.clear();
+        assertEquals(expected, snapshot.getCandidates());
+        for (NetworkInterface networkInterface : snapshot.getNetworkInterfaces()) {
+            assertTrue(expected.containsKey(networkInterface));
+        }
+    }
+}
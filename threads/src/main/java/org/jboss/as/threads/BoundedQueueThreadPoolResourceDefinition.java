@@ -42,6 +42,7 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     public static final BoundedQueueThreadPoolResourceDefinition BLOCKING = create(true, false);
     public static final BoundedQueueThreadPoolResourceDefinition NON_BLOCKING = create(false, false);
     private final BoundedQueueThreadPoolMetricsHandler metricsHandler;
+    private final ThreadPoolStatisticsHandler statisticsHandler;
     private final BoundedQueueThreadPoolWriteAttributeHandler writeHandler;
     private final boolean blocking;
     private final boolean registerRuntimeOnly;
@@ -84,6 +85,7 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.blocking = blocking;
         metricsHandler = new BoundedQueueThreadPoolMetricsHandler(serviceNameBase);
+        statisticsHandler = new ThreadPoolStatisticsHandler(serviceNameBase);
         writeHandler = new BoundedQueueThreadPoolWriteAttributeHandler(blocking, serviceNameBase);
     }
 
@@ -94,6 +96,15 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
         writeHandler.registerAttributes(resourceRegistration);
         if (registerRuntimeOnly) {
             metricsHandler.registerAttributes(resourceRegistration);
+            statisticsHandler.registerAttributes(resourceRegistration);
+        }
+    }
+
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        if (registerRuntimeOnly) {
+            statisticsHandler.registerOperations(resourceRegistration, getResourceDescriptionResolver());
         }
     }
 
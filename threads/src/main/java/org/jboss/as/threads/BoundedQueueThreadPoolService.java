@@ -39,7 +39,7 @@ import java.util.concurrent.TimeUnit;
  *
  * @author John E. Bailey
  */
-public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecutorService> {
+public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecutorService>, TaskTimingStatisticsService {
 
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
@@ -47,6 +47,7 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
     private final int queueLength;
 
     private ManagedQueueExecutorService executor;
+    private final TaskTimingStatisticsSupport statistics = new TaskTimingStatisticsSupport();
 
     private int coreThreads;
     private int maxThreads;
@@ -68,6 +69,7 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         QueueExecutor queueExecutor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, threadFactoryValue.getValue(), blocking, handoffExecutorValue.getOptionalValue());
         queueExecutor.setAllowCoreThreadTimeout(allowCoreTimeout);
         executor = new ManagedQueueExecutorService(queueExecutor);
+        statistics.started(executor);
     }
 
     public void stop(final StopContext context) {
@@ -76,6 +78,7 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
             executor = this.executor;
             this.executor = null;
         }
+        statistics.stopped();
         context.asynchronous();
         executor.internalShutdown();
         executor.addShutdownListener(StopContextEventListener.getInstance(), context);
@@ -154,4 +157,9 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         final ManagedQueueExecutorService executor = getValue();
         return executor.getQueueSize();
     }
+
+    @Override
+    public TaskTimingStatisticsSupport getTaskTimingStatistics() {
+        return statistics;
+    }
 }
@@ -35,6 +35,7 @@ public interface CommonAttributes {
     String CORE_THREADS = "core-threads";
     String COUNT = "count";
     String CURRENT_THREAD_COUNT = "current-thread-count";
+    String EXECUTION_TIME = "execution-time";
     String PER_CPU = "per-cpu";
     String HANDOFF_EXECUTOR = "handoff-executor";
     String LARGEST_THREAD_COUNT = "largest-thread-count";
@@ -48,8 +49,11 @@ public interface CommonAttributes {
     String QUEUELESS_THREAD_POOL = "queueless-thread-pool";
     String QUEUE_LENGTH = "queue-length";
     String QUEUE_SIZE = "queue-size";
+    String QUEUE_WAIT_TIME = "queue-wait-time";
     String REJECTED_COUNT = "rejected-count";
+    String RESET_STATISTICS = "reset-statistics";
     String SCHEDULED_THREAD_POOL = "scheduled-thread-pool";
+    String STATISTICS_ENABLED = "statistics-enabled";
     String TASK_COUNT = "task-count";
     String THREADS = "threads";
     String TIME = "time";
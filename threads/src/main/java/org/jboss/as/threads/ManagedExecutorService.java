@@ -41,6 +41,7 @@ import org.jboss.threads.JBossExecutors;
 public abstract class ManagedExecutorService implements ExecutorService {
 
     private final ExecutorService executor;
+    private volatile TaskTimingStatistics statistics;
 
     public ManagedExecutorService(ExecutorService executor) {
         if(executor == null) {
@@ -55,13 +56,49 @@ public abstract class ManagedExecutorService implements ExecutorService {
 
     abstract void internalShutdown();
 
+    // Package protected for the statistics-enabled attribute handler
+    void setStatisticsEnabled(boolean enabled) {
+        if (enabled) {
+            if (statistics == null) {
+                statistics = new TaskTimingStatistics();
+            }
+        } else {
+            statistics = null;
+        }
+    }
+
+    /**
+     * Gets the task timing statistics for this executor.
+     *
+     * @return the statistics, or {@code null} if statistics are not enabled
+     */
+    TaskTimingStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Wraps the task so its queue wait and execution time are recorded, if statistics are enabled.
+     *
+     * @param task the task
+     * @return the task to submit to the underlying executor
+     */
+    Runnable timed(Runnable task) {
+        final TaskTimingStatistics statistics = this.statistics;
+        return statistics == null || task == null ? task : statistics.wrap(task);
+    }
+
+    <T> Callable<T> timed(Callable<T> task) {
+        final TaskTimingStatistics statistics = this.statistics;
+        return statistics == null || task == null ? task : statistics.wrap(task);
+    }
+
     /**
      * {@inheritDoc}
      * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
      */
     @Override
     public void execute(Runnable command) {
-        this.executor.execute(command);
+        this.executor.execute(timed(command));
     }
 
     /**
@@ -116,7 +153,7 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> Future<T> submit(Callable<T> task) {
-        return this.executor.submit(task);
+        return this.executor.submit(timed(task));
     }
 
     /**
@@ -125,7 +162,7 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
-        return this.executor.submit(task, result);
+        return this.executor.submit(timed(task), result);
     }
 
     /**
@@ -134,7 +171,7 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public Future<?> submit(Runnable task) {
-        return this.executor.submit(task);
+        return this.executor.submit(timed(task));
     }
 
     /**
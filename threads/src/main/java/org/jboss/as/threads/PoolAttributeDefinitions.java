@@ -23,6 +23,7 @@ package org.jboss.as.threads;
 
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
@@ -98,4 +99,13 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_SIZE, ModelType.INT)
             .setUndefinedMetricValue(new ModelNode(0))
             .build();
+
+    // Task timing statistics
+    SimpleAttributeDefinition STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(CommonAttributes.STATISTICS_ENABLED, ModelType.BOOLEAN, true)
+            .setStorageRuntime()
+            .setDefaultValue(new ModelNode(TaskTimingStatistics.ENABLED_BY_DEFAULT))
+            .build();
+
+    ObjectTypeAttributeDefinition QUEUE_WAIT_TIME = TaskTimingStatistics.createAttributeDefinition(CommonAttributes.QUEUE_WAIT_TIME);
+    ObjectTypeAttributeDefinition EXECUTION_TIME = TaskTimingStatistics.createAttributeDefinition(CommonAttributes.EXECUTION_TIME);
 }
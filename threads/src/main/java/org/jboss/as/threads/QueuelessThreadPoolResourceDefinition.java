@@ -43,6 +43,7 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
 
     private final QueuelessThreadPoolWriteAttributeHandler writeHandler;
     private final QueuelessThreadPoolMetricsHandler metricsHandler;
+    private final ThreadPoolStatisticsHandler statisticsHandler;
     private final boolean blocking;
     private final boolean registerRuntimeOnly;
 
@@ -89,6 +90,7 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
         this.blocking = blocking;
         writeHandler = new QueuelessThreadPoolWriteAttributeHandler(blocking, serviceNameBase);
         metricsHandler = new QueuelessThreadPoolMetricsHandler(serviceNameBase);
+        statisticsHandler = new ThreadPoolStatisticsHandler(serviceNameBase);
     }
 
 
@@ -98,6 +100,15 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
         writeHandler.registerAttributes(resourceRegistration);
         if (registerRuntimeOnly) {
             metricsHandler.registerAttributes(resourceRegistration);
+            statisticsHandler.registerAttributes(resourceRegistration);
+        }
+    }
+
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        if (registerRuntimeOnly) {
+            statisticsHandler.registerOperations(resourceRegistration, getResourceDescriptionResolver());
         }
     }
 
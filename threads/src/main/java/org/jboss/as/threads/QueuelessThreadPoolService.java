@@ -40,12 +40,13 @@ import java.util.concurrent.TimeUnit;
  *
  * @author John E. Bailey
  */
-public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecutorService> {
+public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecutorService>, TaskTimingStatisticsService {
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
     private final boolean blocking;
 
     private ManagedQueuelessExecutorService executor;
+    private final TaskTimingStatisticsSupport statistics = new TaskTimingStatisticsSupport();
 
     private int maxThreads;
     private TimeSpec keepAlive;
@@ -63,6 +64,7 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
         queuelessExecutor.setMaxThreads(maxThreads);
         queuelessExecutor.setBlocking(blocking);
         executor = new ManagedQueuelessExecutorService(queuelessExecutor);
+        statistics.started(executor);
     }
 
     public void stop(final StopContext context) {
@@ -71,6 +73,7 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
             executor = this.executor;
             this.executor = null;
         }
+        statistics.stopped();
         context.asynchronous();
         executor.internalShutdown();
         executor.addShutdownListener(StopContextEventListener.getInstance(), context);
@@ -134,4 +137,9 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
     TimeUnit getKeepAliveUnit() {
         return keepAlive == null ? TimeSpec.DEFAULT_KEEPALIVE.getUnit() : keepAlive.getUnit();
     }
+
+    @Override
+    public TaskTimingStatisticsSupport getTaskTimingStatistics() {
+        return statistics;
+    }
 }
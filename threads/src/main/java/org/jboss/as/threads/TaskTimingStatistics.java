@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Queue wait and execution time histograms for the tasks submitted to a managed thread pool.
+ * <p>
+ * The histograms cover a window that starts when the statistics are created or last {@link #reset() reset}. A reset
+ * swaps in a fresh window, so readers never observe a partially cleared histogram.
+ */
+final class TaskTimingStatistics {
+
+    /**
+     * Whether pools collect timing statistics when they are first started. Statistics can also be toggled on a running
+     * pool through its {@code statistics-enabled} runtime attribute.
+     */
+    static final boolean ENABLED_BY_DEFAULT = Boolean.getBoolean("org.jboss.as.threads.statistics-enabled");
+
+    static final String COUNT = "count";
+    static final String MEAN = "mean";
+    static final String MAX = "max";
+    static final String PERCENTILE_50 = "50th-percentile";
+    static final String PERCENTILE_90 = "90th-percentile";
+    static final String PERCENTILE_99 = "99th-percentile";
+    static final String PERCENTILE_999 = "99.9th-percentile";
+    static final String WINDOW_DURATION = "window-duration";
+
+    private volatile Window window = new Window();
+
+    Runnable wrap(final Runnable task) {
+        return new TimedRunnable(task, System.nanoTime());
+    }
+
+    <T> Callable<T> wrap(final Callable<T> task) {
+        return new TimedCallable<>(task, System.nanoTime());
+    }
+
+    void reset() {
+        window = new Window();
+    }
+
+    ModelNode getQueueWaitTime() {
+        final Window window = this.window;
+        return toModelNode(window.queueWait, window.start);
+    }
+
+    ModelNode getExecutionTime() {
+        final Window window = this.window;
+        return toModelNode(window.execution, window.start);
+    }
+
+    static ObjectTypeAttributeDefinition createAttributeDefinition(final String name) {
+        return new ObjectTypeAttributeDefinition.Builder(name,
+                createField(COUNT, MeasurementUnit.NONE),
+                createField(MEAN, MeasurementUnit.NANOSECONDS),
+                createField(MAX, MeasurementUnit.NANOSECONDS),
+                createField(PERCENTILE_50, MeasurementUnit.NANOSECONDS),
+                createField(PERCENTILE_90, MeasurementUnit.NANOSECONDS),
+                createField(PERCENTILE_99, MeasurementUnit.NANOSECONDS),
+                createField(PERCENTILE_999, MeasurementUnit.NANOSECONDS),
+                createField(WINDOW_DURATION, MeasurementUnit.MILLISECONDS))
+                .setStorageRuntime()
+                .setAllowNull(true)
+                .build();
+    }
+
+    private static SimpleAttributeDefinition createField(final String name, final MeasurementUnit unit) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setMeasurementUnit(unit)
+                .build();
+    }
+
+    private static ModelNode toModelNode(final TaskTimingHistogram histogram, final long windowStart) {
+        final ModelNode result = new ModelNode();
+        result.get(COUNT).set(histogram.getCount());
+        result.get(MEAN).set(histogram.getMean());
+        result.get(MAX).set(histogram.getMax());
+        result.get(PERCENTILE_50).set(histogram.getValueAtPercentile(50));
+        result.get(PERCENTILE_90).set(histogram.getValueAtPercentile(90));
+        result.get(PERCENTILE_99).set(histogram.getValueAtPercentile(99));
+        result.get(PERCENTILE_999).set(histogram.getValueAtPercentile(99.9));
+        result.get(WINDOW_DURATION).set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - windowStart));
+        return result;
+    }
+
+    private static final class Window {
+        private final long start = System.nanoTime();
+        private final TaskTimingHistogram queueWait = new TaskTimingHistogram();
+        private final TaskTimingHistogram execution = new TaskTimingHistogram();
+    }
+
+    private final class TimedRunnable implements Runnable {
+        private final Runnable delegate;
+        private final long submitted;
+
+        private TimedRunnable(final Runnable delegate, final long submitted) {
+            this.delegate = delegate;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            final Window window = TaskTimingStatistics.this.window;
+            final long started = System.nanoTime();
+            window.queueWait.record(started - submitted);
+            try {
+                delegate.run();
+            } finally {
+                window.execution.record(System.nanoTime() - started);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    private final class TimedCallable<T> implements Callable<T> {
+        private final Callable<T> delegate;
+        private final long submitted;
+
+        private TimedCallable(final Callable<T> delegate, final long submitted) {
+            this.delegate = delegate;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public T call() throws Exception {
+            final Window window = TaskTimingStatistics.this.window;
+            final long started = System.nanoTime();
+            window.queueWait.record(started - submitted);
+            try {
+                return delegate.call();
+            } finally {
+                window.execution.record(System.nanoTime() - started);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Keeps the {@code statistics-enabled} setting of a thread pool service across restarts of its executor and reads the
+ * {@link TaskTimingStatistics task timing statistics} of the executor while it is running.
+ */
+final class TaskTimingStatisticsSupport {
+
+    private boolean enabled = TaskTimingStatistics.ENABLED_BY_DEFAULT;
+    private ManagedExecutorService executor;
+
+    /**
+     * Applies the current setting to the executor of a starting service.
+     *
+     * @param executor the executor
+     */
+    synchronized void started(final ManagedExecutorService executor) {
+        this.executor = executor;
+        executor.setStatisticsEnabled(enabled);
+    }
+
+    synchronized void stopped() {
+        executor = null;
+    }
+
+    synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    synchronized void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (executor != null) {
+            executor.setStatisticsEnabled(enabled);
+        }
+    }
+
+    void reset() {
+        final TaskTimingStatistics statistics = getStatistics();
+        if (statistics != null) {
+            statistics.reset();
+        }
+    }
+
+    /**
+     * Gets the queue wait time distribution.
+     *
+     * @return the distribution, or an undefined node if statistics are not enabled or the executor is not running
+     */
+    ModelNode getQueueWaitTime() {
+        final TaskTimingStatistics statistics = getStatistics();
+        return statistics == null ? new ModelNode() : statistics.getQueueWaitTime();
+    }
+
+    /**
+     * Gets the execution time distribution.
+     *
+     * @return the distribution, or an undefined node if statistics are not enabled or the executor is not running
+     */
+    ModelNode getExecutionTime() {
+        final TaskTimingStatistics statistics = getStatistics();
+        return statistics == null ? new ModelNode() : statistics.getExecutionTime();
+    }
+
+    private synchronized TaskTimingStatistics getStatistics() {
+        return executor == null ? null : executor.getStatistics();
+    }
+}
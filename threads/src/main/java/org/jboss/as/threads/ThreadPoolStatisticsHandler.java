@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Handles the runtime-only {@code statistics-enabled} attribute, the {@code queue-wait-time} and {@code execution-time}
+ * metrics and the {@code reset-statistics} operation of the thread pool resources that support
+ * {@link TaskTimingStatistics task timing statistics}.
+ */
+class ThreadPoolStatisticsHandler extends AbstractRuntimeOnlyHandler {
+
+    private final ServiceName serviceNameBase;
+
+    ThreadPoolStatisticsHandler(final ServiceName serviceNameBase) {
+        this.serviceNameBase = serviceNameBase;
+    }
+
+    void registerAttributes(final ManagementResourceRegistration registration) {
+        registration.registerReadWriteAttribute(PoolAttributeDefinitions.STATISTICS_ENABLED, this, this);
+        registration.registerMetric(PoolAttributeDefinitions.QUEUE_WAIT_TIME, this);
+        registration.registerMetric(PoolAttributeDefinitions.EXECUTION_TIME, this);
+    }
+
+    void registerOperations(final ManagementResourceRegistration registration, final ResourceDescriptionResolver resolver) {
+        final SimpleOperationDefinition resetStatistics = new SimpleOperationDefinitionBuilder(CommonAttributes.RESET_STATISTICS, resolver)
+                .setRuntimeOnly()
+                .build();
+        registration.registerOperationHandler(resetStatistics, this);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.getRunningMode() != RunningMode.NORMAL) {
+            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+            return;
+        }
+        final ServiceController<?> controller = getService(context, operation);
+        final TaskTimingStatisticsSupport statistics = ((TaskTimingStatisticsService) controller.getService()).getTaskTimingStatistics();
+        // The pool may be stopped, e.g. while it is restarted, in which case there are no statistics to read or reset
+        final boolean up = controller.getState() == ServiceController.State.UP;
+        final String operationName = operation.require(OP).asString();
+        if (CommonAttributes.RESET_STATISTICS.equals(operationName)) {
+            if (up) {
+                statistics.reset();
+            }
+        } else if (WRITE_ATTRIBUTE_OPERATION.equals(operationName)) {
+            final boolean enabled = PoolAttributeDefinitions.STATISTICS_ENABLED.resolveValue(context, operation.get(VALUE)).asBoolean();
+            final boolean previous = statistics.isEnabled();
+            statistics.setEnabled(enabled);
+            context.completeStep(new OperationContext.RollbackHandler() {
+                @Override
+                public void handleRollback(OperationContext context, ModelNode operation) {
+                    statistics.setEnabled(previous);
+                }
+            });
+            return;
+        } else {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (CommonAttributes.STATISTICS_ENABLED.equals(attributeName)) {
+                context.getResult().set(statistics.isEnabled());
+            } else if (up) {
+                if (CommonAttributes.QUEUE_WAIT_TIME.equals(attributeName)) {
+                    context.getResult().set(statistics.getQueueWaitTime());
+                } else if (CommonAttributes.EXECUTION_TIME.equals(attributeName)) {
+                    context.getResult().set(statistics.getExecutionTime());
+                }
+            }
+        }
+        context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+    }
+
+    private ServiceController<?> getService(final OperationContext context, final ModelNode operation)
+            throws OperationFailedException {
+        final String name = Util.getNameFromAddress(operation.require(OP_ADDR));
+        final ServiceName serviceName = serviceNameBase.append(name);
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+        if (controller == null) {
+            throw ThreadsLogger.ROOT_LOGGER.threadPoolServiceNotFoundForMetrics(serviceName);
+        }
+        return controller;
+    }
+}
@@ -40,6 +40,7 @@ import java.util.Collection;
 public class UnboundedQueueThreadPoolResourceDefinition extends PersistentResourceDefinition {
     private final UnboundedQueueThreadPoolWriteAttributeHandler writeAttributeHandler;
     private final UnboundedQueueThreadPoolMetricsHandler metricsHandler;
+    private final ThreadPoolStatisticsHandler statisticsHandler;
 
     private final boolean registerRuntimeOnly;
 
@@ -68,6 +69,7 @@ public class UnboundedQueueThreadPoolResourceDefinition extends PersistentResour
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.writeAttributeHandler = new UnboundedQueueThreadPoolWriteAttributeHandler(serviceNameBase);
         this.metricsHandler = new UnboundedQueueThreadPoolMetricsHandler(serviceNameBase);
+        this.statisticsHandler = new ThreadPoolStatisticsHandler(serviceNameBase);
     }
 
 
@@ -77,6 +79,15 @@ public class UnboundedQueueThreadPoolResourceDefinition extends PersistentResour
         writeAttributeHandler.registerAttributes(resourceRegistration);
         if (registerRuntimeOnly) {
             metricsHandler.registerAttributes(resourceRegistration);
+            statisticsHandler.registerAttributes(resourceRegistration);
+        }
+    }
+
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        if (registerRuntimeOnly) {
+            statisticsHandler.registerOperations(resourceRegistration, getResourceDescriptionResolver());
         }
     }
 
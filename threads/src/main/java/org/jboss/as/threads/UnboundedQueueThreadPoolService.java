@@ -39,10 +39,11 @@ import org.jboss.threads.JBossThreadPoolExecutor;
  *
  * @author John E. Bailey
  */
-public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThreadPoolExecutorService> {
+public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThreadPoolExecutorService>, TaskTimingStatisticsService {
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
 
     private ManagedJBossThreadPoolExecutorService executor;
+    private final TaskTimingStatisticsSupport statistics = new TaskTimingStatisticsSupport();
 
     private int maxThreads;
     private TimeSpec keepAlive;
@@ -57,6 +58,7 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
         final JBossThreadPoolExecutor jbossExecutor = new JBossThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(), threadFactoryValue.getValue());
         executor = new ManagedJBossThreadPoolExecutorService(jbossExecutor);
+        statistics.started(executor);
     }
 
     public void stop(final StopContext context) {
@@ -65,6 +67,7 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
             executor = this.executor;
             this.executor = null;
         }
+        statistics.stopped();
         context.asynchronous();
         executor.internalShutdown();
         executor.addShutdownListener(StopContextEventListener.getInstance(), context);
@@ -147,4 +150,9 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
     TimeUnit getKeepAliveUnit() {
         return keepAlive == null ? TimeSpec.DEFAULT_KEEPALIVE.getUnit() : keepAlive.getUnit();
     }
+
+    @Override
+    public TaskTimingStatisticsSupport getTaskTimingStatistics() {
+        return statistics;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link TaskTimingHistogram}.
+ */
+public class TaskTimingHistogramTestCase {
+
+    @Test
+    public void testBucketBoundaries() {
+        long previousHighest = -1;
+        for (int i = 0; i <= TaskTimingHistogram.bucketIndex(TaskTimingHistogram.MAX_TRACKABLE_VALUE); i++) {
+            final long highest = TaskTimingHistogram.highestEquivalentValue(i);
+            assertTrue(highest > previousHighest);
+            assertEquals(i, TaskTimingHistogram.bucketIndex(previousHighest + 1));
+            assertEquals(i, TaskTimingHistogram.bucketIndex(highest));
+            previousHighest = highest;
+        }
+        assertEquals(TaskTimingHistogram.MAX_TRACKABLE_VALUE, previousHighest);
+    }
+
+    @Test
+    public void testPercentiles() {
+        final TaskTimingHistogram histogram = new TaskTimingHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000, histogram.getMax());
+        assertEquals(500500, histogram.getMean());
+        assertWithinPrecision(500000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(900000, histogram.getValueAtPercentile(90));
+        assertWithinPrecision(990000, histogram.getValueAtPercentile(99));
+        assertEquals(1000000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        final TaskTimingHistogram histogram = new TaskTimingHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(TaskTimingHistogram.MAX_TRACKABLE_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        final long tolerance = expected / TaskTimingHistogram.SUB_BUCKET_COUNT;
+        assertTrue("Expected " + expected + " but was " + actual, Math.abs(expected - actual) <= tolerance);
+    }
+}